@@ -0,0 +1,94 @@
+package com.api.vehicle.jmh;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compares a JMH JSON result against a baseline result and exits with 1 when a benchmark got worse than the threshold.
+ * Time per operation and, when the gc profiler ran, bytes allocated per operation are both checked.
+ * A missing baseline only prints how to create one, so the first run on a machine never fails.
+ * <pre>
+ * java com.api.vehicle.jmh.JmhRegressionCheck target/jmh-result.json src/jmh/baseline.json 0.10
+ * </pre>
+ */
+public final class JmhRegressionCheck {
+
+    private static final String ALLOCATION_METRIC = "gc.alloc.rate.norm";
+
+    /**
+     * Allocations below this many bytes per operation are noise from the profiler itself
+     */
+    private static final double ALLOCATION_SLACK_BYTES = 8;
+
+    private JmhRegressionCheck(){}
+
+    public static void main(String[] args) throws IOException {
+        if(args.length != 3){
+            System.err.println("Usage: JmhRegressionCheck <result.json> <baseline.json> <threshold>");
+            System.exit(2);
+        }
+
+        File baselineFile = new File(args[1]);
+        if(!baselineFile.isFile()){
+            System.out.println("No JMH baseline at " + baselineFile + ", copy " + args[0] + " there to start checking regressions.");
+            return;
+        }
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        List<String> regressions = check(objectMapper.readTree(new File(args[0])), objectMapper.readTree(baselineFile),
+                Double.parseDouble(args[2]));
+
+        if(regressions.isEmpty()){
+            System.out.println("No JMH regression above " + args[2] + " of the baseline.");
+            return;
+        }
+        regressions.forEach(System.err::println);
+        System.exit(1);
+    }
+
+    static List<String> check(JsonNode result, JsonNode baseline, double threshold){
+        Map<String, JsonNode> baselineByKey = new LinkedHashMap<>();
+        baseline.forEach(benchmark -> baselineByKey.put(key(benchmark), benchmark));
+
+        List<String> regressions = new ArrayList<>();
+        for(JsonNode current : result){
+            JsonNode previous = baselineByKey.get(key(current));
+            if(previous == null){
+                continue;
+            }
+
+            double currentScore = current.path("primaryMetric").path("score").asDouble();
+            double previousScore = previous.path("primaryMetric").path("score").asDouble();
+            boolean higherIsBetter = "thrpt".equals(current.path("mode").asText());
+            double change = higherIsBetter ? (previousScore - currentScore) / previousScore
+                    : (currentScore - previousScore) / previousScore;
+            if(change > threshold){
+                regressions.add(String.format("%s: %.3f -> %.3f %s (%+.1f%%)", key(current), previousScore, currentScore,
+                        current.path("primaryMetric").path("scoreUnit").asText(), change * 100));
+            }
+
+            JsonNode currentAllocation = current.path("secondaryMetrics").path(ALLOCATION_METRIC).path("score");
+            JsonNode previousAllocation = previous.path("secondaryMetrics").path(ALLOCATION_METRIC).path("score");
+            if(currentAllocation.isNumber() && previousAllocation.isNumber()
+                    && currentAllocation.asDouble() > previousAllocation.asDouble() * (1 + threshold) + ALLOCATION_SLACK_BYTES){
+                regressions.add(String.format("%s: %.1f -> %.1f B/op allocated", key(current),
+                        previousAllocation.asDouble(), currentAllocation.asDouble()));
+            }
+        }
+        return regressions;
+    }
+
+    private static String key(JsonNode benchmark){
+        StringBuilder key = new StringBuilder(benchmark.path("benchmark").asText());
+        benchmark.path("params").fields().forEachRemaining(param ->
+                key.append(':').append(param.getKey()).append('=').append(param.getValue().asText()));
+        return key.toString();
+    }
+}
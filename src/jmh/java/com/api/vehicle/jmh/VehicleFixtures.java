@@ -0,0 +1,52 @@
+package com.api.vehicle.jmh;
+
+import com.api.vehicle.enums.type.EnumVehicleType;
+import com.api.vehicle.model.dto.VehicleDto;
+import com.api.vehicle.model.entity.VehicleEntity;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+final class VehicleFixtures {
+
+    private VehicleFixtures(){}
+
+    static VehicleEntity entity(UUID id){
+        return VehicleEntity.builder()
+                .id(id)
+                .brand("Ford")
+                .model("Fiesta")
+                .color("Prata")
+                .plate("ABC1234")
+                .type(EnumVehicleType.CAR.getId())
+                .build();
+    }
+
+    static VehicleDto dto(UUID id){
+        return VehicleDto.builder()
+                .id(id)
+                .brand("Ford")
+                .model("Fiesta")
+                .color("Prata")
+                .plate("ABC1234")
+                .type(EnumVehicleType.CAR.getId())
+                .build();
+    }
+
+    static List<VehicleEntity> entities(int size){
+        List<VehicleEntity> entityList = new ArrayList<>(size);
+        for(int i = 0; i < size; i++){
+            entityList.add(entity(UUID.randomUUID()));
+        }
+        return entityList;
+    }
+
+    static List<VehicleDto> dtos(int size){
+        List<VehicleDto> dtoList = new ArrayList<>(size);
+        for(int i = 0; i < size; i++){
+            dtoList.add(dto(UUID.randomUUID()));
+        }
+        return dtoList;
+    }
+}
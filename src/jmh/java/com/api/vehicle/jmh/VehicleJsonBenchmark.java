@@ -0,0 +1,78 @@
+package com.api.vehicle.jmh;
+
+import com.api.vehicle.model.dto.VehicleDto;
+import com.api.vehicle.model.dto.page.ResponsePageDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Uses an ObjectMapper built the same way Spring Boot builds the one of the message converters
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class VehicleJsonBenchmark {
+
+    private static final int PAGE_SIZE = 10;
+
+    private ObjectMapper objectMapper;
+    private JavaType pageType;
+    private VehicleDto dto;
+    private ResponsePageDto<VehicleDto> pageDto;
+    private byte[] dtoJson;
+    private byte[] pageJson;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        this.objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        this.pageType = this.objectMapper.getTypeFactory().constructParametricType(ResponsePageDto.class, VehicleDto.class);
+        this.dto = VehicleFixtures.dto(UUID.randomUUID());
+        this.pageDto = ResponsePageDto.<VehicleDto>builder()
+                .currentPage(0)
+                .pageSize(PAGE_SIZE)
+                .totalPages(10)
+                .totalItems(PAGE_SIZE * 10)
+                .listContent(VehicleFixtures.dtos(PAGE_SIZE))
+                .build();
+        this.dtoJson = this.objectMapper.writeValueAsBytes(this.dto);
+        this.pageJson = this.objectMapper.writeValueAsBytes(this.pageDto);
+    }
+
+    @Benchmark
+    public byte[] serializeVehicle() throws JsonProcessingException {
+        return this.objectMapper.writeValueAsBytes(this.dto);
+    }
+
+    @Benchmark
+    public VehicleDto deserializeVehicle() throws Exception {
+        return this.objectMapper.readValue(this.dtoJson, VehicleDto.class);
+    }
+
+    @Benchmark
+    public byte[] serializePage() throws JsonProcessingException {
+        return this.objectMapper.writeValueAsBytes(this.pageDto);
+    }
+
+    @Benchmark
+    public ResponsePageDto<VehicleDto> deserializePage() throws Exception {
+        return this.objectMapper.readValue(this.pageJson, this.pageType);
+    }
+}
@@ -0,0 +1,49 @@
+package com.api.vehicle.jmh;
+
+import com.api.vehicle.mapper.VehicleMapper;
+import com.api.vehicle.model.dto.VehicleDto;
+import com.api.vehicle.model.entity.VehicleEntity;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class VehicleMapperBenchmark {
+
+    private VehicleMapper mapper;
+    private VehicleEntity entity;
+    private VehicleDto dto;
+
+    @Setup
+    public void setUp(){
+        this.mapper = Mappers.getMapper(VehicleMapper.class);
+        this.entity = VehicleFixtures.entity(UUID.randomUUID());
+        this.dto = this.mapper.entityToDto(this.entity);
+    }
+
+    @Benchmark
+    public VehicleDto entityToDto(){
+        return this.mapper.entityToDto(this.entity);
+    }
+
+    @Benchmark
+    public VehicleEntity dtoToEntity(){
+        return this.mapper.dtoToEntity(this.dto);
+    }
+}
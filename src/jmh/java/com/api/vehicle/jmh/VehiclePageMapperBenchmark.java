@@ -0,0 +1,49 @@
+package com.api.vehicle.jmh;
+
+import com.api.vehicle.mapper.page.VehiclePageMapper;
+import com.api.vehicle.model.dto.VehicleDto;
+import com.api.vehicle.model.dto.page.ResponsePageDto;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class VehiclePageMapperBenchmark {
+
+    @Param({"10", "100"})
+    private int pageSize;
+
+    private VehiclePageMapper pageMapper;
+    private Page<VehicleDto> pageDto;
+
+    @Setup
+    public void setUp(){
+        this.pageMapper = Mappers.getMapper(VehiclePageMapper.class);
+        this.pageDto = new PageImpl<>(VehicleFixtures.dtos(this.pageSize), PageRequest.of(0, this.pageSize),
+                this.pageSize * 10L);
+    }
+
+    @Benchmark
+    public ResponsePageDto<VehicleDto> pageEntityToPageDto(){
+        return this.pageMapper.pageEntityToPageDto(this.pageDto);
+    }
+}
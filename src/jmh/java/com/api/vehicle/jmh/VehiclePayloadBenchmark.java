@@ -0,0 +1,74 @@
+package com.api.vehicle.jmh;
+
+import com.api.vehicle.model.dto.VehicleDto;
+import com.api.vehicle.model.dto.page.ResponsePageDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Serialization time of a vehicle page as JSON and as CBOR, plain and gzip compressed as Tomcat sends it when
+ * the client accepts it. The payload sizes are printed once per trial since JMH only reports times.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class VehiclePayloadBenchmark {
+
+    @Param({"10", "100", "1000"})
+    private int pageSize;
+
+    @Param({"JSON", "CBOR"})
+    private String format;
+
+    private ObjectMapper objectMapper;
+    private ResponsePageDto<VehicleDto> pageDto;
+
+    @Setup
+    public void setUp() throws IOException {
+        this.objectMapper = "CBOR".equals(this.format) ? Jackson2ObjectMapperBuilder.cbor().build()
+                : Jackson2ObjectMapperBuilder.json().build();
+        this.pageDto = ResponsePageDto.<VehicleDto>builder()
+                .currentPage(0)
+                .pageSize(this.pageSize)
+                .totalPages(10)
+                .totalItems(this.pageSize * 10)
+                .listContent(VehicleFixtures.dtos(this.pageSize))
+                .build();
+
+        System.out.printf("%n%s page of %,d vehicles: %,d bytes, %,d bytes with gzip%n", this.format, this.pageSize,
+                this.serialize().length, this.serializeAndGzip().length);
+    }
+
+    @Benchmark
+    public byte[] serialize() throws IOException {
+        return this.objectMapper.writeValueAsBytes(this.pageDto);
+    }
+
+    @Benchmark
+    public byte[] serializeAndGzip() throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)){
+            this.objectMapper.writeValue(gzip, this.pageDto);
+        }
+        return compressed.toByteArray();
+    }
+}
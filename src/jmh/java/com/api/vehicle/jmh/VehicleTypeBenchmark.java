@@ -0,0 +1,49 @@
+package com.api.vehicle.jmh;
+
+import com.api.vehicle.converter.StringToEnumVehicleTypeConverter;
+import com.api.vehicle.enums.type.EnumVehicleType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The type id arrives as a request parameter, so the values are read from fields to keep them from being constant folded
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class VehicleTypeBenchmark {
+
+    private StringToEnumVehicleTypeConverter converter;
+    private String source;
+    private int id;
+
+    @Setup
+    public void setUp(){
+        this.converter = new StringToEnumVehicleTypeConverter();
+        this.source = "2";
+        this.id = 2;
+    }
+
+    @Benchmark
+    public EnumVehicleType convert(){
+        return this.converter.convert(this.source);
+    }
+
+    @Benchmark
+    public EnumVehicleType fromId(){
+        return EnumVehicleType.fromId(this.id);
+    }
+}
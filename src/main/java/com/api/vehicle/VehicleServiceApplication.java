@@ -1,9 +1,14 @@
 package com.api.vehicle;
 
+import com.api.vehicle.config.VehicleRuntimeHints;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.context.properties.ConfigurationPropertiesScan;
+import org.springframework.context.annotation.ImportRuntimeHints;
 
 @SpringBootApplication
+@ConfigurationPropertiesScan
+@ImportRuntimeHints(VehicleRuntimeHints.class)
 public class VehicleServiceApplication {
 
 	public static void main(String[] args) {
@@ -0,0 +1,45 @@
+package com.api.vehicle.config;
+
+import com.api.vehicle.datasource.ReplicaPoolsCheckpointRestoreLifecycle;
+import com.api.vehicle.datasource.ReplicaRoutingDataSource;
+import com.api.vehicle.service.cache.CachingVehicleService;
+import com.api.vehicle.service.cache.VehicleCachesCheckpointRestoreLifecycle;
+import com.api.vehicle.service.estimate.VehicleCountEstimator;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnCheckpointRestore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+/**
+ * Hooks of the CRaC checkpoint and restore, enabled by {@code vehicle.checkpoint.enabled}. Spring stops the
+ * lifecycle beans before the checkpoint and starts them again after the restore: the web server, the background
+ * threads of the facets and of the ingestion, the pools and the caches below. The checkpoint itself is taken with
+ * {@code jcmd <pid> JDK.checkpoint} or by the training run.
+ */
+@Configuration
+@ConditionalOnCheckpointRestore
+@ConditionalOnProperty(prefix = "vehicle.checkpoint", name = "enabled", havingValue = "true")
+public class CheckpointRestoreConfig {
+
+    @Bean
+    public VehicleCachesCheckpointRestoreLifecycle vehicleCachesCheckpointRestoreLifecycle(
+            ObjectProvider<CachingVehicleService> cachingVehicleService, VehicleCountEstimator countEstimator,
+            EntityManagerFactory entityManagerFactory){
+        return new VehicleCachesCheckpointRestoreLifecycle(cachingVehicleService, countEstimator, entityManagerFactory);
+    }
+
+    /**
+     * The pool configured by Spring Boot already has its own hooks, the routing pools need them when enabled
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "vehicle.replicas", name = "enabled", havingValue = "true")
+    public ReplicaPoolsCheckpointRestoreLifecycle replicaPoolsCheckpointRestoreLifecycle(DataSource dataSource)
+            throws SQLException {
+        return new ReplicaPoolsCheckpointRestoreLifecycle(dataSource.unwrap(ReplicaRoutingDataSource.class));
+    }
+}
@@ -0,0 +1,65 @@
+package com.api.vehicle.config;
+
+import com.api.vehicle.config.properties.ReplicaProperties;
+import com.api.vehicle.datasource.LazyReplicaRoutingDataSource;
+import com.api.vehicle.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Replaces the auto-configured pool by a primary pool and one pool per read replica, all of them with the
+ * settings of spring.datasource.hikari and tagged by pool name in the HikariCP metrics.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "vehicle.replicas", name = "enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    private static final String HIKARI_PREFIX = "spring.datasource.hikari";
+
+    @Bean
+    public LazyReplicaRoutingDataSource dataSource(DataSourceProperties dataSourceProperties,
+                                                   ReplicaProperties replicaProperties, Environment environment,
+                                                   MeterRegistry meterRegistry){
+        Binder binder = Binder.get(environment);
+        MicrometerMetricsTrackerFactory metricsTrackerFactory = new MicrometerMetricsTrackerFactory(meterRegistry);
+
+        HikariDataSource primary = dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        configure(primary, "vehicle-primary", binder, metricsTrackerFactory);
+
+        List<HikariDataSource> replicas = new ArrayList<>();
+        for(String url : replicaProperties.getUrls()){
+            HikariDataSource replica = dataSourceProperties.initializeDataSourceBuilder()
+                    .type(HikariDataSource.class)
+                    .url(url)
+                    .username(StringUtils.hasText(replicaProperties.getUsername()) ? replicaProperties.getUsername()
+                            : dataSourceProperties.determineUsername())
+                    .password(StringUtils.hasText(replicaProperties.getPassword()) ? replicaProperties.getPassword()
+                            : dataSourceProperties.determinePassword())
+                    .build();
+            configure(replica, "vehicle-replica-" + replicas.size(), binder, metricsTrackerFactory);
+            replicas.add(replica);
+        }
+
+        return new LazyReplicaRoutingDataSource(new ReplicaRoutingDataSource(primary, replicas,
+                replicaProperties.getSelection(), replicaProperties.getStickiness()));
+    }
+
+    private static void configure(HikariDataSource dataSource, String poolName, Binder binder,
+                                  MicrometerMetricsTrackerFactory metricsTrackerFactory){
+        binder.bind(HIKARI_PREFIX, Bindable.ofInstance(dataSource));
+        dataSource.setPoolName(poolName);
+        dataSource.setMetricsTrackerFactory(metricsTrackerFactory);
+    }
+}
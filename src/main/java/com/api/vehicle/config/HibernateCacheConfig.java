@@ -0,0 +1,84 @@
+package com.api.vehicle.config;
+
+import com.api.vehicle.config.properties.HibernateCacheProperties;
+import com.api.vehicle.repository.VehicleRepository;
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.jcache.MissingCacheStrategy;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+@Configuration
+public class HibernateCacheConfig {
+
+    /**
+     * Caffeine backed JCache regions, each one created up front with its own bounds. One cache manager per
+     * application context, so the test contexts of the same JVM do not share cached rows.
+     */
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(prefix = "vehicle.hibernate-cache", name = "enabled", havingValue = "true")
+    public CacheManager hibernateCacheManager(HibernateCacheProperties properties, MeterRegistry meterRegistry){
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(URI.create("vehicle-hibernate-" + UUID.randomUUID()),
+                        HibernateCacheConfig.class.getClassLoader());
+
+        createRegion(cacheManager, VehicleRepository.TYPE_LISTING_CACHE_REGION,
+                OptionalLong.of(properties.getTypeListingMaximumSize()), properties.getExpireAfterWrite(), meterRegistry);
+        createRegion(cacheManager, RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME,
+                OptionalLong.of(properties.getTypeListingMaximumSize()), properties.getExpireAfterWrite(), meterRegistry);
+        //One timestamp per table, evicting it would let a query result older than the last write be served
+        createRegion(cacheManager, RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME,
+                OptionalLong.empty(), null, meterRegistry);
+        return cacheManager;
+    }
+
+    /**
+     * The second-level cache is turned off explicitly when disabled, Hibernate would otherwise pick up the JCache
+     * provider found on the classpath with its default, unbounded, regions
+     */
+    @Bean
+    public HibernatePropertiesCustomizer hibernateCacheCustomizer(ObjectProvider<CacheManager> hibernateCacheManager){
+        return hibernateProperties -> {
+            CacheManager cacheManager = hibernateCacheManager.getIfAvailable();
+            hibernateProperties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, Objects.nonNull(cacheManager));
+            hibernateProperties.put(AvailableSettings.USE_QUERY_CACHE, Objects.nonNull(cacheManager));
+            if(Objects.nonNull(cacheManager)){
+                hibernateProperties.put(AvailableSettings.CACHE_REGION_FACTORY, ConfigSettings.SIMPLE_FACTORY_NAME);
+                hibernateProperties.put(ConfigSettings.CACHE_MANAGER, cacheManager);
+                hibernateProperties.put(ConfigSettings.MISSING_CACHE_STRATEGY,
+                        MissingCacheStrategy.FAIL.getExternalRepresentation());
+            }
+        };
+    }
+
+    /**
+     * Entries are kept by reference, Hibernate caches its own disassembled copies and never changes them
+     */
+    private static void createRegion(CacheManager cacheManager, String region, OptionalLong maximumSize,
+                                     Duration expireAfterWrite, MeterRegistry meterRegistry){
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setStoreByValue(false);
+        configuration.setStatisticsEnabled(true);
+        configuration.setMaximumSize(maximumSize);
+        if(Objects.nonNull(expireAfterWrite)){
+            configuration.setExpireAfterWrite(OptionalLong.of(expireAfterWrite.toNanos()));
+        }
+        JCacheMetrics.monitor(meterRegistry, cacheManager.createCache(region, configuration));
+    }
+}
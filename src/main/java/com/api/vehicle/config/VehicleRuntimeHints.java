@@ -0,0 +1,60 @@
+package com.api.vehicle.config;
+
+import com.api.vehicle.converter.json.CanonicalStringDeserializer;
+import com.api.vehicle.enums.type.EnumVehicleType;
+import com.api.vehicle.exception.details.ExceptionDetails;
+import com.api.vehicle.exception.details.FieldErrorsExceptionDetails;
+import com.api.vehicle.mapper.VehicleMapperImpl;
+import com.api.vehicle.mapper.page.VehiclePageMapperImpl;
+import com.api.vehicle.model.dto.VehicleDto;
+import com.api.vehicle.model.entity.attribute.CanonicalStringConverter;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import net.ttddyy.dsproxy.proxy.ProxyJdbcObject;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+/**
+ * Reachability metadata of the native image for what the AOT processing cannot find by itself, the types created
+ * or read by name through reflection and the resources loaded from the classpath.
+ */
+public class VehicleRuntimeHints implements RuntimeHintsRegistrar {
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        //Written or read by Jackson outside the controller signatures, the journal, the exports and the filters
+        BindingReflectionHintsRegistrar bindingRegistrar = new BindingReflectionHintsRegistrar();
+        bindingRegistrar.registerReflectionHints(hints.reflection(), VehicleDto.class, ExceptionDetails.class,
+                FieldErrorsExceptionDetails.class);
+
+        //Generated at compile time by MapStruct, the Lombok builders need no hint since they are plain code
+        hints.reflection().registerType(VehicleMapperImpl.class, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS);
+        hints.reflection().registerType(VehiclePageMapperImpl.class, MemberCategory.INVOKE_DECLARED_CONSTRUCTORS);
+
+        //Bound by name from vehicle.types.enabled, the binder reads the constants through reflection
+        hints.reflection().registerType(EnumVehicleType.class, MemberCategory.PUBLIC_FIELDS,
+                MemberCategory.INVOKE_PUBLIC_METHODS);
+
+        //Instantiated through their constructor by Jackson and Hibernate
+        hints.reflection().registerType(CanonicalStringDeserializer.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+        hints.reflection().registerType(CanonicalStringConverter.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+        hints.reflection().registerType(CaffeineCachingProvider.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+
+        //JDK proxies of datasource-proxy around every JDBC object handed out by the pool, defined at build time in
+        //the image with the interfaces in the order given by its JdkJdbcProxyFactory
+        for(Class<?> jdbcInterface : new Class<?>[]{Connection.class, Statement.class, PreparedStatement.class,
+                CallableStatement.class, ResultSet.class}){
+            hints.proxies().registerJdkProxy(ProxyJdbcObject.class, jdbcInterface);
+        }
+
+        hints.resources().registerPattern("db/*.sql");
+        hints.resources().registerPattern("reference.conf");
+    }
+}
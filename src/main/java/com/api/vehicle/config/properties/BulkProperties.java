@@ -0,0 +1,19 @@
+package com.api.vehicle.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "vehicle.bulk")
+public class BulkProperties {
+
+    /**
+     * Vehicles persisted per transaction, each chunk is sent in JDBC batches of hibernate.jdbc.batch_size
+     */
+    private int chunkSize = 1_000;
+
+    /**
+     * Maximum number of vehicles accepted by a single bulk request
+     */
+    private int maxItems = 100_000;
+}
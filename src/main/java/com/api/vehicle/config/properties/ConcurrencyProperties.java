@@ -0,0 +1,23 @@
+package com.api.vehicle.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "vehicle.concurrency")
+public class ConcurrencyProperties {
+
+    /**
+     * Requests handled at the same time when running on virtual threads. With open-in-view off each request holds
+     * at most one connection at a time, so up to the connection pool size no request waits inside the pool and the
+     * excess waits here instead
+     */
+    private int maxInFlight = 10;
+
+    /**
+     * Time a request waits for a free slot before it is answered with 503
+     */
+    private Duration acquireTimeout = Duration.ofSeconds(2);
+}
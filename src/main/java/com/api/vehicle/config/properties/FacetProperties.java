@@ -0,0 +1,23 @@
+package com.api.vehicle.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "vehicle.facets")
+public class FacetProperties {
+
+    /**
+     * Keeps the in-process facet index and exposes the facet counts, about 24 bytes of heap per vehicle plus
+     * the bitmaps
+     */
+    private boolean enabled;
+
+    /**
+     * Time between two rebuilds of the index from the table, the bound on how long a vehicle written by another
+     * instance or by plain SQL is counted with its old values
+     */
+    private Duration refreshInterval = Duration.ofHours(1);
+}
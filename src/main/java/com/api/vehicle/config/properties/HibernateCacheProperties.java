@@ -0,0 +1,28 @@
+package com.api.vehicle.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "vehicle.hibernate-cache")
+public class HibernateCacheProperties {
+
+    /**
+     * Turns on the Hibernate query cache of the type listings. Vehicles are not cached as entities, the ones read
+     * by id and plate are in the cache of the vehicle service
+     */
+    private boolean enabled;
+
+    /**
+     * Maximum number of type listing results kept, one per type, page, size and totals query
+     */
+    private long typeListingMaximumSize = 1_000;
+
+    /**
+     * Time after which a cached entry is read again from the database, a bound on how stale a row changed
+     * by another service or by plain SQL can be
+     */
+    private Duration expireAfterWrite = Duration.ofMinutes(10);
+}
@@ -0,0 +1,59 @@
+package com.api.vehicle.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "vehicle.ingestion")
+public class IngestionProperties {
+
+    /**
+     * Lets POST /vehicle with Prefer: respond-async answer 202 right away and write the vehicle later
+     */
+    private boolean enabled;
+
+    /**
+     * Vehicles accepted and not written yet, beyond it new ones are answered with 503
+     */
+    private int capacity = 10_000;
+
+    /**
+     * Vehicles inserted per transaction, in a single JDBC batch
+     */
+    private int batchSize = 500;
+
+    /**
+     * Longest time a vehicle waits for its batch to fill up
+     */
+    private Duration flushInterval = Duration.ofMillis(100);
+
+    /**
+     * Time before a batch is tried again after a database error other than a constraint violation
+     */
+    private Duration retryDelay = Duration.ofSeconds(1);
+
+    /**
+     * Directory of the journal of accepted vehicles, it must be kept between restarts
+     */
+    private Path journalDirectory = Path.of("ingestion-journal");
+
+    /**
+     * Size after which the journal goes on in a new segment, a segment is deleted once all of its vehicles are written
+     */
+    private DataSize journalSegmentSize = DataSize.ofMegabytes(64);
+
+    /**
+     * Forces each journaled vehicle to disk before answering 202. When off an accepted vehicle survives a crash
+     * of the service but not of the machine
+     */
+    private boolean journalSync = true;
+
+    /**
+     * How long the status endpoint still tells why a vehicle failed
+     */
+    private Duration failureRetention = Duration.ofHours(1);
+}
@@ -0,0 +1,16 @@
+package com.api.vehicle.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "vehicle.page")
+public class PageProperties {
+
+    /**
+     * How long an estimated count is reused before asking the database again
+     */
+    private Duration estimatedCountTtl = Duration.ofMinutes(1);
+}
@@ -0,0 +1,15 @@
+package com.api.vehicle.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "vehicle.query-count")
+public class QueryCountProperties {
+
+    /**
+     * Adds the number of SQL statements and their total time to every response as headers, meant for development.
+     * The metrics are recorded either way.
+     */
+    private boolean headers = false;
+}
@@ -0,0 +1,46 @@
+package com.api.vehicle.config.properties;
+
+import com.api.vehicle.enums.datasource.EnumReplicaSelection;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@ConfigurationProperties(prefix = "vehicle.replicas")
+public class ReplicaProperties {
+
+    /**
+     * Sends the read-only transactions to the read replicas, every statement goes to the primary when off
+     */
+    private boolean enabled;
+
+    /**
+     * JDBC urls of the read replicas, each one gets a pool with the settings of spring.datasource.hikari
+     */
+    private List<String> urls = new ArrayList<>();
+
+    /**
+     * User of the replicas, the one of the primary when empty
+     */
+    private String username;
+
+    /**
+     * Password of the replicas, the one of the primary when empty
+     */
+    private String password;
+
+    /**
+     * How the replica of each read-only transaction is picked
+     */
+    private EnumReplicaSelection selection = EnumReplicaSelection.ROUND_ROBIN;
+
+    /**
+     * Time after a committed write during which reads still go to the primary, so that a client reads what it
+     * has just written despite the replication lag. Zero sends the reads to the replicas right away, the reads
+     * that fill the vehicle and query caches go to the primary either way
+     */
+    private Duration stickiness = Duration.ZERO;
+}
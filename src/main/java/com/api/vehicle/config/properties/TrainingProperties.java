@@ -0,0 +1,26 @@
+package com.api.vehicle.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "vehicle.training")
+public class TrainingProperties {
+
+    /**
+     * Sends requests to every vehicle endpoint once the application is ready and then exits, for the build of the
+     * AppCDS archive. Never enabled on an instance serving traffic
+     */
+    private boolean enabled;
+
+    /**
+     * Rounds of requests, each one creates, reads, updates and deletes a few vehicles
+     */
+    private int iterations = 200;
+
+    /**
+     * Takes a CRaC checkpoint after the requests instead of exiting, the restored instances start with the request
+     * paths already compiled by the JIT. Needs a JVM with CRaC
+     */
+    private boolean checkpoint;
+}
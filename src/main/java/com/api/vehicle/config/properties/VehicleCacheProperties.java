@@ -0,0 +1,31 @@
+package com.api.vehicle.config.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+@Data
+@ConfigurationProperties(prefix = "vehicle.cache")
+public class VehicleCacheProperties {
+
+    /**
+     * Puts the in-process vehicle cache in front of the service, can be turned off per environment
+     */
+    private boolean enabled;
+
+    /**
+     * Maximum number of vehicles kept, the least used ones are evicted first
+     */
+    private long maximumSize = 10_000;
+
+    /**
+     * Maximum number of plates kept for the gate lookups, only the plates read again and again need to stay
+     */
+    private long plateMaximumSize = 1_000;
+
+    /**
+     * Time after which a cached vehicle is read again from the database
+     */
+    private Duration expireAfterWrite = Duration.ofMinutes(10);
+}
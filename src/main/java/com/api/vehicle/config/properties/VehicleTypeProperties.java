@@ -0,0 +1,18 @@
+package com.api.vehicle.config.properties;
+
+import com.api.vehicle.enums.type.EnumVehicleType;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+@Data
+@ConfigurationProperties(prefix = "vehicle.types")
+public class VehicleTypeProperties {
+
+    /**
+     * Vehicle types accepted by the type filters, by name. The others are rejected as an invalid type
+     */
+    private Set<EnumVehicleType> enabled = EnumSet.of(EnumVehicleType.CAR, EnumVehicleType.MOTORCYCLE);
+}
@@ -8,23 +8,51 @@ public class Endpoints {
 
     //PATH VARIABLES
     public static final String PATH_VARIABLE_ID = "/{id}";
+    public static final String PATH_VARIABLE_PLATE = "/{plate}";
+
+    //REQUEST PARAM NAMES
+    public static final String CURSOR = "cursor";
 
     //REQUEST PARAMS
     public static final String PARAM_PAGE_NUMBER = "pageNumber={pageNumber}";
     public static final String PARAM_PAGE_SIZE = "pageSize={pageSize}";
     public static final String PARAM_TYPE = "type={type}";
+    public static final String PARAM_CURSOR = CURSOR + "={cursor}";
+    public static final String PARAM_TOTALS = "totals={totals}";
+    public static final String PARAM_FORMAT = "format={format}";
 
     //PARTIAL URL
     public static final String FIND_ALL_VEHICLES = "/findAll";
     public static final String FIND_ALL_VEHICLES_BY_TYPE = "/findAllByType";
+    public static final String BULK = "/bulk";
+    public static final String EXPORT = "/export";
+    public static final String PLATE = "/plate";
+    public static final String INGESTION = "/ingestion";
+    public static final String SEARCH = "/search";
+    public static final String FACETS = "/facets";
 
     //COMPLETE URL'S
     public static final String URL_FIND_VEHICLE = VEHICLE + PATH_VARIABLE_ID;
+    public static final String URL_FIND_VEHICLE_BY_PLATE = VEHICLE + PLATE + PATH_VARIABLE_PLATE;
     public static final String URL_FIND_ALL_VEHICLES = VEHICLE + FIND_ALL_VEHICLES
             + getFormatedRequestParams(PARAM_PAGE_NUMBER, PARAM_PAGE_SIZE);
     public static final String URL_FIND_ALL_VEHICLES_BY_TYPE = VEHICLE + FIND_ALL_VEHICLES_BY_TYPE
             + getFormatedRequestParams(PARAM_TYPE, PARAM_PAGE_NUMBER, PARAM_PAGE_SIZE);
+    public static final String URL_FIND_ALL_VEHICLES_WITH_TOTALS = VEHICLE + FIND_ALL_VEHICLES
+            + getFormatedRequestParams(PARAM_PAGE_NUMBER, PARAM_PAGE_SIZE, PARAM_TOTALS);
+    public static final String URL_FIND_ALL_VEHICLES_BY_TYPE_WITH_TOTALS = VEHICLE + FIND_ALL_VEHICLES_BY_TYPE
+            + getFormatedRequestParams(PARAM_TYPE, PARAM_PAGE_NUMBER, PARAM_PAGE_SIZE, PARAM_TOTALS);
+    public static final String URL_FIND_ALL_VEHICLES_BY_CURSOR = VEHICLE + FIND_ALL_VEHICLES
+            + getFormatedRequestParams(PARAM_CURSOR, PARAM_PAGE_SIZE);
+    public static final String URL_FIND_ALL_VEHICLES_BY_TYPE_AND_CURSOR = VEHICLE + FIND_ALL_VEHICLES_BY_TYPE
+            + getFormatedRequestParams(PARAM_TYPE, PARAM_CURSOR, PARAM_PAGE_SIZE);
     public static final String URL_REMOVE_VEHICLE = VEHICLE + PATH_VARIABLE_ID;
+    public static final String URL_BULK_VEHICLES = VEHICLE + BULK;
+    public static final String URL_SEARCH_VEHICLES = VEHICLE + SEARCH;
+    public static final String URL_VEHICLE_FACETS = VEHICLE + FACETS;
+    public static final String URL_INGESTION_STATUS = VEHICLE + INGESTION + PATH_VARIABLE_ID;
+    public static final String URL_EXPORT_VEHICLES = VEHICLE + EXPORT + getFormatedRequestParams(PARAM_FORMAT);
+    public static final String URL_EXPORT_VEHICLES_BY_TYPE = VEHICLE + EXPORT + getFormatedRequestParams(PARAM_TYPE, PARAM_FORMAT);
 
     private static String getFormatedRequestParams(String ... requestParams){
         return "?" + String.join("&", requestParams);
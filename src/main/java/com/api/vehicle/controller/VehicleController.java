@@ -1,15 +1,29 @@
 package com.api.vehicle.controller;
 
 import com.api.vehicle.constants.url.Endpoints;
+import com.api.vehicle.enums.export.EnumExportFormat;
+import com.api.vehicle.enums.page.EnumPageTotals;
 import com.api.vehicle.enums.type.EnumVehicleType;
+import com.api.vehicle.exception.response.PreconditionFailedException;
+import com.api.vehicle.export.VehicleExportWriter;
+import com.api.vehicle.model.dto.page.CursorPageDto;
 import com.api.vehicle.model.dto.page.ResponsePageDto;
 import com.api.vehicle.model.dto.VehicleDto;
+import com.api.vehicle.model.dto.bulk.BulkItemResultDto;
+import com.api.vehicle.model.dto.search.VehicleSearchDto;
 import com.api.vehicle.service.VehicleService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.util.StringUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.util.List;
+import java.util.Objects;
 import java.util.UUID;
 
 
@@ -18,10 +32,12 @@ import java.util.UUID;
 public class VehicleController {
 
     private final VehicleService service;
+    private final ObjectMapper objectMapper;
 
     @Autowired
-    public VehicleController(VehicleService service) {
+    public VehicleController(VehicleService service, ObjectMapper objectMapper) {
         this.service = service;
+        this.objectMapper = objectMapper;
     }
 
     @PostMapping
@@ -30,13 +46,30 @@ public class VehicleController {
     }
 
     @PutMapping
-    public ResponseEntity<VehicleDto> update(@RequestBody @Valid VehicleDto putDto) {
-        return ResponseEntity.ok(this.service.update(putDto));
+    public ResponseEntity<VehicleDto> update(@RequestBody @Valid VehicleDto putDto,
+                                             @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        putDto.setVersion(parseIfMatch(ifMatch));
+        return withETag(this.service.update(putDto));
+    }
+
+    @PostMapping(value = Endpoints.BULK, consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<List<BulkItemResultDto>> saveAll(@RequestBody List<VehicleDto> postDtoList){
+        return ResponseEntity.ok(this.service.saveAll(postDtoList));
+    }
+
+    @PutMapping(value = Endpoints.BULK, consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<List<BulkItemResultDto>> updateAll(@RequestBody List<VehicleDto> putDtoList){
+        return ResponseEntity.ok(this.service.updateAll(putDtoList));
     }
 
     @GetMapping(Endpoints.PATH_VARIABLE_ID)
     public ResponseEntity<VehicleDto> findById(@PathVariable(value = "id") UUID id) {
-        return ResponseEntity.ok(this.service.findById(id));
+        return withETag(this.service.findById(id));
+    }
+
+    @GetMapping(Endpoints.PLATE + Endpoints.PATH_VARIABLE_PLATE)
+    public ResponseEntity<VehicleDto> findByPlate(@PathVariable(value = "plate") String plate) {
+        return withETag(this.service.findByPlate(plate));
     }
 
     @DeleteMapping(Endpoints.PATH_VARIABLE_ID)
@@ -47,14 +80,87 @@ public class VehicleController {
 
     @GetMapping(Endpoints.FIND_ALL_VEHICLES)
     public ResponseEntity<ResponsePageDto<VehicleDto>> findAll( @RequestParam(defaultValue = "0") int pageNumber,
-                                                                @RequestParam(defaultValue = "10") int pageSize) {
-        return ResponseEntity.ok(this.service.findAll(pageNumber, pageSize));
+                                                                @RequestParam(defaultValue = "10") int pageSize,
+                                                                @RequestParam(defaultValue = "EXACT") EnumPageTotals totals) {
+        return ResponseEntity.ok(this.service.findAll(pageNumber, pageSize, totals));
     }
 
     @GetMapping(Endpoints.FIND_ALL_VEHICLES_BY_TYPE)
     public ResponseEntity<ResponsePageDto<VehicleDto>> findAllByType(@RequestParam EnumVehicleType type,
                                                                      @RequestParam(defaultValue = "0") int pageNumber,
+                                                                     @RequestParam(defaultValue = "10") int pageSize,
+                                                                     @RequestParam(defaultValue = "EXACT") EnumPageTotals totals) {
+        return ResponseEntity.ok(this.service.findAllByType(type, pageNumber, pageSize, totals));
+    }
+
+    @GetMapping(value = Endpoints.FIND_ALL_VEHICLES, params = Endpoints.CURSOR)
+    public ResponseEntity<CursorPageDto<VehicleDto>> findAllByCursor(@RequestParam String cursor,
                                                                      @RequestParam(defaultValue = "10") int pageSize) {
-        return ResponseEntity.ok(this.service.findAllByType(type, pageNumber, pageSize));
+        return ResponseEntity.ok(this.service.findAllByCursor(cursor, pageSize));
+    }
+
+    @GetMapping(value = Endpoints.FIND_ALL_VEHICLES_BY_TYPE, params = Endpoints.CURSOR)
+    public ResponseEntity<CursorPageDto<VehicleDto>> findAllByTypeAndCursor(@RequestParam EnumVehicleType type,
+                                                                            @RequestParam String cursor,
+                                                                            @RequestParam(defaultValue = "10") int pageSize) {
+        return ResponseEntity.ok(this.service.findAllByTypeAndCursor(type, cursor, pageSize));
+    }
+
+    @GetMapping(Endpoints.SEARCH)
+    public ResponseEntity<CursorPageDto<VehicleDto>> search(@RequestParam(required = false) String brand,
+                                                            @RequestParam(required = false) String model,
+                                                            @RequestParam(required = false) String color,
+                                                            @RequestParam(required = false) String plate,
+                                                            @RequestParam(required = false) EnumVehicleType type,
+                                                            @RequestParam(defaultValue = "") String cursor,
+                                                            @RequestParam(defaultValue = "10") int pageSize) {
+        VehicleSearchDto filter = VehicleSearchDto.builder()
+                .brand(brand)
+                .model(model)
+                .color(color)
+                .plate(plate)
+                .type(type)
+                .build();
+        return ResponseEntity.ok(this.service.search(filter, cursor, pageSize));
+    }
+
+    @GetMapping(Endpoints.EXPORT)
+    public ResponseEntity<StreamingResponseBody> exportAll(@RequestParam(required = false) EnumVehicleType type,
+                                                           @RequestParam(defaultValue = "NDJSON") EnumExportFormat format) {
+        StreamingResponseBody body = outputStream ->
+                this.service.exportAll(type, VehicleExportWriter.of(format, outputStream, this.objectMapper));
+
+        return ResponseEntity.ok().contentType(format.getMediaType()).body(body);
+    }
+
+    /**
+     * The version is sent as a strong ETag. Spring MVC answers a GET whose If-None-Match matches it with 304
+     * and without writing the body.
+     */
+    private static ResponseEntity<VehicleDto> withETag(VehicleDto dto){
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if(Objects.nonNull(dto.getVersion())){
+            response.eTag("\"" + dto.getVersion() + "\"");
+        }
+        return response.body(dto);
+    }
+
+    /**
+     * Only * or a single strong ETag may match, If-Match uses the strong comparison so a weak ETag never does.
+     * @return the expected version, or null when the update is not conditional
+     */
+    private static Long parseIfMatch(String ifMatch){
+        if(!StringUtils.hasText(ifMatch) || "*".equals(ifMatch.trim())){
+            return null;
+        }
+        String eTag = ifMatch.trim();
+        if(eTag.length() > 2 && eTag.startsWith("\"") && eTag.endsWith("\"")){
+            try{
+                return Long.parseLong(eTag.substring(1, eTag.length() - 1));
+            } catch (NumberFormatException ignored){
+                //Not an ETag of this service, so it can not match
+            }
+        }
+        throw new PreconditionFailedException("If-Match does not match the current version of the vehicle!");
     }
 }
@@ -0,0 +1,36 @@
+package com.api.vehicle.controller;
+
+import com.api.vehicle.constants.url.Endpoints;
+import com.api.vehicle.enums.type.EnumVehicleType;
+import com.api.vehicle.model.dto.facet.VehicleFacetsDto;
+import com.api.vehicle.service.facet.VehicleFacetService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Facet counts of the vehicles, answered from memory when the facet index is enabled
+ */
+@RestController
+@RequestMapping(Endpoints.VEHICLE)
+@ConditionalOnProperty(prefix = "vehicle.facets", name = "enabled", havingValue = "true")
+public class VehicleFacetController {
+
+    private final VehicleFacetService facetService;
+
+    @Autowired
+    public VehicleFacetController(VehicleFacetService facetService) {
+        this.facetService = facetService;
+    }
+
+    @GetMapping(Endpoints.FACETS)
+    public ResponseEntity<VehicleFacetsDto> count(@RequestParam(required = false) EnumVehicleType type,
+                                                  @RequestParam(required = false) String brand,
+                                                  @RequestParam(required = false) String color) {
+        return ResponseEntity.ok(this.facetService.count(type, brand, color));
+    }
+}
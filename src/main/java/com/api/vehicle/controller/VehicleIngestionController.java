@@ -0,0 +1,72 @@
+package com.api.vehicle.controller;
+
+import com.api.vehicle.constants.url.Endpoints;
+import com.api.vehicle.model.dto.VehicleDto;
+import com.api.vehicle.model.dto.ingestion.IngestionStatusDto;
+import com.api.vehicle.service.VehicleService;
+import com.api.vehicle.service.ingestion.VehicleIngestionService;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * Takes the POST requests that carry a Prefer header when the asynchronous ingestion is enabled, the others are
+ * still handled by {@link VehicleController}.
+ */
+@RestController
+@RequestMapping(Endpoints.VEHICLE)
+@ConditionalOnProperty(prefix = "vehicle.ingestion", name = "enabled", havingValue = "true")
+public class VehicleIngestionController {
+
+    public static final String PREFER = "Prefer";
+    public static final String PREFERENCE_APPLIED = "Preference-Applied";
+    public static final String RESPOND_ASYNC = "respond-async";
+
+    private final VehicleService service;
+    private final VehicleIngestionService ingestionService;
+
+    @Autowired
+    public VehicleIngestionController(VehicleService service, VehicleIngestionService ingestionService) {
+        this.service = service;
+        this.ingestionService = ingestionService;
+    }
+
+    /**
+     * Answers 202 with the id of the vehicle and its status url when respond-async is preferred
+     */
+    @PostMapping(headers = PREFER)
+    public ResponseEntity<VehicleDto> save(@RequestBody @Valid VehicleDto postDto, @RequestHeader(PREFER) String prefer){
+        if(!prefersRespondAsync(prefer)){
+            return ResponseEntity.ok(this.service.save(postDto));
+        }
+
+        VehicleDto acceptedDto = this.ingestionService.accept(postDto);
+        return ResponseEntity.accepted()
+                .location(ServletUriComponentsBuilder.fromCurrentContextPath()
+                        .path(Endpoints.URL_INGESTION_STATUS)
+                        .buildAndExpand(acceptedDto.getId())
+                        .toUri())
+                .header(PREFERENCE_APPLIED, RESPOND_ASYNC)
+                .body(acceptedDto);
+    }
+
+    @GetMapping(Endpoints.INGESTION + Endpoints.PATH_VARIABLE_ID)
+    public ResponseEntity<IngestionStatusDto> status(@PathVariable(value = "id") UUID id) {
+        return ResponseEntity.ok(this.ingestionService.status(id));
+    }
+
+    /**
+     * Prefer holds comma separated preferences, each one may carry parameters after a semicolon
+     */
+    private static boolean prefersRespondAsync(String prefer){
+        return Arrays.stream(prefer.split(","))
+                .map(preference -> preference.split(";", 2)[0].trim())
+                .anyMatch(RESPOND_ASYNC::equalsIgnoreCase);
+    }
+}
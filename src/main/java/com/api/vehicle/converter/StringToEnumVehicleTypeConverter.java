@@ -1,23 +1,84 @@
 package com.api.vehicle.converter;
 
+import com.api.vehicle.config.properties.VehicleTypeProperties;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.convert.ConversionFailedException;
 import org.springframework.core.convert.TypeDescriptor;
 import org.springframework.core.convert.converter.Converter;
 import com.api.vehicle.enums.type.EnumVehicleType;
 import org.springframework.stereotype.Component;
 
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Runs on every request filtered by type, so a valid id is parsed and looked up without boxing, without
+ * Integer.parseInt and without building an exception. Only an invalid or disabled type pays for one.
+ */
 @Component
 public class StringToEnumVehicleTypeConverter implements Converter<String, EnumVehicleType> {
 
+    private static final int INVALID_ID = -1;
+
+    /**
+     * Indexed by type id, same constant time lookup as the enum
+     */
+    private final EnumVehicleType[] enabledById;
+
+    /**
+     * Accepts every vehicle type
+     */
+    public StringToEnumVehicleTypeConverter() {
+        this(EnumSet.allOf(EnumVehicleType.class));
+    }
+
+    @Autowired
+    public StringToEnumVehicleTypeConverter(VehicleTypeProperties properties) {
+        this(properties.getEnabled());
+    }
+
+    private StringToEnumVehicleTypeConverter(Set<EnumVehicleType> enabledTypes) {
+        int maxId = 0;
+        for(EnumVehicleType vehicleType : enabledTypes){
+            maxId = Math.max(maxId, vehicleType.getId());
+        }
+
+        this.enabledById = new EnumVehicleType[maxId + 1];
+        for(EnumVehicleType vehicleType : enabledTypes){
+            this.enabledById[vehicleType.getId()] = vehicleType;
+        }
+    }
+
     @Override
     public EnumVehicleType convert(String source) {
-        try{
-            return EnumVehicleType.fromId(Integer.parseInt(source));
-        } catch (IllegalArgumentException e){
-            throw new ConversionFailedException(
-                    TypeDescriptor.valueOf(String.class),
-                    TypeDescriptor.valueOf(EnumVehicleType.class),
-                    source, e);
+        int id = parseId(source);
+        if(id >= 0 && id < this.enabledById.length && this.enabledById[id] != null){
+            return this.enabledById[id];
+        }
+
+        throw new ConversionFailedException(
+                TypeDescriptor.valueOf(String.class),
+                TypeDescriptor.valueOf(EnumVehicleType.class),
+                source, new IllegalArgumentException("Invalid id: " + source));
+    }
+
+    /**
+     * Up to nine digits so the value can't overflow, anything else is {@link #INVALID_ID}
+     */
+    private static int parseId(String source){
+        int length = source.length();
+        if(length == 0 || length > 9){
+            return INVALID_ID;
+        }
+
+        int id = 0;
+        for(int i = 0; i < length; i++){
+            char digit = source.charAt(i);
+            if(digit < '0' || digit > '9'){
+                return INVALID_ID;
+            }
+            id = id * 10 + (digit - '0');
         }
+        return id;
     }
 }
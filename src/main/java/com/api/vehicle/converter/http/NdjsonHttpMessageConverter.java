@@ -0,0 +1,84 @@
+package com.api.vehicle.converter.http;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.core.GenericTypeResolver;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Reads a newline delimited JSON body ({@code application/x-ndjson}) into a collection, one element per line, and
+ * writes a collection the same way. Only written when the client asks for NDJSON, JSON stays the default.
+ */
+public class NdjsonHttpMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+
+    private final ObjectMapper objectMapper;
+
+    public NdjsonHttpMessageConverter(ObjectMapper objectMapper) {
+        super(MediaType.APPLICATION_NDJSON);
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return Collection.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public boolean canRead(Type type, Class<?> contextClass, MediaType mediaType) {
+        return this.canRead(mediaType) && this.getJavaType(type, contextClass).isCollectionLikeType();
+    }
+
+
+    @Override
+    public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage) throws IOException {
+        JavaType elementType = this.getJavaType(type, contextClass).getContentType();
+        List<Object> elementList = new ArrayList<>();
+
+        try (MappingIterator<Object> iterator = this.objectMapper.readerFor(elementType).readValues(inputMessage.getBody())){
+            iterator.forEachRemaining(elementList::add);
+        } catch (JsonProcessingException | RuntimeException e){
+            throw new HttpMessageNotReadableException("Invalid NDJSON body: " + e.getMessage(), e, inputMessage);
+        }
+        return elementList;
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) throws IOException {
+        return this.read(clazz, null, inputMessage);
+    }
+
+    /**
+     * One element per line, each one followed by a line feed. The body is flushed once, at the end
+     */
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage) throws IOException {
+        ObjectWriter writer = this.objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        OutputStream body = StreamUtils.nonClosing(outputMessage.getBody());
+
+        for(Object element : (Collection<?>) object){
+            writer.writeValue(body, element);
+            body.write('\n');
+        }
+        body.flush();
+    }
+
+    private JavaType getJavaType(Type type, Class<?> contextClass){
+        return this.objectMapper.constructType(GenericTypeResolver.resolveType(type, contextClass));
+    }
+}
@@ -0,0 +1,25 @@
+package com.api.vehicle.converter.json;
+
+import com.api.vehicle.model.entity.attribute.AttributeDictionary;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StringDeserializer;
+
+import java.io.IOException;
+
+/**
+ * Parses a string like Jackson does and keeps the canonical instance of {@link AttributeDictionary}, the parsed
+ * copy is garbage right away instead of living as long as the vehicle that holds it
+ */
+public class CanonicalStringDeserializer extends StdScalarDeserializer<String> {
+
+    public CanonicalStringDeserializer() {
+        super(String.class);
+    }
+
+    @Override
+    public String deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+        return AttributeDictionary.canonical(StringDeserializer.instance.deserialize(parser, context));
+    }
+}
@@ -0,0 +1,25 @@
+package com.api.vehicle.datasource;
+
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import java.io.Closeable;
+
+/**
+ * The application DataSource when the replicas are enabled. The transaction manager asks for a connection before
+ * the transaction is marked read-only, the connection is only fetched from {@link ReplicaRoutingDataSource} at
+ * the first statement, when the routing can see it.
+ */
+public class LazyReplicaRoutingDataSource extends LazyConnectionDataSourceProxy implements Closeable {
+
+    private final ReplicaRoutingDataSource routingDataSource;
+
+    public LazyReplicaRoutingDataSource(ReplicaRoutingDataSource routingDataSource) {
+        super(routingDataSource);
+        this.routingDataSource = routingDataSource;
+    }
+
+    @Override
+    public void close() {
+        this.routingDataSource.close();
+    }
+}
@@ -0,0 +1,35 @@
+package com.api.vehicle.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * Marks the reads of the current thread that {@link ReplicaRoutingDataSource} sends to the primary even inside a
+ * read-only transaction. Used by the reads that fill a cache, a lagging replica would otherwise leave the row it
+ * had before the last write in the cache until the entry expires. Has no effect when the replicas are disabled.
+ */
+public final class PrimaryReads {
+
+    private static final ThreadLocal<Boolean> ACTIVE = new ThreadLocal<>();
+
+    private PrimaryReads(){}
+
+    /**
+     * Runs {@code read} with every connection it fetches taken from the primary, the transaction must start
+     * inside of it
+     */
+    public static <T> T call(Supplier<T> read){
+        if(isActive()){
+            return read.get();
+        }
+        ACTIVE.set(Boolean.TRUE);
+        try{
+            return read.get();
+        } finally {
+            ACTIVE.remove();
+        }
+    }
+
+    static boolean isActive(){
+        return Boolean.TRUE.equals(ACTIVE.get());
+    }
+}
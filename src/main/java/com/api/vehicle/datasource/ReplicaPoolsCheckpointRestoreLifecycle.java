@@ -0,0 +1,38 @@
+package com.api.vehicle.datasource;
+
+import org.springframework.boot.jdbc.HikariCheckpointRestoreLifecycle;
+import org.springframework.context.Lifecycle;
+
+import java.util.List;
+
+/**
+ * Suspends every pool of {@link ReplicaRoutingDataSource} and closes its connections before a CRaC checkpoint,
+ * then resumes them after the restore. Spring Boot only does it for the pool it configures, which the routing
+ * replaces. Pools that never opened a connection are left alone.
+ */
+public class ReplicaPoolsCheckpointRestoreLifecycle implements Lifecycle {
+
+    private final List<HikariCheckpointRestoreLifecycle> pools;
+    private List<HikariCheckpointRestoreLifecycle> stoppedPools = List.of();
+
+    public ReplicaPoolsCheckpointRestoreLifecycle(ReplicaRoutingDataSource routingDataSource) {
+        this.pools = routingDataSource.getPools().stream().map(HikariCheckpointRestoreLifecycle::new).toList();
+    }
+
+    @Override
+    public void start() {
+        this.stoppedPools.forEach(HikariCheckpointRestoreLifecycle::start);
+        this.stoppedPools = List.of();
+    }
+
+    @Override
+    public void stop() {
+        this.stoppedPools = this.pools.stream().filter(HikariCheckpointRestoreLifecycle::isRunning).toList();
+        this.stoppedPools.forEach(HikariCheckpointRestoreLifecycle::stop);
+    }
+
+    @Override
+    public boolean isRunning() {
+        return this.pools.stream().anyMatch(HikariCheckpointRestoreLifecycle::isRunning);
+    }
+}
@@ -0,0 +1,130 @@
+package com.api.vehicle.datasource;
+
+import com.api.vehicle.enums.datasource.EnumReplicaSelection;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.Closeable;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends read-only transactions to one of the read replicas and everything else to the primary.
+ * The transaction must be known when the connection is fetched, so this is used behind
+ * {@link LazyReplicaRoutingDataSource}.
+ * With a stickiness window every read goes to the primary for a while after a write transaction commits, the
+ * service has no client sessions so the window is shared by every client.
+ * The reads inside {@link PrimaryReads#call} always go to the primary.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements Closeable {
+
+    static final String PRIMARY = "primary";
+
+    private final HikariDataSource primary;
+    private final List<HikariDataSource> replicas;
+    private final EnumReplicaSelection selection;
+    private final long stickinessNanos;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+
+    private volatile long lastWriteNanos;
+
+    public ReplicaRoutingDataSource(HikariDataSource primary, List<HikariDataSource> replicas,
+                                    EnumReplicaSelection selection, Duration stickiness) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        this.selection = selection;
+        this.stickinessNanos = stickiness.toNanos();
+        this.lastWriteNanos = System.nanoTime() - this.stickinessNanos - 1;
+
+        Map<Object, Object> targetDataSources = new HashMap<>();
+        targetDataSources.put(PRIMARY, primary);
+        for(int index = 0; index < this.replicas.size(); index++){
+            targetDataSources.put(index, this.replicas.get(index));
+        }
+        this.setTargetDataSources(targetDataSources);
+        this.setDefaultTargetDataSource(primary);
+        this.afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if(!TransactionSynchronizationManager.isCurrentTransactionReadOnly()){
+            this.recordWriteOnCommit();
+            return PRIMARY;
+        }
+        if(this.replicas.isEmpty() || PrimaryReads.isActive()
+                || System.nanoTime() - this.lastWriteNanos <= this.stickinessNanos){
+            return PRIMARY;
+        }
+        return switch (this.selection) {
+            case ROUND_ROBIN -> Math.floorMod(this.nextReplica.getAndIncrement(), this.replicas.size());
+            case LEAST_CONNECTIONS -> this.leastConnectionsReplica();
+        };
+    }
+
+    /**
+     * Ties are broken in turn, so idle replicas still share the load
+     */
+    private int leastConnectionsReplica(){
+        int start = this.nextReplica.getAndIncrement();
+        int selected = 0;
+        int fewestConnections = Integer.MAX_VALUE;
+
+        for(int offset = 0; offset < this.replicas.size(); offset++){
+            int index = Math.floorMod(start + offset, this.replicas.size());
+            int connections = activeConnections(this.replicas.get(index));
+            if(connections < fewestConnections){
+                selected = index;
+                fewestConnections = connections;
+            }
+        }
+        return selected;
+    }
+
+    /**
+     * Only transactions that may write start the window, and only once they commit
+     */
+    private void recordWriteOnCommit(){
+        if(this.stickinessNanos > 0 && TransactionSynchronizationManager.isSynchronizationActive()
+                && TransactionSynchronizationManager.isActualTransactionActive()){
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    lastWriteNanos = System.nanoTime();
+                }
+            });
+        }
+    }
+
+    /**
+     * The pool is only started by its first connection, until then nothing is in use
+     */
+    private static int activeConnections(HikariDataSource dataSource){
+        HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+        return Objects.isNull(pool) ? 0 : pool.getActiveConnections();
+    }
+
+    /**
+     * The primary pool followed by the replica pools
+     */
+    public List<HikariDataSource> getPools(){
+        List<HikariDataSource> pools = new ArrayList<>(this.replicas.size() + 1);
+        pools.add(this.primary);
+        pools.addAll(this.replicas);
+        return pools;
+    }
+
+    @Override
+    public void close() {
+        this.replicas.forEach(HikariDataSource::close);
+        this.primary.close();
+    }
+}
@@ -0,0 +1,8 @@
+package com.api.vehicle.enums.bulk;
+
+public enum EnumBulkItemStatus {
+    CREATED,
+    UPDATED,
+    NOT_FOUND,
+    FAILED
+}
@@ -0,0 +1,17 @@
+package com.api.vehicle.enums.datasource;
+
+/**
+ * How a read replica is picked for a read-only transaction.
+ */
+public enum EnumReplicaSelection {
+
+    /**
+     * Each replica in turn.
+     */
+    ROUND_ROBIN,
+
+    /**
+     * The replica whose pool has the fewest connections in use, a slow replica gets less traffic.
+     */
+    LEAST_CONNECTIONS
+}
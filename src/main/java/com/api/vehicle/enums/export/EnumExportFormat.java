@@ -0,0 +1,17 @@
+package com.api.vehicle.enums.export;
+
+import lombok.Getter;
+import org.springframework.http.MediaType;
+
+@Getter
+public enum EnumExportFormat {
+
+    NDJSON(MediaType.APPLICATION_NDJSON),
+    CSV(new MediaType("text", "csv"));
+
+    private final MediaType mediaType;
+
+    EnumExportFormat(MediaType mediaType){
+        this.mediaType = mediaType;
+    }
+}
@@ -0,0 +1,22 @@
+package com.api.vehicle.enums.ingestion;
+
+/**
+ * Where a vehicle accepted with {@code Prefer: respond-async} is.
+ */
+public enum EnumIngestionStatus {
+
+    /**
+     * Journaled and waiting for its batch to be written.
+     */
+    PENDING,
+
+    /**
+     * Written, it can be read like any other vehicle.
+     */
+    COMMITTED,
+
+    /**
+     * Rejected by the database, for example a plate already registered. It will not be written.
+     */
+    FAILED
+}
@@ -0,0 +1,22 @@
+package com.api.vehicle.enums.page;
+
+/**
+ * How the totals of a page are computed.
+ */
+public enum EnumPageTotals {
+
+    /**
+     * No totals, the page is read as a slice and no count query is issued.
+     */
+    NONE,
+
+    /**
+     * Exact totals from a count query.
+     */
+    EXACT,
+
+    /**
+     * Approximated totals from database statistics or a cached counter.
+     */
+    ESTIMATED
+}
@@ -2,24 +2,52 @@ package com.api.vehicle.enums.type;
 
 import lombok.Getter;
 
-import java.util.stream.Stream;
-
 @Getter
 public enum EnumVehicleType {
 
     CAR(1),
-    MOTORCYCLE(2);
+    MOTORCYCLE(2),
+    TRUCK(3),
+    BUS(4),
+    VAN(5);
+
+    /**
+     * Indexed by id, built once so that a lookup is an array access without cloning values()
+     */
+    private static final EnumVehicleType[] BY_ID = buildLookupTable();
 
-    private final Integer id;
+    private final int id;
 
-    EnumVehicleType(Integer id){
+    EnumVehicleType(int id){
         this.id = id;
     }
 
-    public static EnumVehicleType fromId(Integer pId){
-        return Stream.of(values())
-                .filter(item -> item.id.equals(pId))
-                .findFirst()
-                .orElseThrow(() -> new IllegalArgumentException("Invalid id: " + pId));
+    public static EnumVehicleType fromId(int pId){
+        EnumVehicleType vehicleType = findById(pId);
+        if(vehicleType == null){
+            throw new IllegalArgumentException("Invalid id: " + pId);
+        }
+        return vehicleType;
+    }
+
+    /**
+     * Same lookup as {@link #fromId(int)} for the callers that handle an unknown id themselves, returns null instead
+     * of building an exception
+     */
+    public static EnumVehicleType findById(int pId){
+        return pId >= 0 && pId < BY_ID.length ? BY_ID[pId] : null;
+    }
+
+    private static EnumVehicleType[] buildLookupTable(){
+        int maxId = 0;
+        for(EnumVehicleType vehicleType : values()){
+            maxId = Math.max(maxId, vehicleType.id);
+        }
+
+        EnumVehicleType[] byId = new EnumVehicleType[maxId + 1];
+        for(EnumVehicleType vehicleType : values()){
+            byId[vehicleType.id] = vehicleType;
+        }
+        return byId;
     }
 }
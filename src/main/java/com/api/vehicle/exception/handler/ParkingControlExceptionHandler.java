@@ -3,9 +3,16 @@ package com.api.vehicle.exception.handler;
 import com.api.vehicle.exception.details.ExceptionDetails;
 import com.api.vehicle.exception.details.FieldErrorsExceptionDetails;
 import com.api.vehicle.exception.response.BadRequestException;
+import com.api.vehicle.exception.response.ConflictException;
 import com.api.vehicle.exception.response.InternalServerErrorException;
+import com.api.vehicle.exception.response.InvalidFieldsException;
 import com.api.vehicle.exception.response.NotFoundException;
+import com.api.vehicle.exception.response.PreconditionFailedException;
+import com.api.vehicle.exception.response.ServiceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.beans.TypeMismatchException;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
@@ -28,8 +35,16 @@ public class ParkingControlExceptionHandler extends ResponseEntityExceptionHandl
 
     private static final String DEFAULT_DETAIL = "The operation could not be performed.";
 
+    private final MeterRegistry meterRegistry;
+
+    @Autowired
+    public ParkingControlExceptionHandler(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
     @ExceptionHandler(InternalServerErrorException.class)
     public ResponseEntity<ExceptionDetails> handlerInternalServerErrorException(InternalServerErrorException e){
+        this.count(e, HttpStatus.INTERNAL_SERVER_ERROR);
         return new ResponseEntity<>(ExceptionDetails.builder()
                 .title("Internal Server Error Exception")
                 .status(HttpStatus.INTERNAL_SERVER_ERROR.value())
@@ -40,6 +55,7 @@ public class ParkingControlExceptionHandler extends ResponseEntityExceptionHandl
 
     @ExceptionHandler(BadRequestException.class)
     public ResponseEntity<ExceptionDetails> handlerBadRequestException(BadRequestException e){
+        this.count(e, HttpStatus.BAD_REQUEST);
         return new ResponseEntity<>(ExceptionDetails.builder()
                 .title("Bad Request Exception")
                 .status(HttpStatus.BAD_REQUEST.value())
@@ -48,8 +64,21 @@ public class ParkingControlExceptionHandler extends ResponseEntityExceptionHandl
                 .build(), HttpStatus.BAD_REQUEST);
     }
 
+    @ExceptionHandler(InvalidFieldsException.class)
+    public ResponseEntity<FieldErrorsExceptionDetails> handlerInvalidFieldsException(InvalidFieldsException e){
+        this.count(e, HttpStatus.BAD_REQUEST);
+        return new ResponseEntity<>(FieldErrorsExceptionDetails.builder()
+                .title("Invalid Fields Exception")
+                .status(HttpStatus.BAD_REQUEST.value())
+                .details(Objects.isNull(e.getMessage()) ? DEFAULT_DETAIL : e.getMessage())
+                .fieldError(e.getFieldError())
+                .timestamp(LocalDateTime.now())
+                .build(), HttpStatus.BAD_REQUEST);
+    }
+
     @ExceptionHandler(NotFoundException.class)
     public ResponseEntity<ExceptionDetails> handlerNotFoundException(NotFoundException e){
+        this.count(e, HttpStatus.NOT_FOUND);
         return new ResponseEntity<>(ExceptionDetails.builder()
                 .title("Not Found Exception")
                 .status(HttpStatus.NOT_FOUND.value())
@@ -58,8 +87,44 @@ public class ParkingControlExceptionHandler extends ResponseEntityExceptionHandl
                 .build(), HttpStatus.NOT_FOUND);
     }
 
+    @ExceptionHandler(ConflictException.class)
+    public ResponseEntity<ExceptionDetails> handlerConflictException(ConflictException e){
+        this.count(e, HttpStatus.CONFLICT);
+        return new ResponseEntity<>(ExceptionDetails.builder()
+                .title("Conflict Exception")
+                .status(HttpStatus.CONFLICT.value())
+                .details(Objects.isNull(e.getMessage()) ? DEFAULT_DETAIL : e.getMessage())
+                .timestamp(LocalDateTime.now())
+                .build(), HttpStatus.CONFLICT);
+    }
+
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<ExceptionDetails> handlerPreconditionFailedException(PreconditionFailedException e){
+        this.count(e, HttpStatus.PRECONDITION_FAILED);
+        return new ResponseEntity<>(ExceptionDetails.builder()
+                .title("Precondition Failed Exception")
+                .status(HttpStatus.PRECONDITION_FAILED.value())
+                .details(Objects.isNull(e.getMessage()) ? DEFAULT_DETAIL : e.getMessage())
+                .timestamp(LocalDateTime.now())
+                .build(), HttpStatus.PRECONDITION_FAILED);
+    }
+
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<ExceptionDetails> handlerServiceUnavailableException(ServiceUnavailableException e){
+        this.count(e, HttpStatus.SERVICE_UNAVAILABLE);
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(ExceptionDetails.builder()
+                        .title("Service Unavailable Exception")
+                        .status(HttpStatus.SERVICE_UNAVAILABLE.value())
+                        .details(Objects.isNull(e.getMessage()) ? DEFAULT_DETAIL : e.getMessage())
+                        .timestamp(LocalDateTime.now())
+                        .build());
+    }
+
     @Override
     protected ResponseEntity<Object> handleTypeMismatch(TypeMismatchException e, HttpHeaders headers, HttpStatusCode status, WebRequest request){
+        this.count(e, status);
         ExceptionDetails details = ExceptionDetails.builder()
                 .title("Type Mismatch Exception")
                 .status(status.value())
@@ -73,6 +138,7 @@ public class ParkingControlExceptionHandler extends ResponseEntityExceptionHandl
     @Override
     protected ResponseEntity<Object> handleMethodArgumentNotValid(MethodArgumentNotValidException e, HttpHeaders headers,
                                                                   HttpStatusCode status, WebRequest request) {
+        this.count(e, status);
 
         List<FieldError> fieldErrorList = e.getBindingResult().getFieldErrors();
         Map<String, String> fieldErrorMap = new HashMap<>();
@@ -89,4 +155,16 @@ public class ParkingControlExceptionHandler extends ResponseEntityExceptionHandl
 
         return this.handleExceptionInternal(e, details, headers, status, request);
     }
+
+    /**
+     * Meters are looked up by name and tags, so only the first exception of each type and status registers one
+     */
+    private void count(Exception e, HttpStatusCode status){
+        Counter.builder("vehicle.exceptions")
+                .description("Exceptions answered by the exception handler")
+                .tag("exception", e.getClass().getSimpleName())
+                .tag("status", String.valueOf(status.value()))
+                .register(this.meterRegistry)
+                .increment();
+    }
 }
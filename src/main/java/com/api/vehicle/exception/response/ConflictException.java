@@ -0,0 +1,7 @@
+package com.api.vehicle.exception.response;
+
+public class ConflictException extends RuntimeException{
+    public ConflictException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,19 @@
+package com.api.vehicle.exception.response;
+
+import lombok.Getter;
+
+import java.util.Map;
+
+@Getter
+public class InvalidFieldsException extends RuntimeException {
+
+    /**
+     * Stores the field name and its respective error message
+     */
+    private final Map<String, String> fieldError;
+
+    public InvalidFieldsException(String message, Map<String, String> fieldError) {
+        super(message);
+        this.fieldError = fieldError;
+    }
+}
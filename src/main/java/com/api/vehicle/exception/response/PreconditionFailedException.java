@@ -0,0 +1,7 @@
+package com.api.vehicle.exception.response;
+
+public class PreconditionFailedException extends RuntimeException{
+    public PreconditionFailedException(String message) {
+        super(message);
+    }
+}
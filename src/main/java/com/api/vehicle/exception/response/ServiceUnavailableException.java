@@ -0,0 +1,7 @@
+package com.api.vehicle.exception.response;
+
+public class ServiceUnavailableException extends RuntimeException{
+    public ServiceUnavailableException(String message) {
+        super(message);
+    }
+}
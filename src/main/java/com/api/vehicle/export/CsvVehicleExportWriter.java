@@ -0,0 +1,60 @@
+package com.api.vehicle.export;
+
+import com.api.vehicle.model.dto.VehicleDto;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * RFC 4180 CSV with a header line
+ */
+public class CsvVehicleExportWriter implements VehicleExportWriter {
+
+    private static final String HEADER = "id,brand,model,color,plate,type";
+
+    private final Writer writer;
+
+    public CsvVehicleExportWriter(OutputStream outputStream) throws IOException {
+        this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        this.writer.write(HEADER);
+        this.writer.write("\r\n");
+    }
+
+    @Override
+    public void write(VehicleDto vehicleDto) throws IOException {
+        this.writer.write(String.valueOf(vehicleDto.getId()));
+        this.writer.write(',');
+        this.writeText(vehicleDto.getBrand());
+        this.writer.write(',');
+        this.writeText(vehicleDto.getModel());
+        this.writer.write(',');
+        this.writeText(vehicleDto.getColor());
+        this.writer.write(',');
+        this.writeText(vehicleDto.getPlate());
+        this.writer.write(',');
+        this.writer.write(Integer.toString(vehicleDto.getType()));
+        this.writer.write("\r\n");
+    }
+
+    @Override
+    public void finish() throws IOException {
+        this.writer.flush();
+    }
+
+    private void writeText(String value) throws IOException {
+        if(value == null){
+            return;
+        }
+        if(value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0){
+            this.writer.write(value);
+            return;
+        }
+        this.writer.write('"');
+        this.writer.write(value.replace("\"", "\"\""));
+        this.writer.write('"');
+    }
+}
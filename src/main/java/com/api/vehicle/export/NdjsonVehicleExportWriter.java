@@ -0,0 +1,36 @@
+package com.api.vehicle.export;
+
+import com.api.vehicle.model.dto.VehicleDto;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * One JSON document per line
+ */
+public class NdjsonVehicleExportWriter implements VehicleExportWriter {
+
+    private final JsonGenerator generator;
+    private final ObjectWriter writer;
+
+    public NdjsonVehicleExportWriter(OutputStream outputStream, ObjectMapper objectMapper) throws IOException {
+        this.generator = objectMapper.getFactory().createGenerator(outputStream)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .setRootValueSeparator(null);
+        this.writer = objectMapper.writerFor(VehicleDto.class);
+    }
+
+    @Override
+    public void write(VehicleDto vehicleDto) throws IOException {
+        this.writer.writeValue(this.generator, vehicleDto);
+        this.generator.writeRaw('\n');
+    }
+
+    @Override
+    public void finish() throws IOException {
+        this.generator.flush();
+    }
+}
@@ -0,0 +1,28 @@
+package com.api.vehicle.export;
+
+import com.api.vehicle.enums.export.EnumExportFormat;
+import com.api.vehicle.model.dto.VehicleDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Writes exported vehicles one by one to the response, nothing is kept after a vehicle is written.
+ */
+public interface VehicleExportWriter {
+
+    void write(VehicleDto vehicleDto) throws IOException;
+
+    /**
+     * Flushes the buffered vehicles without closing the response stream
+     */
+    void finish() throws IOException;
+
+    static VehicleExportWriter of(EnumExportFormat format, OutputStream outputStream, ObjectMapper objectMapper) throws IOException {
+        return switch (format) {
+            case NDJSON -> new NdjsonVehicleExportWriter(outputStream, objectMapper);
+            case CSV -> new CsvVehicleExportWriter(outputStream);
+        };
+    }
+}
@@ -0,0 +1,109 @@
+package com.api.vehicle.filter;
+
+import com.api.vehicle.config.properties.ConcurrencyProperties;
+import com.api.vehicle.exception.details.ExceptionDetails;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * On platform threads the Tomcat pool bounds how many requests reach the database. Virtual threads remove that bound,
+ * so every blocked request would park inside the connection pool until its connection timeout. This filter keeps
+ * the same bound with a semaphore and answers 503 once a request has waited too long for a slot.
+ * An asynchronous request, such as an export streamed by a {@code StreamingResponseBody}, keeps its slot until the
+ * async processing completes, since it still reads the database after the first dispatch returns.
+ */
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private final Semaphore permits;
+    private final long acquireTimeoutNanos;
+    private final ObjectMapper objectMapper;
+
+    @Autowired
+    public ConcurrencyLimitFilter(ConcurrencyProperties properties, ObjectMapper objectMapper) {
+        this.permits = new Semaphore(properties.getMaxInFlight(), true);
+        this.acquireTimeoutNanos = properties.getAcquireTimeout().toNanos();
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        boolean acquired;
+        try{
+            acquired = this.permits.tryAcquire(this.acquireTimeoutNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e){
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+
+        if(!acquired){
+            this.rejectRequest(response);
+            return;
+        }
+
+        try{
+            filterChain.doFilter(request, response);
+        } finally {
+            if(request.isAsyncStarted()){
+                request.getAsyncContext().addListener(new PermitReleasingListener());
+            } else {
+                this.permits.release();
+            }
+        }
+    }
+
+    private void rejectRequest(HttpServletResponse response) throws IOException {
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        this.objectMapper.writeValue(response.getOutputStream(), ExceptionDetails.builder()
+                .title("Service Unavailable Exception")
+                .status(HttpStatus.SERVICE_UNAVAILABLE.value())
+                .details("Too many requests in progress, please try again later.")
+                .timestamp(LocalDateTime.now())
+                .build());
+    }
+
+    /**
+     * Completion is signalled after a timeout or an error as well, so the slot is released only there
+     */
+    private class PermitReleasingListener implements AsyncListener {
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            ConcurrencyLimitFilter.this.permits.release();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {}
+
+        @Override
+        public void onError(AsyncEvent event) {}
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            event.getAsyncContext().addListener(this);
+        }
+    }
+}
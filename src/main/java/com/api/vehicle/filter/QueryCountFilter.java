@@ -0,0 +1,122 @@
+package com.api.vehicle.filter;
+
+import com.api.vehicle.config.properties.QueryCountProperties;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import net.ttddyy.dsproxy.QueryCount;
+import net.ttddyy.dsproxy.QueryCountHolder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Counts the SQL statements of each request through the proxy of {@link com.api.vehicle.config.DataSourceProxyConfig}
+ * and records them as {@code vehicle.request.queries} and {@code vehicle.request.query.time}, tagged by method and uri.
+ * With {@code vehicle.query-count.headers} they are also sent as the X-Query-Count and X-Query-Time (ms) headers,
+ * set right before the body is written since the response is committed by then.
+ * Statements run on other threads, like the streaming of an export, are not counted.
+ */
+@Component
+public class QueryCountFilter extends OncePerRequestFilter {
+
+    public static final String QUERY_COUNT_HEADER = "X-Query-Count";
+    public static final String QUERY_TIME_HEADER = "X-Query-Time";
+
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    private final MeterRegistry meterRegistry;
+    private final boolean headers;
+
+    @Autowired
+    public QueryCountFilter(MeterRegistry meterRegistry, QueryCountProperties properties) {
+        this.meterRegistry = meterRegistry;
+        this.headers = properties.isHeaders();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        QueryCountHolder.clear();
+        try{
+            filterChain.doFilter(request, this.headers ? new QueryCountHeadersResponse(response) : response);
+        } finally {
+            QueryCount queryCount = QueryCountHolder.getGrandTotal();
+            if(this.headers && !response.isCommitted()){
+                setHeaders(response, queryCount);
+            }
+            this.record(request, queryCount);
+            QueryCountHolder.clear();
+        }
+    }
+
+    private void record(HttpServletRequest request, QueryCount queryCount){
+        Object uri = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        Tags tags = Tags.of("method", request.getMethod(), "uri", Objects.isNull(uri) ? UNKNOWN_URI : uri.toString());
+
+        DistributionSummary.builder("vehicle.request.queries")
+                .description("SQL statements run by a request")
+                .baseUnit("statements")
+                .tags(tags)
+                .register(this.meterRegistry)
+                .record(queryCount.getTotal());
+        Timer.builder("vehicle.request.query.time")
+                .description("Time a request spent running SQL statements")
+                .tags(tags)
+                .register(this.meterRegistry)
+                .record(queryCount.getTime(), TimeUnit.MILLISECONDS);
+    }
+
+    private static void setHeaders(HttpServletResponse response, QueryCount queryCount){
+        response.setHeader(QUERY_COUNT_HEADER, String.valueOf(queryCount.getTotal()));
+        response.setHeader(QUERY_TIME_HEADER, String.valueOf(queryCount.getTime()));
+    }
+
+    /**
+     * Sets the headers with the statements run so far when the body is about to be written
+     */
+    private static class QueryCountHeadersResponse extends HttpServletResponseWrapper {
+
+        QueryCountHeadersResponse(HttpServletResponse response) {
+            super(response);
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            this.beforeCommit();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            this.beforeCommit();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            this.beforeCommit();
+            super.flushBuffer();
+        }
+
+        private void beforeCommit(){
+            if(!this.isCommitted()){
+                setHeaders((HttpServletResponse) this.getResponse(), QueryCountHolder.getGrandTotal());
+            }
+        }
+    }
+}
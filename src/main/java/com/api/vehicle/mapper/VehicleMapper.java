@@ -3,6 +3,10 @@ package com.api.vehicle.mapper;
 import com.api.vehicle.model.dto.VehicleDto;
 import com.api.vehicle.model.entity.VehicleEntity;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
+
+import java.util.List;
 
 @Mapper(componentModel = "spring")
 public interface VehicleMapper {
@@ -10,4 +14,12 @@ public interface VehicleMapper {
     VehicleEntity dtoToEntity(VehicleDto dto);
 
     VehicleDto entityToDto(VehicleEntity entity);
+
+    List<VehicleDto> entityListToDtoList(List<VehicleEntity> entityList);
+
+    List<VehicleEntity> dtoListToEntityList(List<VehicleDto> dtoList);
+
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "version", ignore = true)
+    void updateEntity(VehicleDto dto, @MappingTarget VehicleEntity entity);
 }
@@ -3,6 +3,7 @@ package com.api.vehicle.mapper.page;
 import com.api.vehicle.model.dto.page.ResponsePageDto;
 import org.mapstruct.Mapping;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 public interface BasePageMapper<U, T>{
 
@@ -12,4 +13,14 @@ public interface BasePageMapper<U, T>{
     @Mapping(source = "totalElements", target = "totalItems")
     @Mapping(source = "content", target = "listContent")
     ResponsePageDto<U> pageEntityToPageDto(Page<T> pageEntity);
+
+    /**
+     * Totals are left null, a slice does not know them
+     */
+    @Mapping(source = "number", target = "currentPage")
+    @Mapping(source = "size", target = "pageSize")
+    @Mapping(target = "totalPages", ignore = true)
+    @Mapping(target = "totalItems", ignore = true)
+    @Mapping(source = "content", target = "listContent")
+    ResponsePageDto<U> sliceEntityToPageDto(Slice<T> sliceEntity);
 }
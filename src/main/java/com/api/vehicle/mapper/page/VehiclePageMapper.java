@@ -1,10 +1,12 @@
 package com.api.vehicle.mapper.page;
 
 import com.api.vehicle.model.dto.VehicleDto;
-import com.api.vehicle.model.entity.VehicleEntity;
 import org.mapstruct.Mapper;
 
+/**
+ * The list queries already project into VehicleDto, only the page metadata is mapped
+ */
 @Mapper(componentModel = "spring")
-public interface VehiclePageMapper extends BasePageMapper<VehicleDto, VehicleEntity> {
+public interface VehiclePageMapper extends BasePageMapper<VehicleDto, VehicleDto> {
 
 }
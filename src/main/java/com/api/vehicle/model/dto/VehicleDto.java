@@ -1,34 +1,56 @@
 package com.api.vehicle.model.dto;
 
+import com.api.vehicle.converter.json.CanonicalStringDeserializer;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Positive;
-import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.experimental.SuperBuilder;
 
 import java.util.UUID;
 
+/**
+ * The all-args constructor is the projection of the list queries of VehicleRepository, keep its order in sync.
+ * Brand, model and color hold the canonical instances of {@link com.api.vehicle.model.entity.attribute.AttributeDictionary}
+ * whether read from the database or parsed from a request.
+ */
 @Data
 @SuperBuilder
+@AllArgsConstructor
 @NoArgsConstructor
 public class VehicleDto {
 
     private UUID id;
 
     @NotBlank
+    @JsonDeserialize(using = CanonicalStringDeserializer.class)
     private String brand;
 
     @NotBlank
+    @JsonDeserialize(using = CanonicalStringDeserializer.class)
     private String model;
 
     @NotBlank
+    @JsonDeserialize(using = CanonicalStringDeserializer.class)
     private String color;
 
+    /**
+     * Seven letters or digits, a separator after the third one is accepted and removed when stored
+     */
     @NotBlank
-    @Size(min = 7, max = 7)
+    @Pattern(regexp = "[A-Za-z0-9]{3}[- ]?[A-Za-z0-9]{4}")
     private String plate;
 
     @Positive
     private int type;
+
+    /**
+     * Travels in the ETag and If-Match headers instead of the body, null when it is not known
+     */
+    @JsonIgnore
+    private Long version;
 }
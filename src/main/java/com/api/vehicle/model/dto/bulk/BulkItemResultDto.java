@@ -0,0 +1,27 @@
+package com.api.vehicle.model.dto.bulk;
+
+import com.api.vehicle.enums.bulk.EnumBulkItemStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+import java.util.UUID;
+
+/**
+ * Outcome of one vehicle of a bulk request
+ */
+@Data
+@SuperBuilder
+@AllArgsConstructor
+@NoArgsConstructor
+public class BulkItemResultDto {
+
+    /**
+     * Position of the vehicle in the request body
+     */
+    private int index;
+    private UUID id;
+    private EnumBulkItemStatus status;
+    private String details;
+}
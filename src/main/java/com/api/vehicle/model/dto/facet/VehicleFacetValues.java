@@ -0,0 +1,8 @@
+package com.api.vehicle.model.dto.facet;
+
+import java.util.UUID;
+
+/**
+ * The columns of a vehicle the facet index is built from, read without the model and the plate
+ */
+public record VehicleFacetValues(UUID id, int type, String brand, String color) {}
@@ -0,0 +1,28 @@
+package com.api.vehicle.model.dto.facet;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+import java.util.Map;
+
+/**
+ * Counts of the vehicles matching every filter of the request, in total and by value of each facet. Values
+ * without any matching vehicle are left out.
+ */
+@Data
+@SuperBuilder
+@AllArgsConstructor
+@NoArgsConstructor
+public class VehicleFacetsDto {
+
+    private long total;
+
+    /**
+     * Keyed by type id
+     */
+    private Map<Integer, Long> type;
+    private Map<String, Long> brand;
+    private Map<String, Long> color;
+}
@@ -0,0 +1,27 @@
+package com.api.vehicle.model.dto.ingestion;
+
+import com.api.vehicle.enums.ingestion.EnumIngestionStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+import java.util.UUID;
+
+/**
+ * Status of a vehicle accepted for asynchronous ingestion
+ */
+@Data
+@SuperBuilder
+@AllArgsConstructor
+@NoArgsConstructor
+public class IngestionStatusDto {
+
+    private UUID id;
+    private EnumIngestionStatus status;
+
+    /**
+     * Why the vehicle failed, empty otherwise
+     */
+    private String details;
+}
@@ -0,0 +1,22 @@
+package com.api.vehicle.model.dto.page;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+/**
+ * Keyset (seek) page. It has no totals, the client follows {@code nextCursor} until it is null.
+ */
+@EqualsAndHashCode(callSuper = true)
+@Data
+@SuperBuilder
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CursorPageDto<T> extends ResponsePageDto<T> {
+    /**
+     * Opaque token of the last returned vehicle, null when there are no more pages
+     */
+    private String nextCursor;
+}
@@ -0,0 +1,38 @@
+package com.api.vehicle.model.dto.page;
+
+import com.api.vehicle.model.dto.VehicleDto;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Position of the last seen vehicle in the (type, id) ordering used by the keyset queries.
+ */
+public record VehicleCursor(int type, UUID id) {
+
+    private static final char SEPARATOR = ':';
+
+    public static VehicleCursor of(VehicleDto dto){
+        return new VehicleCursor(dto.getType(), dto.getId());
+    }
+
+    public String encode(){
+        String raw = this.type + String.valueOf(SEPARATOR) + this.id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws IllegalArgumentException when the token was not produced by {@link #encode()}
+     */
+    public static VehicleCursor decode(String cursor){
+        try{
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            return new VehicleCursor(Integer.parseInt(raw.substring(0, separator)),
+                    UUID.fromString(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e){
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+    }
+}
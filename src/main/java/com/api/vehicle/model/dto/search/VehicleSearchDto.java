@@ -0,0 +1,39 @@
+package com.api.vehicle.model.dto.search;
+
+import com.api.vehicle.enums.type.EnumVehicleType;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+/**
+ * Filters of the vehicle search, the ones left empty are not applied and the others are combined with AND
+ */
+@Data
+@SuperBuilder
+@AllArgsConstructor
+@NoArgsConstructor
+public class VehicleSearchDto {
+
+    /**
+     * Text contained in the brand, case insensitive
+     */
+    private String brand;
+
+    /**
+     * Text contained in the model, case insensitive
+     */
+    private String model;
+
+    /**
+     * Text contained in the color, case insensitive
+     */
+    private String color;
+
+    /**
+     * Beginning of the plate, normalized like the stored plates
+     */
+    private String plate;
+
+    private EnumVehicleType type;
+}
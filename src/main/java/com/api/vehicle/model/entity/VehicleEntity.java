@@ -1,33 +1,51 @@
 package com.api.vehicle.model.entity;
 
+import com.api.vehicle.model.entity.attribute.CanonicalStringConverter;
+import com.api.vehicle.model.entity.id.TimeOrderedUuid;
+import com.api.vehicle.model.entity.plate.PlateNormalizer;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.io.Serializable;
 import java.util.UUID;
 
+/**
+ * Not kept in the second-level cache. The update and delete queries of
+ * {@link com.api.vehicle.repository.VehicleRepository} are bulk statements and Hibernate would evict the whole
+ * entity region on each one, the vehicles read by id and plate are cached by the vehicle service instead.
+ */
 @Entity
 @SuperBuilder
 @AllArgsConstructor
 @NoArgsConstructor
 @Data
-@Table(name = "tb_vehicle")
+@Table(name = "tb_vehicle", indexes = {
+        @Index(name = "idx_vehicle_type_id", columnList = "type, id")
+}, uniqueConstraints = {
+        @UniqueConstraint(name = VehicleEntity.UK_PLATE, columnNames = "plate")
+})
 public class VehicleEntity implements Serializable {
 
+    public static final String UK_PLATE = "uk_vehicle_plate";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    @TimeOrderedUuid
     private UUID id;
 
     @Column(name="brand", nullable = false)
+    @Convert(converter = CanonicalStringConverter.class)
     private String brand;
 
     @Column(name="model", nullable = false)
+    @Convert(converter = CanonicalStringConverter.class)
     private String model;
 
     @Column(name="color", nullable = false)
+    @Convert(converter = CanonicalStringConverter.class)
     private String color;
 
     @Column(name="plate", nullable = false, length = 7)
@@ -35,4 +53,19 @@ public class VehicleEntity implements Serializable {
 
     @Column(name="type", nullable = false)
     private int type;
+
+    /**
+     * Incremented on every update and exposed as the ETag of the vehicle. The default lets the column be added
+     * to a table that already has rows and keeps the rows inserted by plain SQL valid.
+     */
+    @Version
+    @ColumnDefault("0")
+    @Column(name="version", nullable = false)
+    private Long version;
+
+    @PrePersist
+    @PreUpdate
+    void normalizePlate(){
+        this.plate = PlateNormalizer.normalize(this.plate);
+    }
 }
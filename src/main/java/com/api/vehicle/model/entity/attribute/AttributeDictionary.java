@@ -0,0 +1,35 @@
+package com.api.vehicle.model.entity.attribute;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.util.Objects;
+
+/**
+ * Canonical instances of the low cardinality attributes of a vehicle (brand, model and color), so that the
+ * vehicles read from the database or parsed from a request share one String per distinct value instead of holding
+ * one copy each. Bounded by a Caffeine cache, whose frequency based eviction keeps the values in use and drops the
+ * ones seen once, so a flood of distinct values can not grow the heap nor push the real values out for good.
+ * The maintenance runs on the calling thread, no task is handed to the common pool.
+ */
+public final class AttributeDictionary {
+
+    static final int MAXIMUM_SIZE = 100_000;
+
+    private static final Cache<String, String> CANONICAL = Caffeine.newBuilder()
+            .maximumSize(MAXIMUM_SIZE)
+            .executor(Runnable::run)
+            .build();
+
+    private AttributeDictionary(){}
+
+    /**
+     * @return the instance kept for an equal value, or the value itself when it is the first one
+     */
+    public static String canonical(String value){
+        if(Objects.isNull(value)){
+            return null;
+        }
+        return CANONICAL.get(value, key -> key);
+    }
+}
@@ -0,0 +1,22 @@
+package com.api.vehicle.model.entity.attribute;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * Stored as read, the String built by the JDBC driver for each row is swapped for the canonical one of
+ * {@link AttributeDictionary}. Also applies to the DTO projections that select the attribute.
+ */
+@Converter
+public class CanonicalStringConverter implements AttributeConverter<String, String> {
+
+    @Override
+    public String convertToDatabaseColumn(String attribute) {
+        return attribute;
+    }
+
+    @Override
+    public String convertToEntityAttribute(String dbData) {
+        return AttributeDictionary.canonical(dbData);
+    }
+}
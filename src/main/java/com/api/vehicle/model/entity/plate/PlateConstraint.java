@@ -0,0 +1,21 @@
+package com.api.vehicle.model.entity.plate;
+
+import com.api.vehicle.model.entity.VehicleEntity;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.Objects;
+
+/**
+ * Tells a violation of the unique plate, {@link VehicleEntity#UK_PLATE}, apart from the other integrity errors.
+ */
+public final class PlateConstraint {
+
+    private PlateConstraint(){}
+
+    public static boolean isViolatedBy(DataIntegrityViolationException e){
+        return e.getCause() instanceof ConstraintViolationException violation
+                && Objects.nonNull(violation.getConstraintName())
+                && violation.getConstraintName().toLowerCase().contains(VehicleEntity.UK_PLATE);
+    }
+}
@@ -0,0 +1,27 @@
+package com.api.vehicle.model.entity.plate;
+
+/**
+ * Plates are stored and looked up in a single form, uppercase letters and digits without separators,
+ * so that "abc-1234", "ABC 1234" and "ABC1234" are the same vehicle.
+ */
+public final class PlateNormalizer {
+
+    private PlateNormalizer(){}
+
+    public static String normalize(String plate){
+        if(plate == null){
+            return null;
+        }
+
+        StringBuilder normalized = new StringBuilder(plate.length());
+        for(int i = 0; i < plate.length(); i++){
+            char character = plate.charAt(i);
+            if(character >= 'a' && character <= 'z'){
+                normalized.append((char) (character - ('a' - 'A')));
+            } else if((character >= 'A' && character <= 'Z') || (character >= '0' && character <= '9')){
+                normalized.append(character);
+            }
+        }
+        return normalized.toString();
+    }
+}
@@ -0,0 +1,26 @@
+package com.api.vehicle.model.event;
+
+import com.api.vehicle.model.dto.VehicleDto;
+
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Published for each vehicle written through the service, the bulk writer or the ingestion. Listeners that keep
+ * state derived from the vehicles should only apply it once the transaction that published it commits.
+ * @param vehicle the vehicle as written, null when it was deleted
+ */
+public record VehicleChangedEvent(UUID id, VehicleDto vehicle) {
+
+    public static VehicleChangedEvent saved(VehicleDto vehicle){
+        return new VehicleChangedEvent(vehicle.getId(), vehicle);
+    }
+
+    public static VehicleChangedEvent deleted(UUID id){
+        return new VehicleChangedEvent(id, null);
+    }
+
+    public boolean isDeleted(){
+        return Objects.isNull(this.vehicle);
+    }
+}
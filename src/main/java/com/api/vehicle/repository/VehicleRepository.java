@@ -1,15 +1,147 @@
 package com.api.vehicle.repository;
 
+import com.api.vehicle.model.dto.VehicleDto;
+import com.api.vehicle.model.dto.facet.VehicleFacetValues;
 import com.api.vehicle.model.entity.VehicleEntity;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
-public interface VehicleRepository extends JpaRepository<VehicleEntity, UUID> {
+public interface VehicleRepository extends JpaRepository<VehicleEntity, UUID>, VehicleSearchRepository {
 
+    /**
+     * Rows fetched per round-trip by the forward-only cursors of the stream queries
+     */
+    String STREAM_FETCH_SIZE = "1000";
+
+    /**
+     * Query cache region of the type listings, invalidated by any write to tb_vehicle made through Hibernate
+     */
+    String TYPE_LISTING_CACHE_REGION = "vehicle-type-listing";
+
+    /**
+     * The plate must already be normalized, the lookup is served by the unique index on plate
+     */
+    Optional<VehicleEntity> findByPlate(String plate);
+
+    //LIST QUERIES, read straight into VehicleDto so that no managed entity or dirty-checking snapshot is built.
+    //The paged ones run in their own read-only transaction, the service calls them outside of one
+    String VEHICLE_DTO = "SELECT new com.api.vehicle.model.dto.VehicleDto(v.id, v.brand, v.model, v.color, v.plate, v.type,"
+            + " v.version)"
+            + " FROM VehicleEntity v";
+
+    /**
+     * Ordered by id so that consecutive pages never overlap or skip a vehicle
+     */
+    @Transactional(readOnly = true)
+    @Query(value = VEHICLE_DTO + " ORDER BY v.id", countQuery = "SELECT count(v) FROM VehicleEntity v")
+    Page<VehicleDto> findPageBy(Pageable pageable);
+
+    /**
+     * Ordered by id so that pages are stable and served by the (type, id) index. The page and its count are cached
+     */
+    @Transactional(readOnly = true)
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = TYPE_LISTING_CACHE_REGION)})
+    @Query(value = VEHICLE_DTO + " WHERE v.type = ?1 ORDER BY v.id",
+            countQuery = "SELECT count(v) FROM VehicleEntity v WHERE v.type = ?1")
+    Page<VehicleDto> findAllByType(int type, Pageable pageable);
+
+    //SLICE QUERIES, one extra row is read instead of running a count query
+    @Transactional(readOnly = true)
+    @Query(VEHICLE_DTO + " ORDER BY v.id")
+    Slice<VehicleDto> findSliceBy(Pageable pageable);
+
+    @Transactional(readOnly = true)
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = TYPE_LISTING_CACHE_REGION)})
+    @Query(VEHICLE_DTO + " WHERE v.type = ?1 ORDER BY v.id")
+    Slice<VehicleDto> findSliceByType(int type, Pageable pageable);
+
+    //STREAM QUERIES, must be consumed inside a transaction and closed
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
+    @Query("SELECT v FROM VehicleEntity v")
+    Stream<VehicleEntity> streamAll();
+
+    @QueryHints({@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")})
     @Query("SELECT v FROM VehicleEntity v WHERE v.type = ?1")
-    Page<VehicleEntity> findAllByType(int type, Pageable pageable);
+    Stream<VehicleEntity> streamAllByType(int type);
+
+    /**
+     * Only the columns of the facet index, read straight into a record
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+    @Query("SELECT new com.api.vehicle.model.dto.facet.VehicleFacetValues(v.id, v.type, v.brand, v.color)"
+            + " FROM VehicleEntity v")
+    Stream<VehicleFacetValues> streamFacetValues();
+
+    /**
+     * The ones of the given ids that are already stored, without loading the vehicles
+     */
+    @Query("SELECT v.id FROM VehicleEntity v WHERE v.id IN ?1")
+    List<UUID> findExistingIds(Collection<UUID> ids);
+
+    //COUNT QUERIES
+    @Transactional(readOnly = true)
+    long countByType(int type);
+
+    /**
+     * Row count kept by the PostgreSQL planner, updated by VACUUM/ANALYZE. Fails on other databases, so it must be
+     * called outside of any transaction, a failure would roll back the caller's transaction, and a new transaction
+     * would take a second connection while the caller holds one.
+     * The table is resolved through the search path like the other queries, so a tb_vehicle of another schema
+     * is never read.
+     */
+    @Transactional(readOnly = true)
+    @Query(value = "SELECT CAST(c.reltuples AS BIGINT) FROM pg_class c WHERE c.oid = to_regclass('tb_vehicle')",
+            nativeQuery = true)
+    Long estimateRowsFromStatistics();
+
+    //KEYSET (SEEK) QUERIES, ordered by (type, id) so that deep pages cost the same as the first one
+    @Query(VEHICLE_DTO + " ORDER BY v.type, v.id")
+    List<VehicleDto> findFirstKeysetPage(Limit limit);
+
+    @Query(VEHICLE_DTO + " WHERE (v.type, v.id) > (?1, ?2) ORDER BY v.type, v.id")
+    List<VehicleDto> findKeysetPageAfter(int type, UUID id, Limit limit);
+
+    @Query(VEHICLE_DTO + " WHERE v.type = ?1 ORDER BY v.id")
+    List<VehicleDto> findFirstKeysetPageByType(int type, Limit limit);
+
+    @Query(VEHICLE_DTO + " WHERE v.type = ?1 AND v.id > ?2 ORDER BY v.id")
+    List<VehicleDto> findKeysetPageByTypeAfter(int type, UUID id, Limit limit);
+
+    //WRITE QUERIES, a single statement whose affected row count tells whether the vehicle exists.
+    //Entity callbacks do not run for them, the plate must already be normalized.
+    @Modifying
+    @Query("UPDATE VehicleEntity v SET v.brand = ?2, v.model = ?3, v.color = ?4, v.plate = ?5, v.type = ?6,"
+            + " v.version = v.version + 1 WHERE v.id = ?1")
+    int updateById(UUID id, String brand, String model, String color, String plate, int type);
+
+    /**
+     * Only updates the vehicle while it still has the expected version
+     */
+    @Modifying
+    @Query("UPDATE VehicleEntity v SET v.brand = ?2, v.model = ?3, v.color = ?4, v.plate = ?5, v.type = ?6,"
+            + " v.version = v.version + 1 WHERE v.id = ?1 AND v.version = ?7")
+    int updateByIdAndVersion(UUID id, String brand, String model, String color, String plate, int type, long version);
+
+    @Modifying
+    @Query("DELETE FROM VehicleEntity v WHERE v.id = ?1")
+    int deleteVehicleById(UUID id);
 }
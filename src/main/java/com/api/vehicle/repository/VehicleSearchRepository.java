@@ -0,0 +1,20 @@
+package com.api.vehicle.repository;
+
+import com.api.vehicle.model.dto.VehicleDto;
+import com.api.vehicle.model.entity.VehicleEntity;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+/**
+ * Fragment of {@link VehicleRepository} for the queries built from specifications
+ */
+public interface VehicleSearchRepository {
+
+    /**
+     * Read straight into VehicleDto like the other list queries, no managed entity is built
+     */
+    List<VehicleDto> findDtos(Specification<VehicleEntity> specification, Sort sort, Limit limit);
+}
@@ -0,0 +1,46 @@
+package com.api.vehicle.repository;
+
+import com.api.vehicle.model.dto.VehicleDto;
+import com.api.vehicle.model.entity.VehicleEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.util.List;
+import java.util.Objects;
+
+class VehicleSearchRepositoryImpl implements VehicleSearchRepository {
+
+    private final EntityManager entityManager;
+
+    @Autowired
+    VehicleSearchRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public List<VehicleDto> findDtos(Specification<VehicleEntity> specification, Sort sort, Limit limit) {
+        CriteriaBuilder builder = this.entityManager.getCriteriaBuilder();
+        CriteriaQuery<VehicleDto> query = builder.createQuery(VehicleDto.class);
+        Root<VehicleEntity> root = query.from(VehicleEntity.class);
+
+        query.select(builder.construct(VehicleDto.class, root.get("id"), root.get("brand"), root.get("model"),
+                root.get("color"), root.get("plate"), root.get("type"), root.get("version")));
+        Predicate predicate = specification.toPredicate(root, query, builder);
+        if(Objects.nonNull(predicate)){
+            query.where(predicate);
+        }
+        query.orderBy(QueryUtils.toOrders(sort, root, builder));
+
+        return this.entityManager.createQuery(query)
+                .setMaxResults(limit.max())
+                .getResultList();
+    }
+}
@@ -0,0 +1,112 @@
+package com.api.vehicle.repository.specification;
+
+import com.api.vehicle.model.dto.page.VehicleCursor;
+import com.api.vehicle.model.dto.search.VehicleSearchDto;
+import com.api.vehicle.model.entity.VehicleEntity;
+import com.api.vehicle.model.entity.plate.PlateNormalizer;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * Filters of the vehicle search. The text filters compare lower(column) with LIKE, which the trigram indexes of
+ * {@code db/search-indexes-postgresql.sql} serve on PostgreSQL and any other database runs as a plain scan.
+ */
+public final class VehicleSpecifications {
+
+    private static final char LIKE_ESCAPE = '\\';
+    private static final int PLATE_LENGTH = 7;
+    private static final String BRAND = "brand";
+    private static final String MODEL = "model";
+    private static final String COLOR = "color";
+    private static final String PLATE = "plate";
+    private static final String TYPE = "type";
+    private static final String ID = "id";
+
+    private VehicleSpecifications(){}
+
+    /**
+     * All the filters given in the search, combined with AND. Blank filters are left out.
+     */
+    public static Specification<VehicleEntity> matching(VehicleSearchDto filter){
+        List<Specification<VehicleEntity>> specifications = new ArrayList<>();
+        if(StringUtils.hasText(filter.getBrand())){
+            specifications.add(brandContains(filter.getBrand().trim()));
+        }
+        if(StringUtils.hasText(filter.getModel())){
+            specifications.add(modelContains(filter.getModel().trim()));
+        }
+        if(StringUtils.hasText(filter.getColor())){
+            specifications.add(colorContains(filter.getColor().trim()));
+        }
+        String platePrefix = PlateNormalizer.normalize(filter.getPlate());
+        if(StringUtils.hasLength(platePrefix)){
+            specifications.add(plateStartsWith(platePrefix));
+        }
+        if(Objects.nonNull(filter.getType())){
+            specifications.add(hasType(filter.getType().getId()));
+        }
+        return Specification.allOf(specifications);
+    }
+
+    public static Specification<VehicleEntity> brandContains(String text){
+        return contains(BRAND, text);
+    }
+
+    public static Specification<VehicleEntity> modelContains(String text){
+        return contains(MODEL, text);
+    }
+
+    public static Specification<VehicleEntity> colorContains(String text){
+        return contains(COLOR, text);
+    }
+
+    /**
+     * A range instead of LIKE, so the unique index on plate serves it even with a bound parameter. Plates only
+     * have digits and uppercase letters, which sort before 'Z', so the last plate of a prefix is the prefix padded
+     * with 'Z'.
+     * @param prefix already normalized
+     */
+    public static Specification<VehicleEntity> plateStartsWith(String prefix){
+        String lastPlate = prefix + "Z".repeat(Math.max(PLATE_LENGTH - prefix.length(), 0));
+        return (root, query, builder) -> builder.between(root.get(PLATE), prefix, lastPlate);
+    }
+
+    public static Specification<VehicleEntity> hasType(int type){
+        return (root, query, builder) -> builder.equal(root.get(TYPE), type);
+    }
+
+    /**
+     * Vehicles after the cursor in the (type, id) order of the search. Within a single type the seek is on id
+     * alone, which the (type, id) index serves directly.
+     */
+    public static Specification<VehicleEntity> after(VehicleCursor cursor, boolean singleType){
+        if(singleType){
+            return (root, query, builder) -> builder.greaterThan(root.get(ID), cursor.id());
+        }
+        return (root, query, builder) -> builder.or(
+                builder.greaterThan(root.get(TYPE), cursor.type()),
+                builder.and(builder.equal(root.get(TYPE), cursor.type()), builder.greaterThan(root.get(ID), cursor.id())));
+    }
+
+    private static Specification<VehicleEntity> contains(String attribute, String text){
+        String pattern = "%" + escapeLike(text.toLowerCase(Locale.ROOT)) + "%";
+        return (root, query, builder) -> builder.like(builder.lower(root.get(attribute)), pattern, LIKE_ESCAPE);
+    }
+
+    private static String escapeLike(String text){
+        StringBuilder escaped = new StringBuilder(text.length());
+        for(int i = 0; i < text.length(); i++){
+            char character = text.charAt(i);
+            if(character == '%' || character == '_' || character == LIKE_ESCAPE){
+                escaped.append(LIKE_ESCAPE);
+            }
+            escaped.append(character);
+        }
+        return escaped.toString();
+    }
+}
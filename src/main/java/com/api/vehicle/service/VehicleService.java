@@ -1,9 +1,15 @@
 package com.api.vehicle.service;
 
+import com.api.vehicle.enums.page.EnumPageTotals;
 import com.api.vehicle.enums.type.EnumVehicleType;
+import com.api.vehicle.export.VehicleExportWriter;
+import com.api.vehicle.model.dto.page.CursorPageDto;
 import com.api.vehicle.model.dto.page.ResponsePageDto;
 import com.api.vehicle.model.dto.VehicleDto;
+import com.api.vehicle.model.dto.bulk.BulkItemResultDto;
+import com.api.vehicle.model.dto.search.VehicleSearchDto;
 
+import java.util.List;
 import java.util.UUID;
 
 public interface VehicleService {
@@ -14,9 +20,47 @@ public interface VehicleService {
 
     VehicleDto findById(UUID id);
 
+    /**
+     * The plate is normalized before the lookup, so separators and lowercase letters are ignored.
+     */
+    VehicleDto findByPlate(String plate);
+
+    /**
+     * When the dto carries a version the vehicle is only updated while it still has that version.
+     */
     VehicleDto update(VehicleDto dto);
 
-    ResponsePageDto<VehicleDto> findAll(int pageNumber, int pageSize);
+    ResponsePageDto<VehicleDto> findAll(int pageNumber, int pageSize, EnumPageTotals totals);
+
+    ResponsePageDto<VehicleDto> findAllByType(EnumVehicleType vehicleType, int pageNumber, int pageSize, EnumPageTotals totals);
+
+    /**
+     * Keyset pagination over all vehicles. An empty cursor starts from the first page.
+     */
+    CursorPageDto<VehicleDto> findAllByCursor(String cursor, int pageSize);
+
+    /**
+     * Keyset pagination over the vehicles of a type. An empty cursor starts from the first page.
+     */
+    CursorPageDto<VehicleDto> findAllByTypeAndCursor(EnumVehicleType vehicleType, String cursor, int pageSize);
+
+    /**
+     * Keyset pagination over the vehicles matching every filter given. An empty cursor starts from the first page.
+     */
+    CursorPageDto<VehicleDto> search(VehicleSearchDto filter, String cursor, int pageSize);
+
+    /**
+     * Validates every vehicle before saving any of them, the field errors are keyed by the index of the vehicle.
+     */
+    List<BulkItemResultDto> saveAll(List<VehicleDto> vehicleDtoList);
+
+    /**
+     * Validates every vehicle before updating any of them, the field errors are keyed by the index of the vehicle.
+     */
+    List<BulkItemResultDto> updateAll(List<VehicleDto> vehicleDtoList);
 
-    ResponsePageDto<VehicleDto> findAllByType(EnumVehicleType vehicleType, int pageNumber, int pageSize);
+    /**
+     * Streams every vehicle, or only the ones of a type when it is not null, to the writer with constant memory.
+     */
+    void exportAll(EnumVehicleType vehicleType, VehicleExportWriter writer);
 }
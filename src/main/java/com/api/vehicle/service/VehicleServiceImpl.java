@@ -1,37 +1,101 @@
 package com.api.vehicle.service;
 
+import com.api.vehicle.enums.page.EnumPageTotals;
 import com.api.vehicle.enums.type.EnumVehicleType;
+import com.api.vehicle.export.VehicleExportWriter;
 import com.api.vehicle.exception.response.BadRequestException;
+import com.api.vehicle.exception.response.ConflictException;
 import com.api.vehicle.exception.response.InternalServerErrorException;
+import com.api.vehicle.exception.response.InvalidFieldsException;
 import com.api.vehicle.exception.response.NotFoundException;
+import com.api.vehicle.exception.response.PreconditionFailedException;
 import com.api.vehicle.mapper.VehicleMapper;
+import com.api.vehicle.config.properties.BulkProperties;
+import com.api.vehicle.config.properties.HibernateCacheProperties;
+import com.api.vehicle.datasource.PrimaryReads;
 import com.api.vehicle.mapper.page.VehiclePageMapper;
+import com.api.vehicle.model.dto.page.CursorPageDto;
 import com.api.vehicle.model.dto.page.ResponsePageDto;
+import com.api.vehicle.model.dto.page.VehicleCursor;
 import com.api.vehicle.model.dto.VehicleDto;
+import com.api.vehicle.model.dto.bulk.BulkItemResultDto;
+import com.api.vehicle.model.dto.search.VehicleSearchDto;
 import com.api.vehicle.model.entity.VehicleEntity;
+import com.api.vehicle.model.event.VehicleChangedEvent;
+import com.api.vehicle.model.entity.plate.PlateConstraint;
+import com.api.vehicle.model.entity.plate.PlateNormalizer;
 import com.api.vehicle.repository.VehicleRepository;
+import com.api.vehicle.repository.specification.VehicleSpecifications;
+import com.api.vehicle.service.bulk.VehicleBulkWriter;
+import com.api.vehicle.service.estimate.VehicleCountEstimator;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataAccessException;
-import org.springframework.data.domain.Page;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
+/**
+ * Every public method is timed as {@code vehicle.service}, tagged by method.
+ * The lookups run in read-only transactions, which are sent to the read replicas when they are enabled.
+ * Every vehicle written or deleted is published as a {@link VehicleChangedEvent}.
+ */
 @Service
+@Timed("vehicle.service")
 public class VehicleServiceImpl implements VehicleService{
 
+    private static final String SEARCH_TYPE = "type";
+    private static final String SEARCH_ID = "id";
+    private static final int MAX_PAGE_SIZE = 1000;
+
     private final VehicleRepository repository;
     private final VehicleMapper mapper;
     private final VehiclePageMapper pageMapper;
+    private final VehicleCountEstimator countEstimator;
+    private final VehicleBulkWriter bulkWriter;
+    private final Validator validator;
+    private final EntityManager entityManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int bulkMaxItems;
+    private final boolean typeListingCached;
 
     @Autowired
-    public VehicleServiceImpl(VehicleRepository repository, VehicleMapper mapper, VehiclePageMapper pageMapper) {
+    public VehicleServiceImpl(VehicleRepository repository, VehicleMapper mapper, VehiclePageMapper pageMapper,
+                              VehicleCountEstimator countEstimator, VehicleBulkWriter bulkWriter, Validator validator,
+                              EntityManager entityManager, ApplicationEventPublisher eventPublisher,
+                              BulkProperties bulkProperties, HibernateCacheProperties hibernateCacheProperties) {
         this.repository = repository;
         this.mapper = mapper;
         this.pageMapper = pageMapper;
+        this.countEstimator = countEstimator;
+        this.bulkWriter = bulkWriter;
+        this.validator = validator;
+        this.entityManager = entityManager;
+        this.eventPublisher = eventPublisher;
+        this.bulkMaxItems = bulkProperties.getMaxItems();
+        this.typeListingCached = hibernateCacheProperties.isEnabled();
     }
 
     @Override
@@ -43,24 +107,35 @@ public class VehicleServiceImpl implements VehicleService{
                         " update an existing vehicle.");
             }
 
-            VehicleEntity savedVehicle = this.repository.save(this.mapper.dtoToEntity(vehicleDto));
-            return this.mapper.entityToDto(savedVehicle);
+            VehicleDto savedDto = this.mapper.entityToDto(this.repository.save(this.mapper.dtoToEntity(vehicleDto)));
+            this.eventPublisher.publishEvent(VehicleChangedEvent.saved(savedDto));
+            return savedDto;
+        }catch (DataIntegrityViolationException e) {
+            throw translateIntegrityViolation(e);
         }catch (DataAccessException e) {
             throw new InternalServerErrorException(e.getMessage());
         }
     }
 
     @Override
+    @Transactional
     public void delete(UUID id) {
         try{
-            VehicleDto vehicleDto = this.findById(id);
-            this.repository.delete(this.mapper.dtoToEntity(vehicleDto));
+            if(Objects.isNull(id)){
+                throw new BadRequestException("Id can't be null!");
+            }
+
+            if(this.repository.deleteVehicleById(id) == 0){
+                throw new NotFoundException("Vehicle not found!");
+            }
+            this.eventPublisher.publishEvent(VehicleChangedEvent.deleted(id));
         }catch (DataAccessException e) {
             throw new InternalServerErrorException(e.getMessage());
         }
     }
 
     @Override
+    @Transactional(readOnly = true)
     public VehicleDto findById(UUID id) {
         try{
             if(Objects.isNull(id)){
@@ -79,22 +154,111 @@ public class VehicleServiceImpl implements VehicleService{
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public VehicleDto findByPlate(String plate) {
+        try{
+            if(!StringUtils.hasText(plate)){
+                throw new BadRequestException("Plate can't be blank!");
+            }
+
+            Optional<VehicleEntity> optVehicle = this.repository.findByPlate(PlateNormalizer.normalize(plate));
+
+            if (optVehicle.isEmpty()) {
+                throw new NotFoundException("Vehicle not found!");
+            }
+            return this.mapper.entityToDto(optVehicle.get());
+        }catch (DataAccessException e){
+            throw new InternalServerErrorException(e.getMessage());
+        }
+    }
+
+    /**
+     * Written with one UPDATE statement, the vehicle is not read before. When the dto carries a version the update
+     * only happens while the stored vehicle still has it, and the version is read only to tell 404 from 412.
+     */
+    @Override
+    @Transactional
     public VehicleDto update(VehicleDto dto) {
         try{
-            findById(dto.getId());
-            VehicleEntity updatedVehicle = this.repository.save(this.mapper.dtoToEntity(dto));
+            if(Objects.isNull(dto.getId())){
+                throw new BadRequestException("Id can't be null!");
+            }
+
+            VehicleEntity vehicle = this.mapper.dtoToEntity(dto);
+            vehicle.setPlate(PlateNormalizer.normalize(vehicle.getPlate()));
+
+            Long expectedVersion = vehicle.getVersion();
+            int updatedRows = Objects.isNull(expectedVersion)
+                    ? this.repository.updateById(vehicle.getId(), vehicle.getBrand(), vehicle.getModel(),
+                            vehicle.getColor(), vehicle.getPlate(), vehicle.getType())
+                    : this.repository.updateByIdAndVersion(vehicle.getId(), vehicle.getBrand(), vehicle.getModel(),
+                            vehicle.getColor(), vehicle.getPlate(), vehicle.getType(), expectedVersion);
+
+            if(updatedRows == 0){
+                if(Objects.nonNull(expectedVersion) && this.repository.existsById(vehicle.getId())){
+                    throw new PreconditionFailedException("Vehicle was changed by another request!");
+                }
+                throw new NotFoundException("Vehicle not found!");
+            }
 
-            return this.mapper.entityToDto(updatedVehicle);
+            //Without an expected version the new one is unknown
+            vehicle.setVersion(Objects.isNull(expectedVersion) ? null : expectedVersion + 1);
+            VehicleDto updatedDto = this.mapper.entityToDto(vehicle);
+            this.eventPublisher.publishEvent(VehicleChangedEvent.saved(updatedDto));
+            return updatedDto;
+        }catch (DataIntegrityViolationException e) {
+            throw translateIntegrityViolation(e);
         }catch (DataAccessException e){
             throw new InternalServerErrorException(e.getMessage());
         }
     }
 
+    /**
+     * Not transactional, the estimate is taken before the page query and each one runs in its own read-only
+     * transaction, so the request never needs two connections at once.
+     */
     @Override
-    public ResponsePageDto<VehicleDto> findAll(int pageNumber, int pageSize) {
+    public ResponsePageDto<VehicleDto> findAll(int pageNumber, int pageSize, EnumPageTotals totals) {
         try{
-            Page<VehicleEntity> pageEntity = this.repository.findAll(PageRequest.of(pageNumber, pageSize));
-            return this.pageMapper.pageEntityToPageDto(pageEntity);
+            Pageable pageable = getPageable(pageNumber, pageSize);
+
+            return switch (totals) {
+                case EXACT -> this.pageMapper.pageEntityToPageDto(this.repository.findPageBy(pageable));
+                case NONE -> this.pageMapper.sliceEntityToPageDto(this.repository.findSliceBy(pageable));
+                case ESTIMATED -> {
+                    long estimatedItems = this.countEstimator.estimateAll();
+                    yield this.withEstimatedTotals(this.repository.findSliceBy(pageable), estimatedItems);
+                }
+            };
+        } catch (IllegalArgumentException e){
+            throw new BadRequestException(e.getMessage());
+        } catch (DataAccessException e){
+            throw new InternalServerErrorException(e.getMessage());
+        }
+    }
+
+    /**
+     * Not transactional, the estimate is taken before the page query and each one runs in its own read-only
+     * transaction, so the request never needs two connections at once.
+     */
+    @Override
+    public ResponsePageDto<VehicleDto> findAllByType(EnumVehicleType vehicleType, int pageNumber, int pageSize,
+                                                     EnumPageTotals totals) {
+        try{
+            Pageable pageable = getPageable(pageNumber, pageSize);
+
+            return switch (totals) {
+                case EXACT -> this.pageMapper.pageEntityToPageDto(
+                        this.readTypeListing(() -> this.repository.findAllByType(vehicleType.getId(), pageable)));
+                case NONE -> this.pageMapper.sliceEntityToPageDto(
+                        this.readTypeListing(() -> this.repository.findSliceByType(vehicleType.getId(), pageable)));
+                case ESTIMATED -> {
+                    long estimatedItems = this.countEstimator.estimateByType(vehicleType.getId());
+                    yield this.withEstimatedTotals(
+                            this.readTypeListing(() -> this.repository.findSliceByType(vehicleType.getId(), pageable)),
+                            estimatedItems);
+                }
+            };
         } catch (IllegalArgumentException e){
             throw new BadRequestException(e.getMessage());
         } catch (DataAccessException e){
@@ -103,14 +267,215 @@ public class VehicleServiceImpl implements VehicleService{
     }
 
     @Override
-    public ResponsePageDto<VehicleDto> findAllByType(EnumVehicleType vehicleType, int pageNumber, int pageSize) {
+    @Transactional(readOnly = true)
+    public CursorPageDto<VehicleDto> findAllByCursor(String cursor, int pageSize) {
         try{
-            Page<VehicleEntity> pageEntity = this.repository.findAllByType(vehicleType.getId(), PageRequest.of(pageNumber, pageSize));
-            return this.pageMapper.pageEntityToPageDto(pageEntity);
+            Limit limit = getKeysetLimit(pageSize);
+            List<VehicleDto> listDto;
+
+            if(StringUtils.hasText(cursor)){
+                VehicleCursor lastSeen = VehicleCursor.decode(cursor);
+                listDto = this.repository.findKeysetPageAfter(lastSeen.type(), lastSeen.id(), limit);
+            } else {
+                listDto = this.repository.findFirstKeysetPage(limit);
+            }
+            return toCursorPage(listDto, pageSize);
         } catch (IllegalArgumentException e){
             throw new BadRequestException(e.getMessage());
         } catch (DataAccessException e){
             throw new InternalServerErrorException(e.getMessage());
         }
     }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageDto<VehicleDto> findAllByTypeAndCursor(EnumVehicleType vehicleType, String cursor, int pageSize) {
+        try{
+            Limit limit = getKeysetLimit(pageSize);
+            List<VehicleDto> listDto;
+
+            if(StringUtils.hasText(cursor)){
+                VehicleCursor lastSeen = VehicleCursor.decode(cursor);
+                if(lastSeen.type() != vehicleType.getId()){
+                    throw new BadRequestException("Cursor does not belong to the vehicle type " + vehicleType + "!");
+                }
+                listDto = this.repository.findKeysetPageByTypeAfter(vehicleType.getId(), lastSeen.id(), limit);
+            } else {
+                listDto = this.repository.findFirstKeysetPageByType(vehicleType.getId(), limit);
+            }
+            return toCursorPage(listDto, pageSize);
+        } catch (IllegalArgumentException e){
+            throw new BadRequestException(e.getMessage());
+        } catch (DataAccessException e){
+            throw new InternalServerErrorException(e.getMessage());
+        }
+    }
+
+    /**
+     * Ordered by (type, id) like the other keyset pages, or by id alone when the type is filtered, so the cursor
+     * of a search is a {@link VehicleCursor} as well.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPageDto<VehicleDto> search(VehicleSearchDto filter, String cursor, int pageSize) {
+        try{
+            Limit limit = getKeysetLimit(pageSize);
+            boolean singleType = Objects.nonNull(filter.getType());
+            Specification<VehicleEntity> specification = VehicleSpecifications.matching(filter);
+
+            if(StringUtils.hasText(cursor)){
+                VehicleCursor lastSeen = VehicleCursor.decode(cursor);
+                if(singleType && lastSeen.type() != filter.getType().getId()){
+                    throw new BadRequestException("Cursor does not belong to the vehicle type " + filter.getType() + "!");
+                }
+                specification = specification.and(VehicleSpecifications.after(lastSeen, singleType));
+            }
+            Sort sort = singleType ? Sort.by(SEARCH_ID) : Sort.by(SEARCH_TYPE, SEARCH_ID);
+            return toCursorPage(this.repository.findDtos(specification, sort, limit), pageSize);
+        } catch (IllegalArgumentException e){
+            throw new BadRequestException(e.getMessage());
+        } catch (DataAccessException e){
+            throw new InternalServerErrorException(e.getMessage());
+        }
+    }
+
+    @Override
+    public List<BulkItemResultDto> saveAll(List<VehicleDto> vehicleDtoList) {
+        this.validateBulk(vehicleDtoList, true);
+        return this.bulkWriter.insert(vehicleDtoList);
+    }
+
+    @Override
+    public List<BulkItemResultDto> updateAll(List<VehicleDto> vehicleDtoList) {
+        this.validateBulk(vehicleDtoList, false);
+        return this.bulkWriter.update(vehicleDtoList);
+    }
+
+    /**
+     * Each vehicle is detached once written, so the persistence context does not grow with the table.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void exportAll(EnumVehicleType vehicleType, VehicleExportWriter writer) {
+        try (Stream<VehicleEntity> streamEntity = Objects.isNull(vehicleType) ? this.repository.streamAll()
+                : this.repository.streamAllByType(vehicleType.getId())){
+
+            streamEntity.forEach(entity -> {
+                try{
+                    writer.write(this.mapper.entityToDto(entity));
+                } catch (IOException e){
+                    throw new UncheckedIOException(e);
+                }
+                this.entityManager.detach(entity);
+            });
+            writer.finish();
+        } catch (IOException e){
+            throw new UncheckedIOException(e);
+        } catch (DataAccessException e){
+            throw new InternalServerErrorException(e.getMessage());
+        }
+    }
+
+    private void validateBulk(List<VehicleDto> vehicleDtoList, boolean isNew){
+        if(Objects.isNull(vehicleDtoList) || vehicleDtoList.isEmpty()){
+            throw new BadRequestException("The list of vehicles can't be empty!");
+        }
+        if(vehicleDtoList.size() > this.bulkMaxItems){
+            throw new BadRequestException("The list of vehicles can't have more than " + this.bulkMaxItems + " items!");
+        }
+
+        Map<String, String> fieldErrorMap = new LinkedHashMap<>();
+        for(int index = 0; index < vehicleDtoList.size(); index++){
+            VehicleDto vehicleDto = vehicleDtoList.get(index);
+            String prefix = "[" + index + "]";
+
+            if(Objects.isNull(vehicleDto)){
+                fieldErrorMap.put(prefix, "must not be null");
+                continue;
+            }
+            if(isNew && Objects.nonNull(vehicleDto.getId())){
+                fieldErrorMap.put(prefix + ".id", "must be null");
+            }
+            if(!isNew && Objects.isNull(vehicleDto.getId())){
+                fieldErrorMap.put(prefix + ".id", "must not be null");
+            }
+            for(ConstraintViolation<VehicleDto> violation : this.validator.validate(vehicleDto)){
+                fieldErrorMap.put(prefix + "." + violation.getPropertyPath(), violation.getMessage());
+            }
+        }
+
+        if(!fieldErrorMap.isEmpty()){
+            throw new InvalidFieldsException("Invalid Fields! Please check the field(s) error.", fieldErrorMap);
+        }
+    }
+
+    /**
+     * Only a violation of the unique plate is a conflict, any other integrity error is still a server error.
+     */
+    private static RuntimeException translateIntegrityViolation(DataIntegrityViolationException e){
+        if(PlateConstraint.isViolatedBy(e)){
+            return new ConflictException("Plate already registered!");
+        }
+        return new InternalServerErrorException(e.getMessage());
+    }
+
+    /**
+     * The estimate is never lower than the vehicles already seen up to this slice.
+     */
+    private ResponsePageDto<VehicleDto> withEstimatedTotals(Slice<VehicleDto> sliceDto, long estimatedItems){
+        ResponsePageDto<VehicleDto> pageDto = this.pageMapper.sliceEntityToPageDto(sliceDto);
+
+        long seenItems = sliceDto.getPageable().getOffset() + sliceDto.getNumberOfElements()
+                + (sliceDto.hasNext() ? 1 : 0);
+        long totalItems = Math.min(Math.max(estimatedItems, seenItems), Integer.MAX_VALUE);
+
+        pageDto.setTotalItems((int) totalItems);
+        pageDto.setTotalPages((int) ((totalItems + sliceDto.getSize() - 1) / sliceDto.getSize()));
+        return pageDto;
+    }
+
+    /**
+     * A type listing missing from the query cache is cached with the time it was read, a replica behind the last
+     * write would have it served as fresh until it expires. The cache hits do not touch the database, so the
+     * primary only serves the misses.
+     */
+    private <T> T readTypeListing(Supplier<T> listing){
+        return this.typeListingCached ? PrimaryReads.call(listing) : listing.get();
+    }
+
+    /**
+     * One extra row is fetched to know whether there is a next page without a count query.
+     */
+    private static Pageable getPageable(int pageNumber, int pageSize){
+        checkMaxPageSize(pageSize);
+        return PageRequest.of(pageNumber, pageSize);
+    }
+
+    private static Limit getKeysetLimit(int pageSize){
+        if(pageSize < 1){
+            throw new IllegalArgumentException("Page size must not be less than one");
+        }
+        checkMaxPageSize(pageSize);
+        return Limit.of(pageSize + 1);
+    }
+
+    /**
+     * Also keeps the extra row read by the slices and the keyset pages from overflowing
+     */
+    private static void checkMaxPageSize(int pageSize){
+        if(pageSize > MAX_PAGE_SIZE){
+            throw new IllegalArgumentException("Page size must not be greater than " + MAX_PAGE_SIZE);
+        }
+    }
+
+    private static CursorPageDto<VehicleDto> toCursorPage(List<VehicleDto> listDto, int pageSize){
+        boolean hasNext = listDto.size() > pageSize;
+        List<VehicleDto> listContent = hasNext ? listDto.subList(0, pageSize) : listDto;
+
+        return CursorPageDto.<VehicleDto>builder()
+                .pageSize(pageSize)
+                .listContent(listContent)
+                .nextCursor(hasNext ? VehicleCursor.of(listContent.get(pageSize - 1)).encode() : null)
+                .build();
+    }
 }
\ No newline at end of file
@@ -0,0 +1,164 @@
+package com.api.vehicle.service.bulk;
+
+import com.api.vehicle.config.properties.BulkProperties;
+import com.api.vehicle.enums.bulk.EnumBulkItemStatus;
+import com.api.vehicle.mapper.VehicleMapper;
+import com.api.vehicle.model.dto.VehicleDto;
+import com.api.vehicle.model.dto.bulk.BulkItemResultDto;
+import com.api.vehicle.model.entity.VehicleEntity;
+import com.api.vehicle.model.entity.plate.PlateConstraint;
+import com.api.vehicle.model.event.VehicleChangedEvent;
+import com.api.vehicle.repository.VehicleRepository;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Persists already validated vehicles in chunks of {@link BulkProperties#getChunkSize()}, one transaction per chunk.
+ * Hibernate groups the statements of a chunk in JDBC batches, and the persistence context is cleared after each chunk
+ * so that the memory used does not grow with the request size. A failing chunk does not roll back the others, its
+ * vehicles are written again one per transaction so that only the failing ones are reported.
+ * Each vehicle written is published as a {@link VehicleChangedEvent} of the transaction of its chunk.
+ */
+@Slf4j
+@Component
+public class VehicleBulkWriter {
+
+    private static final String PLATE_ALREADY_REGISTERED = "Plate already registered!";
+    private static final String INTEGRITY_VIOLATION = "Vehicle violates a database constraint!";
+    private static final String WRITE_FAILED = "Vehicle could not be written, please try again later!";
+
+    private final VehicleRepository repository;
+    private final VehicleMapper mapper;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int chunkSize;
+
+    @Autowired
+    public VehicleBulkWriter(VehicleRepository repository, VehicleMapper mapper, EntityManager entityManager,
+                             TransactionTemplate transactionTemplate, ApplicationEventPublisher eventPublisher,
+                             BulkProperties properties) {
+        this.repository = repository;
+        this.mapper = mapper;
+        this.entityManager = entityManager;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.chunkSize = properties.getChunkSize();
+    }
+
+    public List<BulkItemResultDto> insert(List<VehicleDto> dtoList){
+        return this.writeInChunks(dtoList, this::insertChunk);
+    }
+
+    public List<BulkItemResultDto> update(List<VehicleDto> dtoList){
+        return this.writeInChunks(dtoList, this::updateChunk);
+    }
+
+    private List<BulkItemResultDto> writeInChunks(List<VehicleDto> dtoList,
+                                                  Function<List<VehicleDto>, List<BulkItemResultDto>> chunkWriter){
+        List<BulkItemResultDto> resultList = new ArrayList<>(dtoList.size());
+
+        for(int start = 0; start < dtoList.size(); start += this.chunkSize){
+            List<VehicleDto> chunk = dtoList.subList(start, Math.min(start + this.chunkSize, dtoList.size()));
+            try{
+                resultList.addAll(this.writeChunk(chunk, chunkWriter));
+            } catch (DataAccessException | TransactionException e){
+                log.warn("Bulk chunk of {} vehicles failed, writing its vehicles one by one.", chunk.size(), e);
+                chunk.forEach(dto -> resultList.add(this.writeAlone(dto, chunkWriter)));
+            }
+        }
+
+        for(int index = 0; index < resultList.size(); index++){
+            resultList.get(index).setIndex(index);
+        }
+        return resultList;
+    }
+
+    private List<BulkItemResultDto> writeChunk(List<VehicleDto> chunk,
+                                               Function<List<VehicleDto>, List<BulkItemResultDto>> chunkWriter){
+        try{
+            return this.transactionTemplate.execute(status -> {
+                List<BulkItemResultDto> writtenList = chunkWriter.apply(chunk);
+                this.repository.flush();
+                this.entityManager.clear();
+                return writtenList;
+            });
+        } catch (DataAccessException | TransactionException e){
+            this.entityManager.clear();
+            throw e;
+        }
+    }
+
+    /**
+     * Only the vehicles that fail on their own are reported as failed, the others of their chunk are still written.
+     * The cause is logged, the item only gets a stable message without the SQL or the constraint internals.
+     */
+    private BulkItemResultDto writeAlone(VehicleDto dto, Function<List<VehicleDto>, List<BulkItemResultDto>> chunkWriter){
+        try{
+            return this.writeChunk(List.of(dto), chunkWriter).get(0);
+        } catch (DataAccessException | TransactionException e){
+            log.warn("Bulk vehicle {} failed.", dto.getId(), e);
+            return BulkItemResultDto.builder()
+                    .id(dto.getId())
+                    .status(EnumBulkItemStatus.FAILED)
+                    .details(failureDetails(e))
+                    .build();
+        }
+    }
+
+    private static String failureDetails(RuntimeException e){
+        if(e instanceof DataIntegrityViolationException violation){
+            return PlateConstraint.isViolatedBy(violation) ? PLATE_ALREADY_REGISTERED : INTEGRITY_VIOLATION;
+        }
+        return WRITE_FAILED;
+    }
+
+    private List<BulkItemResultDto> insertChunk(List<VehicleDto> chunk){
+        List<VehicleEntity> savedList = this.repository.saveAll(this.mapper.dtoListToEntityList(chunk));
+        savedList.forEach(saved -> this.eventPublisher.publishEvent(VehicleChangedEvent.saved(this.mapper.entityToDto(saved))));
+
+        return savedList.stream()
+                .<BulkItemResultDto>map(saved -> BulkItemResultDto.builder()
+                        .id(saved.getId())
+                        .status(EnumBulkItemStatus.CREATED)
+                        .build())
+                .toList();
+    }
+
+    private List<BulkItemResultDto> updateChunk(List<VehicleDto> chunk){
+        Map<UUID, VehicleEntity> existingById = this.repository.findAllById(chunk.stream().map(VehicleDto::getId).toList())
+                .stream()
+                .collect(Collectors.toMap(VehicleEntity::getId, Function.identity()));
+
+        BulkItemResultDto[] chunkResults = new BulkItemResultDto[chunk.size()];
+        for(int i = 0; i < chunk.size(); i++){
+            VehicleDto dto = chunk.get(i);
+            VehicleEntity existing = existingById.get(dto.getId());
+
+            if(existing == null){
+                chunkResults[i] = BulkItemResultDto.builder().id(dto.getId()).status(EnumBulkItemStatus.NOT_FOUND)
+                        .details("Vehicle not found!").build();
+            } else {
+                this.mapper.updateEntity(dto, existing);
+                this.eventPublisher.publishEvent(VehicleChangedEvent.saved(this.mapper.entityToDto(existing)));
+                chunkResults[i] = BulkItemResultDto.builder().id(dto.getId()).status(EnumBulkItemStatus.UPDATED).build();
+            }
+        }
+        return Arrays.asList(chunkResults);
+    }
+}
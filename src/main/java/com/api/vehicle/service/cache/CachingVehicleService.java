@@ -0,0 +1,206 @@
+package com.api.vehicle.service.cache;
+
+import com.api.vehicle.config.properties.VehicleCacheProperties;
+import com.api.vehicle.datasource.PrimaryReads;
+import com.api.vehicle.enums.bulk.EnumBulkItemStatus;
+import com.api.vehicle.enums.page.EnumPageTotals;
+import com.api.vehicle.enums.type.EnumVehicleType;
+import com.api.vehicle.export.VehicleExportWriter;
+import com.api.vehicle.model.dto.VehicleDto;
+import com.api.vehicle.model.dto.bulk.BulkItemResultDto;
+import com.api.vehicle.model.dto.page.CursorPageDto;
+import com.api.vehicle.model.dto.page.ResponsePageDto;
+import com.api.vehicle.model.dto.search.VehicleSearchDto;
+import com.api.vehicle.model.entity.plate.PlateNormalizer;
+import com.api.vehicle.service.VehicleService;
+import com.api.vehicle.service.VehicleServiceImpl;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Read-through cache of vehicles by id in front of {@link VehicleServiceImpl}. Enabled by {@code vehicle.cache.enabled}.
+ * Writes refresh the vehicles that are already cached and deletes invalidate them, new vehicles are only cached
+ * once they are read so that bulk inserts do not evict the hot ones.
+ * A second and smaller cache keeps the vehicles by normalized plate for the repeated gate lookups, any write
+ * to a vehicle removes its plate entry because the plate itself may have changed.
+ * Cached vehicles keep their version, so a conditional GET of a cached vehicle is answered without the database.
+ * The vehicles are loaded from the primary when the read replicas are enabled, so a replica behind the last write
+ * never puts the old vehicle in the cache.
+ */
+@Primary
+@Service
+@ConditionalOnProperty(prefix = "vehicle.cache", name = "enabled", havingValue = "true")
+public class CachingVehicleService implements VehicleService {
+
+    private final VehicleService delegate;
+    private final Cache<UUID, VehicleDto> cache;
+    private final Cache<String, VehicleDto> plateCache;
+
+    @Autowired
+    public CachingVehicleService(VehicleServiceImpl delegate, VehicleCacheProperties properties,
+                                 MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumSize())
+                .expireAfterWrite(properties.getExpireAfterWrite())
+                .recordStats()
+                .build();
+        this.plateCache = Caffeine.newBuilder()
+                .maximumSize(properties.getPlateMaximumSize())
+                .expireAfterWrite(properties.getExpireAfterWrite())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, this.cache, "vehicle");
+        CaffeineCacheMetrics.monitor(meterRegistry, this.plateCache, "vehicle-plate");
+    }
+
+    @Override
+    public VehicleDto save(VehicleDto vehicleDto) {
+        return this.delegate.save(vehicleDto);
+    }
+
+    @Override
+    public void delete(UUID id) {
+        try{
+            this.delegate.delete(id);
+        } finally {
+            this.invalidate(id);
+        }
+    }
+
+    @Override
+    public VehicleDto findById(UUID id) {
+        if(Objects.isNull(id)){
+            return this.delegate.findById(null);
+        }
+        return this.cache.get(id, key -> PrimaryReads.call(() -> this.delegate.findById(key)));
+    }
+
+    @Override
+    public VehicleDto findByPlate(String plate) {
+        String normalizedPlate = PlateNormalizer.normalize(plate);
+        if(Objects.isNull(normalizedPlate) || normalizedPlate.isEmpty()){
+            return this.delegate.findByPlate(plate);
+        }
+        return this.plateCache.get(normalizedPlate,
+                key -> PrimaryReads.call(() -> this.delegate.findByPlate(key)));
+    }
+
+    @Override
+    public VehicleDto update(VehicleDto dto) {
+        try{
+            VehicleDto updatedVehicle = this.delegate.update(dto);
+            if(Objects.isNull(updatedVehicle.getVersion())){
+                //A cached vehicle with the old version would answer If-None-Match with a stale ETag
+                this.cache.invalidate(updatedVehicle.getId());
+            } else {
+                this.cache.asMap().computeIfPresent(updatedVehicle.getId(), (id, cachedVehicle) -> updatedVehicle);
+            }
+            this.invalidatePlates(Set.of(updatedVehicle.getId()));
+            return updatedVehicle;
+        } catch (RuntimeException e){
+            this.invalidate(dto.getId());
+            throw e;
+        }
+    }
+
+    @Override
+    public ResponsePageDto<VehicleDto> findAll(int pageNumber, int pageSize, EnumPageTotals totals) {
+        return this.delegate.findAll(pageNumber, pageSize, totals);
+    }
+
+    @Override
+    public ResponsePageDto<VehicleDto> findAllByType(EnumVehicleType vehicleType, int pageNumber, int pageSize,
+                                                     EnumPageTotals totals) {
+        return this.delegate.findAllByType(vehicleType, pageNumber, pageSize, totals);
+    }
+
+    @Override
+    public CursorPageDto<VehicleDto> findAllByCursor(String cursor, int pageSize) {
+        return this.delegate.findAllByCursor(cursor, pageSize);
+    }
+
+    @Override
+    public CursorPageDto<VehicleDto> findAllByTypeAndCursor(EnumVehicleType vehicleType, String cursor, int pageSize) {
+        return this.delegate.findAllByTypeAndCursor(vehicleType, cursor, pageSize);
+    }
+
+    @Override
+    public CursorPageDto<VehicleDto> search(VehicleSearchDto filter, String cursor, int pageSize) {
+        return this.delegate.search(filter, cursor, pageSize);
+    }
+
+    @Override
+    public List<BulkItemResultDto> saveAll(List<VehicleDto> vehicleDtoList) {
+        return this.delegate.saveAll(vehicleDtoList);
+    }
+
+    @Override
+    public List<BulkItemResultDto> updateAll(List<VehicleDto> vehicleDtoList) {
+        List<BulkItemResultDto> resultList = this.delegate.updateAll(vehicleDtoList);
+        Set<UUID> updatedIds = resultList.stream()
+                .filter(result -> result.getStatus() == EnumBulkItemStatus.UPDATED)
+                .map(BulkItemResultDto::getId)
+                .collect(Collectors.toSet());
+        updatedIds.forEach(this.cache::invalidate);
+        this.invalidatePlates(updatedIds);
+        return resultList;
+    }
+
+    @Override
+    public void exportAll(EnumVehicleType vehicleType, VehicleExportWriter writer) {
+        this.delegate.exportAll(vehicleType, writer);
+    }
+
+    /**
+     * Hit, miss and eviction counters since startup
+     */
+    public CacheStats getStats(){
+        return this.cache.stats();
+    }
+
+    /**
+     * Hit, miss and eviction counters of the plate lookups since startup
+     */
+    public CacheStats getPlateStats(){
+        return this.plateCache.stats();
+    }
+
+    /**
+     * Empties both caches, the vehicles may have changed in the meantime when the instance is restored from a
+     * checkpoint
+     */
+    public void invalidateAll(){
+        this.cache.invalidateAll();
+        this.plateCache.invalidateAll();
+    }
+
+    private void invalidate(UUID id){
+        if(Objects.nonNull(id)){
+            this.cache.invalidate(id);
+            this.invalidatePlates(Set.of(id));
+        }
+    }
+
+    /**
+     * The plate cache is small, so scanning it is cheaper than keeping a second index from id to plate
+     */
+    private void invalidatePlates(Set<UUID> ids){
+        if(!ids.isEmpty()){
+            this.plateCache.asMap().values().removeIf(cachedVehicle -> ids.contains(cachedVehicle.getId()));
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.api.vehicle.service.cache;
+
+import com.api.vehicle.service.estimate.VehicleCountEstimator;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.Lifecycle;
+
+/**
+ * Empties the caches of the instance before a CRaC checkpoint. A restored instance may start long after its
+ * checkpoint, when the cached vehicles, counts and query results no longer match the table. Stopped after the web
+ * server, so nothing is cached again before the checkpoint.
+ */
+@Slf4j
+public class VehicleCachesCheckpointRestoreLifecycle implements Lifecycle {
+
+    private final ObjectProvider<CachingVehicleService> cachingVehicleService;
+    private final VehicleCountEstimator countEstimator;
+    private final Cache hibernateCache;
+
+    private volatile boolean running = true;
+
+    public VehicleCachesCheckpointRestoreLifecycle(ObjectProvider<CachingVehicleService> cachingVehicleService,
+                                                   VehicleCountEstimator countEstimator,
+                                                   EntityManagerFactory entityManagerFactory) {
+        this.cachingVehicleService = cachingVehicleService;
+        this.countEstimator = countEstimator;
+        this.hibernateCache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+    }
+
+    @Override
+    public void start() {
+        this.running = true;
+    }
+
+    @Override
+    public void stop() {
+        this.cachingVehicleService.ifAvailable(CachingVehicleService::invalidateAll);
+        this.countEstimator.clear();
+        this.hibernateCache.evictAllRegions();
+        this.running = false;
+        log.info("Vehicle caches emptied");
+    }
+
+    @Override
+    public boolean isRunning() {
+        return this.running;
+    }
+}
@@ -0,0 +1,96 @@
+package com.api.vehicle.service.estimate;
+
+import com.api.vehicle.config.properties.PageProperties;
+import com.api.vehicle.repository.VehicleRepository;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Cheap approximations of the number of vehicles, used by pages requested with estimated totals.
+ * The whole table is estimated from the PostgreSQL planner statistics ({@code pg_class.reltuples}) and each
+ * type from a count that is cached for {@link PageProperties#getEstimatedCountTtl()}.
+ * Called outside of any transaction, before the page is read.
+ */
+@Slf4j
+@Component
+public class VehicleCountEstimator {
+
+    private static final int ALL_TYPES = 0;
+
+    private final VehicleRepository repository;
+    private final long ttlNanos;
+    private final Map<Integer, CachedCount> cachedCounts = new ConcurrentHashMap<>();
+
+    private final boolean statisticsAvailable;
+
+    /**
+     * The statistics are only read on PostgreSQL, told by the dialect Hibernate resolved at startup
+     */
+    @Autowired
+    public VehicleCountEstimator(VehicleRepository repository, PageProperties properties,
+                                 EntityManagerFactory entityManagerFactory) {
+        this(repository, properties, entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices().getDialect() instanceof PostgreSQLDialect);
+    }
+
+    VehicleCountEstimator(VehicleRepository repository, PageProperties properties, boolean statisticsAvailable) {
+        this.repository = repository;
+        this.ttlNanos = properties.getEstimatedCountTtl().toNanos();
+        this.statisticsAvailable = statisticsAvailable;
+    }
+
+    public long estimateAll(){
+        return this.getCached(ALL_TYPES, this::countFromStatistics);
+    }
+
+    public long estimateByType(int type){
+        return this.getCached(type, () -> this.repository.countByType(type));
+    }
+
+    /**
+     * Forgets the cached counts, the next estimates count again
+     */
+    public void clear(){
+        this.cachedCounts.clear();
+    }
+
+    private long getCached(int key, LongSupplier counter){
+        long now = System.nanoTime();
+        CachedCount cached = this.cachedCounts.get(key);
+
+        if(cached == null || now - cached.countedAt() > this.ttlNanos){
+            cached = new CachedCount(counter.getAsLong(), now);
+            this.cachedCounts.put(key, cached);
+        }
+        return cached.value();
+    }
+
+    /**
+     * Falls back to an exact count when the statistics are missing (not PostgreSQL, never analyzed table) or could
+     * not be read. The count is cached like the statistics, so a failed read is only retried once the TTL expires.
+     */
+    private long countFromStatistics(){
+        if(this.statisticsAvailable){
+            try{
+                Long estimatedRows = this.repository.estimateRowsFromStatistics();
+                if(estimatedRows != null && estimatedRows > 0){
+                    return estimatedRows;
+                }
+            } catch (DataAccessException e){
+                log.warn("Could not read the table statistics, the estimated totals use a count until they are read again.", e);
+            }
+        }
+        return this.repository.count();
+    }
+
+    private record CachedCount(long value, long countedAt) {}
+}
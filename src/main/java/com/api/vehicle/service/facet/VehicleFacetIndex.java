@@ -0,0 +1,141 @@
+package com.api.vehicle.service.facet;
+
+import com.api.vehicle.model.dto.facet.VehicleFacetsDto;
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Inverted index of the vehicles, one Roaring bitmap of vehicle ordinals per (field, value). A count is the
+ * cardinality of the intersection of the filtered bitmaps, with no row read. Only the bitmaps are kept per facet,
+ * the value of a vehicle is found again by the bitmap holding its ordinal. Not thread safe.
+ */
+final class VehicleFacetIndex {
+
+    private final VehicleOrdinals ordinals = new VehicleOrdinals();
+    private final RoaringBitmap all = new RoaringBitmap();
+    private final Facet<Integer> types = new Facet<>();
+    private final Facet<String> brands = new Facet<>();
+    private final Facet<String> colors = new Facet<>();
+
+    /**
+     * Indexes the vehicle, or moves it to its new values when already indexed
+     */
+    void put(UUID id, int type, String brand, String color){
+        int ordinal = this.ordinals.find(id);
+        if(ordinal < 0){
+            ordinal = this.ordinals.add(id);
+            this.all.add(ordinal);
+        } else {
+            this.clear(ordinal);
+        }
+        this.types.add(type, ordinal);
+        this.brands.add(brand, ordinal);
+        this.colors.add(color, ordinal);
+    }
+
+    void remove(UUID id){
+        int ordinal = this.ordinals.remove(id);
+        if(ordinal >= 0){
+            this.all.remove(ordinal);
+            this.clear(ordinal);
+        }
+    }
+
+    int size(){
+        return this.ordinals.size();
+    }
+
+    /**
+     * Filters left null are not applied, the others are combined with AND
+     */
+    VehicleFacetsDto count(Integer type, String brand, String color){
+        List<RoaringBitmap> filters = new ArrayList<>(3);
+        if(Objects.nonNull(type)){
+            filters.add(this.types.bitmap(type));
+        }
+        if(Objects.nonNull(brand)){
+            filters.add(this.brands.bitmap(brand));
+        }
+        if(Objects.nonNull(color)){
+            filters.add(this.colors.bitmap(color));
+        }
+
+        RoaringBitmap matching = switch (filters.size()) {
+            case 0 -> this.all;
+            case 1 -> filters.get(0);
+            default -> FastAggregation.and(filters.toArray(RoaringBitmap[]::new));
+        };
+        return VehicleFacetsDto.builder()
+                .total(matching.getLongCardinality())
+                .type(this.types.count(matching))
+                .brand(this.brands.count(matching))
+                .color(this.colors.count(matching))
+                .build();
+    }
+
+    private void clear(int ordinal){
+        this.types.remove(ordinal);
+        this.brands.remove(ordinal);
+        this.colors.remove(ordinal);
+    }
+
+    private static final class Facet<V> {
+
+        private static final RoaringBitmap NONE = new RoaringBitmap();
+
+        private final Map<V, RoaringBitmap> bitmaps = new HashMap<>();
+
+        void add(V value, int ordinal){
+            this.bitmaps.computeIfAbsent(value, key -> new RoaringBitmap()).add(ordinal);
+        }
+
+        /**
+         * A vehicle has one value per facet, so the search stops at the bitmap that held it. The bitmap of a
+         * value no vehicle has anymore is dropped with it.
+         */
+        void remove(int ordinal){
+            Iterator<RoaringBitmap> iterator = this.bitmaps.values().iterator();
+            while (iterator.hasNext()){
+                RoaringBitmap bitmap = iterator.next();
+                if(bitmap.checkedRemove(ordinal)){
+                    if(bitmap.isEmpty()){
+                        iterator.remove();
+                    }
+                    return;
+                }
+            }
+        }
+
+        RoaringBitmap bitmap(V value){
+            return this.bitmaps.getOrDefault(value, NONE);
+        }
+
+        /**
+         * Cardinalities of the intersections only, no intersection bitmap is built. Most frequent values first.
+         */
+        Map<V, Long> count(RoaringBitmap matching){
+            List<Map.Entry<V, Long>> counts = new ArrayList<>();
+            for(Map.Entry<V, RoaringBitmap> entry : this.bitmaps.entrySet()){
+                long count = RoaringBitmap.andCardinality(matching, entry.getValue());
+                if(count > 0){
+                    counts.add(Map.entry(entry.getKey(), count));
+                }
+            }
+            counts.sort(Map.Entry.<V, Long>comparingByValue(Comparator.reverseOrder()));
+
+            Map<V, Long> sortedCounts = new LinkedHashMap<>();
+            counts.forEach(count -> sortedCounts.put(count.getKey(), count.getValue()));
+            return sortedCounts;
+        }
+    }
+}
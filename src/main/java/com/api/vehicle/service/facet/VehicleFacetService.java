@@ -0,0 +1,208 @@
+package com.api.vehicle.service.facet;
+
+import com.api.vehicle.config.properties.FacetProperties;
+import com.api.vehicle.enums.type.EnumVehicleType;
+import com.api.vehicle.exception.response.ServiceUnavailableException;
+import com.api.vehicle.model.dto.VehicleDto;
+import com.api.vehicle.model.dto.facet.VehicleFacetValues;
+import com.api.vehicle.model.dto.facet.VehicleFacetsDto;
+import com.api.vehicle.model.event.VehicleChangedEvent;
+import com.api.vehicle.repository.VehicleRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * Counts of vehicles by type, brand and color from the in-process {@link VehicleFacetIndex}. Enabled by
+ * {@code vehicle.facets.enabled}. The index is built on a background thread at startup with a streaming scan of
+ * the table and built again every {@code vehicle.facets.refresh-interval}, which picks up the writes made by other
+ * instances. The vehicles written through this instance are applied as soon as their transaction commits.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(prefix = "vehicle.facets", name = "enabled", havingValue = "true")
+public class VehicleFacetService implements SmartLifecycle {
+
+    private final VehicleRepository repository;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration refreshInterval;
+    private final Timer rebuildTimer;
+    private final Lock readLock;
+    private final Lock writeLock;
+
+    /**
+     * Null until the first build completes, guarded by the lock
+     */
+    private VehicleFacetIndex index;
+
+    /**
+     * Changes committed while a rebuild scans the table, guarded by the lock
+     */
+    private List<VehicleChangedEvent> changesDuringRebuild;
+
+    private volatile boolean running;
+    private ScheduledExecutorService scheduler;
+
+    @Autowired
+    public VehicleFacetService(VehicleRepository repository, PlatformTransactionManager transactionManager,
+                               FacetProperties properties, MeterRegistry meterRegistry) {
+        this.repository = repository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.refreshInterval = properties.getRefreshInterval();
+
+        ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        this.readLock = lock.readLock();
+        this.writeLock = lock.writeLock();
+
+        this.rebuildTimer = Timer.builder("vehicle.facets.rebuild")
+                .description("Time to build the facet index from the table")
+                .register(meterRegistry);
+        Gauge.builder("vehicle.facets.vehicles", this, VehicleFacetService::indexedVehicles)
+                .description("Vehicles in the facet index")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Blank filters are not applied. A brand or a color matches only when written exactly as stored.
+     */
+    public VehicleFacetsDto count(EnumVehicleType type, String brand, String color){
+        this.readLock.lock();
+        try{
+            if(Objects.isNull(this.index)){
+                throw new ServiceUnavailableException("The facet index is still being built, please try again later.");
+            }
+            return this.index.count(Objects.isNull(type) ? null : type.getId(),
+                    StringUtils.hasText(brand) ? brand : null,
+                    StringUtils.hasText(color) ? color : null);
+        } finally {
+            this.readLock.unlock();
+        }
+    }
+
+    /**
+     * Runs right away for the writes made outside a transaction. Two writes of the same vehicle committed at
+     * almost the same time may be applied out of order, the next rebuild sets it right.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onVehicleChanged(VehicleChangedEvent event){
+        this.writeLock.lock();
+        try{
+            if(Objects.nonNull(this.index)){
+                apply(this.index, event);
+            }
+            if(Objects.nonNull(this.changesDuringRebuild)){
+                this.changesDuringRebuild.add(event);
+            }
+        } finally {
+            this.writeLock.unlock();
+        }
+    }
+
+    /**
+     * Scans the table into a new index while the current one keeps answering. The scan may or may not see the
+     * changes committed while it runs, so they are applied again to the new index before it replaces the current one.
+     */
+    public synchronized void rebuild(){
+        this.writeLock.lock();
+        try{
+            this.changesDuringRebuild = new ArrayList<>();
+        } finally {
+            this.writeLock.unlock();
+        }
+
+        VehicleFacetIndex rebuilt = new VehicleFacetIndex();
+        try{
+            this.rebuildTimer.record(() -> this.transactionTemplate.executeWithoutResult(status -> {
+                try (Stream<VehicleFacetValues> streamValues = this.repository.streamFacetValues()){
+                    streamValues.forEach(values -> rebuilt.put(values.id(), values.type(), values.brand(), values.color()));
+                }
+            }));
+        } catch (RuntimeException e){
+            this.writeLock.lock();
+            try{
+                this.changesDuringRebuild = null;
+            } finally {
+                this.writeLock.unlock();
+            }
+            throw e;
+        }
+
+        this.writeLock.lock();
+        try{
+            this.changesDuringRebuild.forEach(event -> apply(rebuilt, event));
+            this.changesDuringRebuild = null;
+            this.index = rebuilt;
+        } finally {
+            this.writeLock.unlock();
+        }
+        log.info("Facet index built with {} vehicles", rebuilt.size());
+    }
+
+    @Override
+    public void start() {
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("vehicle-facet-index").factory());
+        this.scheduler.scheduleWithFixedDelay(this::refresh, 0, this.refreshInterval.toMillis(), TimeUnit.MILLISECONDS);
+        this.running = true;
+    }
+
+    @Override
+    public void stop() {
+        this.running = false;
+        this.scheduler.shutdownNow();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return this.running;
+    }
+
+    /**
+     * A failed build keeps the current index, or none at startup, until the next one
+     */
+    private void refresh(){
+        try{
+            this.rebuild();
+        } catch (RuntimeException e){
+            log.warn("Could not build the facet index: {}", e.getMessage());
+        }
+    }
+
+    private double indexedVehicles(){
+        this.readLock.lock();
+        try{
+            return Objects.isNull(this.index) ? 0 : this.index.size();
+        } finally {
+            this.readLock.unlock();
+        }
+    }
+
+    private static void apply(VehicleFacetIndex index, VehicleChangedEvent event){
+        if(event.isDeleted()){
+            index.remove(event.id());
+            return;
+        }
+        VehicleDto vehicle = event.vehicle();
+        index.put(vehicle.getId(), vehicle.getType(), vehicle.getBrand(), vehicle.getColor());
+    }
+}
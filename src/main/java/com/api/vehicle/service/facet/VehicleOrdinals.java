@@ -0,0 +1,144 @@
+package com.api.vehicle.service.facet;
+
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * Dense ordinals of the indexed vehicles, the positions of their bits in the facet bitmaps. The ids are kept by
+ * ordinal in two long arrays and looked up through an open addressing table of ordinals, about 24 bytes per vehicle
+ * against more than 80 for a {@code HashMap<UUID, Integer>}. Ordinals of removed vehicles are given again to the
+ * next ones, so the bitmaps stay dense. Not thread safe.
+ */
+final class VehicleOrdinals {
+
+    private static final int EMPTY = -1;
+    private static final int INITIAL_CAPACITY = 1 << 10;
+
+    private long[] mostSignificantBits = new long[INITIAL_CAPACITY];
+    private long[] leastSignificantBits = new long[INITIAL_CAPACITY];
+
+    /**
+     * Ordinal of each slot or {@link #EMPTY}, kept at most half full
+     */
+    private int[] slots = emptySlots(INITIAL_CAPACITY * 2);
+    private final RoaringBitmap freeOrdinals = new RoaringBitmap();
+    private int assignedOrdinals;
+    private int size;
+
+    /**
+     * @return the ordinal of the vehicle, or a negative value when it is not indexed
+     */
+    int find(UUID id){
+        long most = id.getMostSignificantBits();
+        long least = id.getLeastSignificantBits();
+        int mask = this.slots.length - 1;
+        for(int slot = hash(most, least) & mask; this.slots[slot] != EMPTY; slot = (slot + 1) & mask){
+            int ordinal = this.slots[slot];
+            if(this.mostSignificantBits[ordinal] == most && this.leastSignificantBits[ordinal] == least){
+                return ordinal;
+            }
+        }
+        return EMPTY;
+    }
+
+    /**
+     * @param id not indexed yet
+     * @return the ordinal given to the vehicle
+     */
+    int add(UUID id){
+        int ordinal;
+        if(this.freeOrdinals.isEmpty()){
+            ordinal = this.assignedOrdinals++;
+            if(ordinal == this.mostSignificantBits.length){
+                this.mostSignificantBits = Arrays.copyOf(this.mostSignificantBits, ordinal * 2);
+                this.leastSignificantBits = Arrays.copyOf(this.leastSignificantBits, ordinal * 2);
+            }
+        } else {
+            ordinal = this.freeOrdinals.first();
+            this.freeOrdinals.remove(ordinal);
+        }
+        this.mostSignificantBits[ordinal] = id.getMostSignificantBits();
+        this.leastSignificantBits[ordinal] = id.getLeastSignificantBits();
+
+        if(++this.size > this.slots.length / 2){
+            this.slots = emptySlots(this.slots.length * 2);
+            this.rehash();
+        } else {
+            this.insert(ordinal);
+        }
+        return ordinal;
+    }
+
+    /**
+     * @return the ordinal the vehicle had, or a negative value when it was not indexed
+     */
+    int remove(UUID id){
+        long most = id.getMostSignificantBits();
+        long least = id.getLeastSignificantBits();
+        int mask = this.slots.length - 1;
+        int slot = hash(most, least) & mask;
+        int ordinal;
+        while ((ordinal = this.slots[slot]) != EMPTY
+                && (this.mostSignificantBits[ordinal] != most || this.leastSignificantBits[ordinal] != least)){
+            slot = (slot + 1) & mask;
+        }
+        if(ordinal == EMPTY){
+            return EMPTY;
+        }
+
+        //Backward shift, the entries after the removed one that would no longer be reached are moved up
+        int hole = slot;
+        for(int next = (hole + 1) & mask; this.slots[next] != EMPTY; next = (next + 1) & mask){
+            int home = this.homeSlot(this.slots[next]);
+            if(((next - home) & mask) >= ((next - hole) & mask)){
+                this.slots[hole] = this.slots[next];
+                hole = next;
+            }
+        }
+        this.slots[hole] = EMPTY;
+        this.freeOrdinals.add(ordinal);
+        this.size--;
+        return ordinal;
+    }
+
+    int size(){
+        return this.size;
+    }
+
+    private void rehash(){
+        for(int ordinal = 0; ordinal < this.assignedOrdinals; ordinal++){
+            if(!this.freeOrdinals.contains(ordinal)){
+                this.insert(ordinal);
+            }
+        }
+    }
+
+    private void insert(int ordinal){
+        int mask = this.slots.length - 1;
+        int slot = this.homeSlot(ordinal);
+        while (this.slots[slot] != EMPTY){
+            slot = (slot + 1) & mask;
+        }
+        this.slots[slot] = ordinal;
+    }
+
+    private int homeSlot(int ordinal){
+        return hash(this.mostSignificantBits[ordinal], this.leastSignificantBits[ordinal]) & (this.slots.length - 1);
+    }
+
+    /**
+     * The time ordered ids differ mostly in their high bits, so both halves are mixed before taking the low ones
+     */
+    private static int hash(long most, long least){
+        long mixed = (most ^ least) * 0x9E3779B97F4A7C15L;
+        return (int) (mixed ^ (mixed >>> 32));
+    }
+
+    private static int[] emptySlots(int length){
+        int[] slots = new int[length];
+        Arrays.fill(slots, EMPTY);
+        return slots;
+    }
+}
@@ -0,0 +1,196 @@
+package com.api.vehicle.service.ingestion;
+
+import com.api.vehicle.model.dto.VehicleDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * Append-only journal of the vehicles accepted by {@link VehicleIngestionService}, one JSON line per vehicle split
+ * in numbered segments. A segment is closed once it reaches the segment size and deleted once every vehicle in it
+ * is completed, so the journal only holds what is still waiting to be written.
+ * Appends take a lock instead of synchronizing so that virtual threads are never pinned.
+ */
+@Slf4j
+public class VehicleIngestionJournal implements Closeable {
+
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".ndjson";
+
+    private final Path directory;
+    private final long segmentSize;
+    private final boolean sync;
+    private final ObjectMapper objectMapper;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private Segment current;
+    private long nextSequence;
+    private boolean closed;
+
+    public VehicleIngestionJournal(Path directory, long segmentSize, boolean sync, ObjectMapper objectMapper) {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.sync = sync;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Reads the segments left by the previous run, before the first append. A line cut short by a crash was never
+     * acknowledged and is skipped. Opens the journal again after a {@link #close()}.
+     */
+    public List<Entry> replay() throws IOException {
+        this.lock.lock();
+        try{
+            this.closed = false;
+        } finally {
+            this.lock.unlock();
+        }
+        Files.createDirectories(this.directory);
+        List<Path> segmentPaths;
+        try (Stream<Path> paths = Files.list(this.directory)){
+            segmentPaths = paths.filter(VehicleIngestionJournal::isSegment).sorted().toList();
+        }
+
+        List<Entry> entries = new ArrayList<>();
+        for(Path path : segmentPaths){
+            Segment segment = new Segment(path, null);
+            for(String line : Files.readAllLines(path, StandardCharsets.UTF_8)){
+                if(line.isBlank()){
+                    continue;
+                }
+                try{
+                    entries.add(new Entry(this.objectMapper.readValue(line, VehicleDto.class), segment));
+                    segment.pending.incrementAndGet();
+                } catch (JsonProcessingException e){
+                    log.warn("Skipping an incomplete line of the ingestion journal segment {}", path.getFileName());
+                }
+            }
+            segment.seal();
+            this.nextSequence = Math.max(this.nextSequence, sequenceOf(path) + 1);
+        }
+        return entries;
+    }
+
+    /**
+     * @return the segment to complete once the vehicle is written or failed
+     * @throws ClosedChannelException once the journal is closed, until it is replayed again
+     */
+    public Segment append(VehicleDto vehicleDto) throws IOException {
+        byte[] json = this.objectMapper.writeValueAsBytes(vehicleDto);
+        ByteBuffer line = ByteBuffer.allocate(json.length + 1).put(json).put((byte) '\n').flip();
+
+        this.lock.lock();
+        try{
+            if(this.closed){
+                throw new ClosedChannelException();
+            }
+            if(this.current == null || this.current.size >= this.segmentSize){
+                this.rollOver();
+            }
+            while (line.hasRemaining()){
+                this.current.channel.write(line);
+            }
+            if(this.sync){
+                this.current.channel.force(false);
+            }
+            this.current.size += line.limit();
+            this.current.pending.incrementAndGet();
+            return this.current;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    public void complete(Segment segment){
+        if(segment.pending.decrementAndGet() == 0 && segment.sealed){
+            segment.delete();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.lock.lock();
+        try{
+            this.closed = true;
+            if(this.current != null){
+                this.current.channel.close();
+                this.current.seal();
+                this.current = null;
+            }
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    private void rollOver() throws IOException {
+        if(this.current != null){
+            this.current.channel.close();
+            this.current.seal();
+        }
+        Path path = this.directory.resolve(String.format("%s%019d%s", SEGMENT_PREFIX, this.nextSequence++, SEGMENT_SUFFIX));
+        this.current = new Segment(path, FileChannel.open(path, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE));
+    }
+
+    private static boolean isSegment(Path path){
+        String name = path.getFileName().toString();
+        return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+    }
+
+    private static long sequenceOf(Path path){
+        String name = path.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    public record Entry(VehicleDto vehicle, Segment segment) {}
+
+    /**
+     * A segment is deleted by whichever comes last, its sealing or the completion of its last vehicle
+     */
+    public static final class Segment {
+
+        private final Path path;
+        private final FileChannel channel;
+        private final AtomicInteger pending = new AtomicInteger();
+        private final AtomicBoolean deleted = new AtomicBoolean();
+        private volatile boolean sealed;
+        private long size;
+
+        private Segment(Path path, FileChannel channel) {
+            this.path = path;
+            this.channel = channel;
+        }
+
+        private void seal(){
+            this.sealed = true;
+            if(this.pending.get() == 0){
+                this.delete();
+            }
+        }
+
+        private void delete(){
+            if(this.deleted.compareAndSet(false, true)){
+                try{
+                    Files.deleteIfExists(this.path);
+                } catch (IOException e){
+                    log.warn("Could not delete the ingestion journal segment {}", this.path.getFileName(), e);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,339 @@
+package com.api.vehicle.service.ingestion;
+
+import com.api.vehicle.config.properties.IngestionProperties;
+import com.api.vehicle.enums.ingestion.EnumIngestionStatus;
+import com.api.vehicle.exception.response.BadRequestException;
+import com.api.vehicle.exception.response.InternalServerErrorException;
+import com.api.vehicle.exception.response.NotFoundException;
+import com.api.vehicle.exception.response.ServiceUnavailableException;
+import com.api.vehicle.model.dto.VehicleDto;
+import com.api.vehicle.model.dto.ingestion.IngestionStatusDto;
+import com.api.vehicle.model.entity.id.UuidV7;
+import com.api.vehicle.model.entity.plate.PlateNormalizer;
+import com.api.vehicle.model.event.VehicleChangedEvent;
+import com.api.vehicle.repository.VehicleRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.ClosedChannelException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Write-behind ingestion of new vehicles, enabled by {@code vehicle.ingestion.enabled}. An accepted vehicle gets its
+ * id at once, is appended to the {@link VehicleIngestionJournal} and queued. A single writer inserts the queue in
+ * batches of {@code batch-size} vehicles, one transaction each, as soon as a batch is full or {@code flush-interval}
+ * after its first vehicle. At most {@code capacity} vehicles wait to be written, the next ones are answered with 503.
+ * A batch that violates a constraint is split in halves until only the offending vehicles fail. Any other database
+ * error keeps the batch and tries it again later. The batches are plain JDBC batch inserts, Hibernate does not
+ * persist an entity that already has a generated id and a null version. Hibernate does not see these inserts either,
+ * so the cached query results are evicted after each batch. What is still queued at shutdown is replayed from the journal
+ * on the next start, skipping the vehicles written in the meantime.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(prefix = "vehicle.ingestion", name = "enabled", havingValue = "true")
+public class VehicleIngestionService implements SmartLifecycle {
+
+    private static final long POLL_TIMEOUT_MILLIS = 200;
+    private static final int REPLAY_LOOKUP_SIZE = 1_000;
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(30);
+    private static final String INSERT = "INSERT INTO tb_vehicle (id, brand, model, color, plate, type, version) "
+            + "VALUES (?, ?, ?, ?, ?, ?, 0)";
+
+    private final VehicleRepository repository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final org.hibernate.Cache hibernateCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final VehicleIngestionJournal journal;
+    private final BlockingQueue<PendingVehicle> queue = new LinkedBlockingQueue<>();
+    private final Set<UUID> pendingIds = ConcurrentHashMap.newKeySet();
+    private final ReadWriteLock runningLock = new ReentrantReadWriteLock();
+    private final Cache<UUID, String> failures;
+    private final Semaphore permits;
+    private final int capacity;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final long retryDelayNanos;
+
+    private volatile boolean running;
+    private Thread writer;
+
+    @Autowired
+    public VehicleIngestionService(VehicleRepository repository, JdbcTemplate jdbcTemplate,
+                                   TransactionTemplate transactionTemplate, EntityManagerFactory entityManagerFactory,
+                                   ApplicationEventPublisher eventPublisher, ObjectMapper objectMapper,
+                                   IngestionProperties properties, MeterRegistry meterRegistry) {
+        this.repository = repository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.hibernateCache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        this.eventPublisher = eventPublisher;
+        this.journal = new VehicleIngestionJournal(properties.getJournalDirectory(),
+                properties.getJournalSegmentSize().toBytes(), properties.isJournalSync(), objectMapper);
+        this.failures = Caffeine.newBuilder().expireAfterWrite(properties.getFailureRetention()).build();
+        this.capacity = properties.getCapacity();
+        this.permits = new Semaphore(this.capacity);
+        this.batchSize = properties.getBatchSize();
+        this.flushIntervalNanos = properties.getFlushInterval().toNanos();
+        this.retryDelayNanos = properties.getRetryDelay().toNanos();
+
+        Gauge.builder("vehicle.ingestion.pending", this.pendingIds, Set::size)
+                .description("Vehicles accepted and not written yet")
+                .register(meterRegistry);
+    }
+
+    /**
+     * The vehicle is journaled before returning, so it is written even if the service stops before its batch.
+     * Runs under the read side of the running lock, {@link #stop()} waits for the vehicles being accepted and the
+     * next ones are answered with 503.
+     * @return the vehicle with the id it will be written with
+     */
+    public VehicleDto accept(VehicleDto vehicleDto){
+        if(Objects.nonNull(vehicleDto.getId())){
+            throw new BadRequestException("ID must be null to save a vehicle! Use the PUT endpoint if you want to" +
+                    " update an existing vehicle.");
+        }
+
+        this.runningLock.readLock().lock();
+        try{
+            if(!this.running){
+                throw new ServiceUnavailableException("Vehicle ingestion is stopped, please try again later.");
+            }
+            if(!this.permits.tryAcquire()){
+                throw new ServiceUnavailableException("Too many vehicles waiting to be written, please try again later.");
+            }
+
+            vehicleDto.setId(UuidV7.generate());
+            vehicleDto.setPlate(PlateNormalizer.normalize(vehicleDto.getPlate()));
+
+            VehicleIngestionJournal.Segment segment;
+            try{
+                segment = this.journal.append(vehicleDto);
+            } catch (ClosedChannelException e){
+                this.permits.release();
+                throw new ServiceUnavailableException("Vehicle ingestion is stopped, please try again later.");
+            } catch (IOException e){
+                this.permits.release();
+                throw new InternalServerErrorException(e.getMessage());
+            }
+            this.pendingIds.add(vehicleDto.getId());
+            this.queue.add(new PendingVehicle(vehicleDto, segment, true));
+            return vehicleDto;
+        } finally {
+            this.runningLock.readLock().unlock();
+        }
+    }
+
+    public IngestionStatusDto status(UUID id){
+        if(this.pendingIds.contains(id)){
+            return IngestionStatusDto.builder().id(id).status(EnumIngestionStatus.PENDING).build();
+        }
+        String failure = this.failures.getIfPresent(id);
+        if(Objects.nonNull(failure)){
+            return IngestionStatusDto.builder().id(id).status(EnumIngestionStatus.FAILED).details(failure).build();
+        }
+        try{
+            if(this.repository.existsById(id)){
+                return IngestionStatusDto.builder().id(id).status(EnumIngestionStatus.COMMITTED).build();
+            }
+        } catch (DataAccessException e){
+            throw new InternalServerErrorException(e.getMessage());
+        }
+        throw new NotFoundException("Vehicle not found!");
+    }
+
+    @Override
+    public void start() {
+        try{
+            this.replay(this.journal.replay());
+        } catch (IOException e){
+            throw new UncheckedIOException(e);
+        }
+        this.running = true;
+        this.writer = Thread.ofPlatform().name("vehicle-ingestion-writer").start(this::writeLoop);
+    }
+
+    /**
+     * Waits for the batch being written, the queued vehicles stay in the journal. They are dropped from memory
+     * along with their permits, so a start after a stop, as done around a checkpoint, replays them only once.
+     */
+    @Override
+    public void stop() {
+        this.runningLock.writeLock().lock();
+        try{
+            this.running = false;
+        } finally {
+            this.runningLock.writeLock().unlock();
+        }
+        try{
+            this.writer.join(SHUTDOWN_TIMEOUT);
+            this.journal.close();
+        } catch (InterruptedException e){
+            Thread.currentThread().interrupt();
+        } catch (IOException e){
+            log.warn("Could not close the ingestion journal", e);
+        }
+        if(!this.writer.isAlive()){
+            this.queue.clear();
+            this.pendingIds.clear();
+            this.permits.drainPermits();
+            this.permits.release(this.capacity);
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return this.running;
+    }
+
+    /**
+     * Started before the web server accepts requests and stopped after it stops accepting them
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    private void replay(List<VehicleIngestionJournal.Entry> entries){
+        Set<UUID> writtenIds = new HashSet<>();
+        for(int start = 0; start < entries.size(); start += REPLAY_LOOKUP_SIZE){
+            writtenIds.addAll(this.repository.findExistingIds(entries.subList(start,
+                    Math.min(start + REPLAY_LOOKUP_SIZE, entries.size())).stream().map(entry -> entry.vehicle().getId()).toList()));
+        }
+
+        for(VehicleIngestionJournal.Entry entry : entries){
+            if(writtenIds.contains(entry.vehicle().getId())){
+                this.journal.complete(entry.segment());
+            } else {
+                this.pendingIds.add(entry.vehicle().getId());
+                this.queue.add(new PendingVehicle(entry.vehicle(), entry.segment(), false));
+            }
+        }
+        if(!entries.isEmpty()){
+            log.info("Ingestion journal replayed, {} vehicles queued again and {} already written",
+                    entries.size() - writtenIds.size(), writtenIds.size());
+        }
+    }
+
+    private void writeLoop(){
+        List<PendingVehicle> batch = new ArrayList<>(this.batchSize);
+        while (this.running){
+            try{
+                //A batch kept after a failure may be partly written already
+                batch.removeIf(pending -> !this.pendingIds.contains(pending.vehicle().getId()));
+                if(batch.isEmpty()){
+                    this.collect(batch);
+                }
+                if(!batch.isEmpty()){
+                    this.write(batch);
+                    batch.clear();
+                }
+            } catch (InterruptedException e){
+                Thread.currentThread().interrupt();
+                return;
+            } catch (DataAccessException | TransactionException e){
+                log.warn("Could not write {} accepted vehicles, trying again: {}", batch.size(), e.getMessage());
+                LockSupport.parkNanos(this.retryDelayNanos);
+            }
+        }
+    }
+
+    private void collect(List<PendingVehicle> batch) throws InterruptedException {
+        PendingVehicle first = this.queue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        if(first == null){
+            return;
+        }
+        batch.add(first);
+
+        long deadline = System.nanoTime() + this.flushIntervalNanos;
+        while (batch.size() < this.batchSize){
+            this.queue.drainTo(batch, this.batchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if(batch.size() >= this.batchSize || remaining <= 0){
+                return;
+            }
+            PendingVehicle next = this.queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if(next == null){
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    private void write(List<PendingVehicle> batch){
+        try{
+            this.transactionTemplate.executeWithoutResult(status -> this.jdbcTemplate.batchUpdate(INSERT, batch,
+                    batch.size(), (statement, pending) -> {
+                        VehicleDto vehicle = pending.vehicle();
+                        statement.setObject(1, vehicle.getId());
+                        statement.setString(2, vehicle.getBrand());
+                        statement.setString(3, vehicle.getModel());
+                        statement.setString(4, vehicle.getColor());
+                        statement.setString(5, vehicle.getPlate());
+                        statement.setInt(6, vehicle.getType());
+                    }));
+            this.hibernateCache.evictQueryRegions();
+            batch.forEach(pending -> {
+                this.eventPublisher.publishEvent(VehicleChangedEvent.saved(pending.vehicle()));
+                this.complete(pending, null);
+            });
+        } catch (DataIntegrityViolationException e){
+            if(batch.size() == 1){
+                this.complete(batch.get(0), e.getMostSpecificCause().getMessage());
+                return;
+            }
+            int middle = batch.size() / 2;
+            this.write(batch.subList(0, middle));
+            this.write(batch.subList(middle, batch.size()));
+        }
+    }
+
+    private void complete(PendingVehicle pending, String failure){
+        if(Objects.nonNull(failure)){
+            this.failures.put(pending.vehicle().getId(), failure);
+        }
+        this.pendingIds.remove(pending.vehicle().getId());
+        this.journal.complete(pending.segment());
+        if(pending.admitted()){
+            this.permits.release();
+        }
+    }
+
+    /**
+     * @param admitted whether it holds one of the capacity permits, the replayed vehicles do not
+     */
+    private record PendingVehicle(VehicleDto vehicle, VehicleIngestionJournal.Segment segment, boolean admitted) {}
+}
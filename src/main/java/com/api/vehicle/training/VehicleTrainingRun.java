@@ -0,0 +1,187 @@
+package com.api.vehicle.training;
+
+import com.api.vehicle.config.properties.TrainingProperties;
+import com.api.vehicle.constants.url.Endpoints;
+import com.api.vehicle.enums.export.EnumExportFormat;
+import com.api.vehicle.enums.page.EnumPageTotals;
+import com.api.vehicle.enums.type.EnumVehicleType;
+import com.api.vehicle.model.dto.VehicleDto;
+import com.api.vehicle.model.dto.bulk.BulkItemResultDto;
+import com.api.vehicle.model.dto.page.CursorPageDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.crac.CheckpointException;
+import org.crac.Core;
+import org.crac.RestoreException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Training run of the JVM build. Once the application is ready, sends {@code vehicle.training.iterations} rounds of
+ * requests to every endpoint of the vehicle controller, the error answers included, and exits. The classes loaded
+ * by then are what {@code -XX:ArchiveClassesAtExit} puts in the AppCDS archive. With
+ * {@code vehicle.training.checkpoint} a CRaC checkpoint is taken instead of exiting, so the JIT has compiled the
+ * request paths as well. The vehicles created are deleted at the end of each round.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "vehicle.training", name = "enabled", havingValue = "true")
+public class VehicleTrainingRun implements ApplicationListener<ApplicationReadyEvent> {
+
+    private static final String PLATE_CHARACTERS = "ABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789";
+    private static final int PAGE_SIZE = 20;
+
+    private final TrainingProperties properties;
+    private final ObjectMapper objectMapper;
+
+    @Autowired
+    public VehicleTrainingRun(TrainingProperties properties, ObjectMapper objectMapper) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        Integer port = event.getApplicationContext().getEnvironment().getProperty("local.server.port", Integer.class);
+        RestClient client = RestClient.builder().baseUrl("http://localhost:" + port).build();
+
+        long start = System.nanoTime();
+        for(int iteration = 0; iteration < this.properties.getIterations(); iteration++){
+            this.exercise(client);
+        }
+        log.info("Training run of {} rounds done in {} ms", this.properties.getIterations(),
+                (System.nanoTime() - start) / 1_000_000);
+
+        if(this.properties.isCheckpoint()){
+            try{
+                Core.checkpointRestore();
+                log.info("Restored from the training checkpoint");
+            } catch (CheckpointException | RestoreException e){
+                log.error("Could not take the training checkpoint", e);
+                System.exit(SpringApplication.exit(event.getApplicationContext(), () -> 1));
+            }
+        } else {
+            System.exit(SpringApplication.exit(event.getApplicationContext()));
+        }
+    }
+
+    private void exercise(RestClient client){
+        List<UUID> createdIds = new ArrayList<>();
+        try{
+            VehicleDto vehicle = client.post().uri(Endpoints.VEHICLE)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(newVehicle())
+                    .retrieve()
+                    .body(VehicleDto.class);
+            createdIds.add(Objects.requireNonNull(vehicle).getId());
+
+            String eTag = client.get().uri(Endpoints.URL_FIND_VEHICLE, vehicle.getId())
+                    .retrieve()
+                    .toBodilessEntity()
+                    .getHeaders().getETag();
+            exchange(client.get().uri(Endpoints.URL_FIND_VEHICLE, vehicle.getId()).ifNoneMatch(eTag));
+            exchange(client.get().uri(Endpoints.URL_FIND_VEHICLE, vehicle.getId()).accept(MediaType.APPLICATION_CBOR));
+            exchange(client.get().uri(Endpoints.URL_FIND_VEHICLE_BY_PLATE, vehicle.getPlate().toLowerCase()));
+
+            vehicle.setColor("Prata");
+            exchange(client.put().uri(Endpoints.VEHICLE).contentType(MediaType.APPLICATION_JSON)
+                    .header(HttpHeaders.IF_MATCH, eTag)
+                    .body(vehicle));
+
+            createdIds.addAll(saveAll(client, MediaType.APPLICATION_JSON,
+                    this.objectMapper.writeValueAsString(List.of(newVehicle(), newVehicle()))));
+            createdIds.addAll(saveAll(client, MediaType.APPLICATION_NDJSON,
+                    this.objectMapper.writeValueAsString(newVehicle()) + "\n" + this.objectMapper.writeValueAsString(newVehicle())));
+            exchange(client.put().uri(Endpoints.URL_BULK_VEHICLES).contentType(MediaType.APPLICATION_JSON)
+                    .body(List.of(vehicle)));
+
+            exchange(client.get().uri(Endpoints.URL_FIND_ALL_VEHICLES_WITH_TOTALS, 0, PAGE_SIZE, EnumPageTotals.EXACT));
+            exchange(client.get().uri(Endpoints.URL_FIND_ALL_VEHICLES_WITH_TOTALS, 0, PAGE_SIZE, EnumPageTotals.ESTIMATED));
+            exchange(client.get().uri(Endpoints.URL_FIND_ALL_VEHICLES_BY_TYPE_WITH_TOTALS,
+                    EnumVehicleType.CAR.getId(), 0, PAGE_SIZE, EnumPageTotals.NONE));
+            CursorPageDto<?> firstPage = client.get().uri(Endpoints.URL_FIND_ALL_VEHICLES_BY_CURSOR, "", PAGE_SIZE)
+                    .retrieve()
+                    .body(CursorPageDto.class);
+            if(Objects.nonNull(firstPage) && Objects.nonNull(firstPage.getNextCursor())){
+                exchange(client.get().uri(Endpoints.URL_FIND_ALL_VEHICLES_BY_CURSOR, firstPage.getNextCursor(), PAGE_SIZE));
+            }
+            exchange(client.get().uri(Endpoints.URL_FIND_ALL_VEHICLES_BY_TYPE_AND_CURSOR,
+                    EnumVehicleType.CAR.getId(), "", PAGE_SIZE));
+            exchange(client.get().uri(Endpoints.URL_SEARCH_VEHICLES + "?brand={brand}&color={color}&pageSize={pageSize}",
+                    "toy", "prata", PAGE_SIZE));
+            exchange(client.get().uri(Endpoints.URL_EXPORT_VEHICLES_BY_TYPE, EnumVehicleType.CAR.getId(),
+                    EnumExportFormat.NDJSON));
+            exchange(client.get().uri(Endpoints.URL_EXPORT_VEHICLES, EnumExportFormat.CSV));
+
+            //Error answers, through the exception handler
+            exchange(client.get().uri(Endpoints.URL_FIND_VEHICLE, UUID.randomUUID()));
+            exchange(client.get().uri(Endpoints.URL_FIND_VEHICLE_BY_PLATE, newVehicle().getPlate()));
+            exchange(client.get().uri(Endpoints.URL_FIND_VEHICLE, "invalid"));
+            exchange(client.post().uri(Endpoints.VEHICLE).contentType(MediaType.APPLICATION_JSON).body(new VehicleDto()));
+        } catch (JsonProcessingException e){
+            throw new IllegalStateException(e);
+        } finally {
+            createdIds.stream()
+                    .filter(Objects::nonNull)
+                    .forEach(id -> exchange(client.delete().uri(Endpoints.URL_REMOVE_VEHICLE, id)));
+        }
+    }
+
+    private static List<UUID> saveAll(RestClient client, MediaType contentType, String body){
+        List<BulkItemResultDto> results = client.post().uri(Endpoints.URL_BULK_VEHICLES)
+                .contentType(contentType)
+                .body(body)
+                .retrieve()
+                .body(new ParameterizedTypeReference<>() {});
+        return Objects.requireNonNull(results).stream().map(BulkItemResultDto::getId).toList();
+    }
+
+    /**
+     * Reads the whole answer whatever its status
+     */
+    private static HttpStatusCode exchange(RestClient.RequestHeadersSpec<?> request){
+        return request.exchange((clientRequest, clientResponse) -> {
+            try{
+                clientResponse.getBody().readAllBytes();
+            } catch (IOException e){
+                log.debug("Could not read the answer of {}", clientRequest.getURI(), e);
+            }
+            return clientResponse.getStatusCode();
+        });
+    }
+
+    /**
+     * Random plate, so that the run does not depend on the vehicles already in the table
+     */
+    private static VehicleDto newVehicle(){
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        StringBuilder plate = new StringBuilder(7);
+        for(int i = 0; i < 7; i++){
+            plate.append(PLATE_CHARACTERS.charAt(random.nextInt(PLATE_CHARACTERS.length())));
+        }
+        return VehicleDto.builder()
+                .brand("Toyota")
+                .model("Corolla")
+                .color("Branco")
+                .plate(plate.toString())
+                .type(EnumVehicleType.CAR.getId())
+                .build();
+    }
+}
@@ -0,0 +1,33 @@
+-- One-off migration of the plates stored before they were normalized, run once with psql before the first start
+-- of the version that adds the unique index on plate:
+--   psql -v ON_ERROR_STOP=1 -f normalize-plates-postgresql.sql
+-- Plates are rewritten the way PlateNormalizer does it, uppercase letters and digits without separators.
+-- Vehicles whose plates become equal are reduced to one, the highest version and then the highest id is kept, and
+-- the others are moved to tb_vehicle_plate_duplicate to be reviewed instead of being lost.
+-- The rewritten vehicles get a new version, so the ETags already sent no longer match. The version column is
+-- added here the way Hibernate would add it on the first start, the table of the previous version does not have it.
+-- Running it again changes nothing.
+BEGIN;
+
+LOCK TABLE tb_vehicle IN SHARE ROW EXCLUSIVE MODE;
+
+ALTER TABLE tb_vehicle ADD COLUMN IF NOT EXISTS version bigint DEFAULT 0 NOT NULL;
+
+CREATE TABLE IF NOT EXISTS tb_vehicle_plate_duplicate (LIKE tb_vehicle);
+
+WITH ranked AS (
+    SELECT id, row_number() OVER (PARTITION BY upper(regexp_replace(plate, '[^A-Za-z0-9]', '', 'g'))
+                                  ORDER BY version DESC, id DESC) AS position
+    FROM tb_vehicle
+), removed AS (
+    DELETE FROM tb_vehicle v USING ranked r
+    WHERE v.id = r.id AND r.position > 1
+    RETURNING v.*
+)
+INSERT INTO tb_vehicle_plate_duplicate SELECT * FROM removed;
+
+UPDATE tb_vehicle
+SET plate = upper(regexp_replace(plate, '[^A-Za-z0-9]', '', 'g')), version = version + 1
+WHERE plate <> upper(regexp_replace(plate, '[^A-Za-z0-9]', '', 'g'));
+
+COMMIT;
@@ -0,0 +1,13 @@
+-- Indexes of the vehicle search, a one-off migration run with psql once Hibernate has created tb_vehicle:
+--   psql -v ON_ERROR_STOP=1 -f search-indexes-postgresql.sql
+-- Also run at startup with SEARCH_INDEXES_INIT=always, meant for development databases.
+-- The text filters are lower(column) LIKE '%text%', served by trigram GIN indexes on the same expressions.
+-- The plate prefix filter is a range served by the unique index on plate and needs nothing else.
+-- Built concurrently so that the writes are not blocked on a populated table. A concurrent build that fails leaves
+-- an INVALID index that IF NOT EXISTS would skip, it must be dropped before running the script again.
+-- CREATE EXTENSION needs the CREATE privilege on the database (pg_trgm is trusted since PostgreSQL 13) or a
+-- superuser, the indexes need the ownership of tb_vehicle.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_vehicle_brand_trgm ON tb_vehicle USING gin (lower(brand) gin_trgm_ops);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_vehicle_model_trgm ON tb_vehicle USING gin (lower(model) gin_trgm_ops);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_vehicle_color_trgm ON tb_vehicle USING gin (lower(color) gin_trgm_ops);
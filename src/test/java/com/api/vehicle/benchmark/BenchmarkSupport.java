@@ -0,0 +1,147 @@
+package com.api.vehicle.benchmark;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Harness shared by the benchmarks: the disposable PostgreSQL database given by the {@code benchmark.postgres.*}
+ * system properties, the seeding of tb_vehicle, the measure loops and the printed report.
+ */
+final class BenchmarkSupport {
+
+    static final String POSTGRES_URL = "benchmark.postgres.url";
+    static final String POSTGRES_USERNAME = "benchmark.postgres.username";
+    static final String POSTGRES_PASSWORD = "benchmark.postgres.password";
+
+    /**
+     * Rows of the fleet generated server side by {@link #seedFleet}, plates stay unique up to 10M rows
+     */
+    private static final String FLEET_ROWS = "SELECT gen_random_uuid(), 'Ford', 'Fiesta', 'Prata', "
+            + "lpad((g - 1)::text, 7, '0'), 1 + g % ?, 0 FROM generate_series(1, ?) g";
+
+    private BenchmarkSupport(){}
+
+    /**
+     * A plain JDBC connection, batched inserts are rewritten into multi-row statements
+     */
+    static Connection connect() throws SQLException {
+        return DriverManager.getConnection(System.getProperty(POSTGRES_URL) + "?reWriteBatchedInserts=true",
+                System.getProperty(POSTGRES_USERNAME), System.getProperty(POSTGRES_PASSWORD));
+    }
+
+    /**
+     * Command line arguments of an application started on the benchmark database, so they win over the test
+     * application.yml
+     */
+    static List<String> postgresArgs(){
+        return List.of("--spring.datasource.url=" + System.getProperty(POSTGRES_URL),
+                "--spring.datasource.username=" + System.getProperty(POSTGRES_USERNAME),
+                "--spring.datasource.password=" + System.getProperty(POSTGRES_PASSWORD),
+                "--spring.datasource.driver-class-name=org.postgresql.Driver",
+                "--spring.jpa.database-platform=org.hibernate.dialect.PostgreSQLDialect",
+                "--spring.jpa.hibernate.ddl-auto=create-drop");
+    }
+
+    /**
+     * Replaces the vehicles with {@code rows} copies of the same vehicle, spread evenly over the first {@code types}
+     */
+    static void seedFleet(JdbcTemplate jdbcTemplate, int rows, int types){
+        seed(jdbcTemplate, FLEET_ROWS, types, rows);
+    }
+
+    /**
+     * Replaces the vehicles with the rows of {@code rowsQuery}, selecting id, brand, model, color, plate, type and
+     * version, then refreshes the planner statistics
+     */
+    static void seed(JdbcTemplate jdbcTemplate, String rowsQuery, Object... args){
+        clear(jdbcTemplate);
+        jdbcTemplate.update("INSERT INTO tb_vehicle (id, brand, model, color, plate, type, version) " + rowsQuery, args);
+        jdbcTemplate.execute("ANALYZE tb_vehicle");
+    }
+
+    static void clear(JdbcTemplate jdbcTemplate){
+        jdbcTemplate.execute("TRUNCATE tb_vehicle");
+    }
+
+    /**
+     * Runs {@code call} {@code warmup} times, then measures the average time and bytes allocated by the current
+     * thread over {@code iterations} more calls
+     */
+    static Measure measure(int warmup, int iterations, Supplier<?> call){
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        for(int i = 0; i < warmup; i++){
+            call.get();
+        }
+        long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+        long start = System.nanoTime();
+        for(int i = 0; i < iterations; i++){
+            call.get();
+        }
+        long elapsed = System.nanoTime() - start;
+        return new Measure((threads.getCurrentThreadAllocatedBytes() - allocatedBefore) / iterations,
+                elapsed / 1_000_000d / iterations);
+    }
+
+    static double percentileMillis(long[] sortedLatencies, double percentile){
+        if(sortedLatencies.length == 0){
+            return Double.NaN;
+        }
+        return sortedLatencies[(int) Math.ceil(percentile * sortedLatencies.length) - 1] / 1_000_000d;
+    }
+
+    /**
+     * @param bytes allocated per call
+     * @param millis average time per call
+     */
+    record Measure(long bytes, double millis) {}
+
+    /**
+     * Table printed once the benchmark is done. The first column is left aligned, the others right aligned;
+     * decimals are printed in milliseconds precision and integers with grouping.
+     */
+    static final class Report {
+
+        private final List<String[]> rows = new ArrayList<>();
+
+        Report(String... columns){
+            this.rows.add(columns);
+        }
+
+        Report row(Object... cells){
+            String[] row = new String[cells.length];
+            for(int i = 0; i < cells.length; i++){
+                row[i] = switch (cells[i]) {
+                    case Double value -> String.format("%.3f", value);
+                    case Integer value -> String.format("%,d", value);
+                    case Long value -> String.format("%,d", value);
+                    case null, default -> String.valueOf(cells[i]);
+                };
+            }
+            this.rows.add(row);
+            return this;
+        }
+
+        void print(){
+            int[] widths = new int[this.rows.get(0).length];
+            for(String[] row : this.rows){
+                for(int i = 0; i < row.length; i++){
+                    widths[i] = Math.max(widths[i], row[i].length());
+                }
+            }
+            for(String[] row : this.rows){
+                StringBuilder line = new StringBuilder(String.format("%-" + widths[0] + "s", row[0]));
+                for(int i = 1; i < row.length; i++){
+                    line.append(String.format(" %" + widths[i] + "s", row[i]));
+                }
+                System.out.println(line);
+            }
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.api.vehicle.benchmark;
+
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * A {@link PostgresBenchmark} on the application context, whose schema is created and dropped on the benchmark
+ * database. Properties of a single benchmark go in a {@code @TestPropertySource} of its own.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@PostgresBenchmark
+@SpringBootTest(properties = {
+        "spring.datasource.url=${" + BenchmarkSupport.POSTGRES_URL + "}",
+        "spring.datasource.username=${" + BenchmarkSupport.POSTGRES_USERNAME + "}",
+        "spring.datasource.password=${" + BenchmarkSupport.POSTGRES_PASSWORD + "}",
+        "spring.datasource.driver-class-name=org.postgresql.Driver",
+        "spring.jpa.database-platform=org.hibernate.dialect.PostgreSQLDialect",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@interface PostgresApplicationBenchmark {
+}
@@ -0,0 +1,21 @@
+package com.api.vehicle.benchmark;
+
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Not part of the regular build, the benchmark only runs when given a disposable PostgreSQL database:
+ * <pre>
+ * mvn test -Dtest=&lt;benchmark&gt; -Dbenchmark.postgres.url=jdbc:postgresql://localhost:5432/bench \
+ *     -Dbenchmark.postgres.username=admin -Dbenchmark.postgres.password=secret
+ * </pre>
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@EnabledIfSystemProperty(named = BenchmarkSupport.POSTGRES_URL, matches = ".+")
+@interface PostgresBenchmark {
+}
@@ -0,0 +1,91 @@
+package com.api.vehicle.benchmark;
+
+import com.api.vehicle.model.entity.id.UuidV7;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Insert throughput and primary key size of random (version 4) against time-ordered (version 7) ids on PostgreSQL,
+ * over {@code -Dbenchmark.rows} rows (1M by default).
+ */
+@PostgresBenchmark
+class VehicleIdStrategyBenchmark {
+
+    private static final int BATCH_SIZE = 1_000;
+
+    private Connection connection;
+    private int rows;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        this.connection = BenchmarkSupport.connect();
+        this.rows = Integer.getInteger("benchmark.rows", 1_000_000);
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        try (Statement statement = this.connection.createStatement()){
+            statement.execute("DROP TABLE IF EXISTS bench_vehicle_random");
+            statement.execute("DROP TABLE IF EXISTS bench_vehicle_v7");
+        }
+        this.connection.close();
+    }
+
+    @Test
+    void compareRandomAndTimeOrderedIds() throws SQLException {
+        Result random = this.insert("bench_vehicle_random", UUID::randomUUID);
+        Result timeOrdered = this.insert("bench_vehicle_v7", UuidV7::generate);
+
+        new BenchmarkSupport.Report("strategy", "rows/s", "pk size (bytes)")
+                .row("random v4", Math.round(random.rowsPerSecond()), random.primaryKeyBytes())
+                .row("uuid v7", Math.round(timeOrdered.rowsPerSecond()), timeOrdered.primaryKeyBytes())
+                .print();
+
+        assertThat(timeOrdered.primaryKeyBytes()).isLessThanOrEqualTo(random.primaryKeyBytes());
+    }
+
+    private Result insert(String table, Supplier<UUID> idSupplier) throws SQLException {
+        try (Statement statement = this.connection.createStatement()){
+            statement.execute("DROP TABLE IF EXISTS " + table);
+            statement.execute("CREATE TABLE " + table + " (id UUID PRIMARY KEY, brand VARCHAR(255) NOT NULL, "
+                    + "model VARCHAR(255) NOT NULL, color VARCHAR(255) NOT NULL, plate VARCHAR(7) NOT NULL, type INTEGER NOT NULL)");
+        }
+
+        this.connection.setAutoCommit(false);
+        long start = System.nanoTime();
+        try (PreparedStatement insert = this.connection.prepareStatement("INSERT INTO " + table
+                + " (id, brand, model, color, plate, type) VALUES (?, 'Ford', 'Fiesta', 'Prata', 'ABC1234', 1)")){
+            for(int i = 1; i <= this.rows; i++){
+                insert.setObject(1, idSupplier.get());
+                insert.addBatch();
+                if(i % BATCH_SIZE == 0){
+                    insert.executeBatch();
+                    this.connection.commit();
+                }
+            }
+            insert.executeBatch();
+            this.connection.commit();
+        }
+        double seconds = (System.nanoTime() - start) / 1_000_000_000d;
+        this.connection.setAutoCommit(true);
+
+        try (Statement statement = this.connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT pg_relation_size('" + table + "_pkey')")){
+            resultSet.next();
+            return new Result(this.rows / seconds, resultSet.getLong(1));
+        }
+    }
+
+    private record Result(double rowsPerSecond, long primaryKeyBytes) {}
+}
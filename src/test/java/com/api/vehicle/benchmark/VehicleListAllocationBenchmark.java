@@ -0,0 +1,74 @@
+package com.api.vehicle.benchmark;
+
+import com.api.vehicle.mapper.VehicleMapper;
+import com.api.vehicle.model.entity.VehicleEntity;
+import com.api.vehicle.repository.VehicleRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Bytes allocated and time per page of the list queries on PostgreSQL, reading managed entities and mapping them
+ * with MapStruct against reading the VehicleDto projection of {@link VehicleRepository}. Both run inside a
+ * transaction, as the service does, so the persistence context and its snapshots are part of the entity cost.
+ */
+@PostgresApplicationBenchmark
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class VehicleListAllocationBenchmark {
+
+    private static final int VEHICLES = 10_000;
+    private static final int WARMUP = 200;
+    private static final int ITERATIONS = 500;
+
+    private final VehicleRepository repository;
+    private final VehicleMapper mapper;
+    private final EntityManager entityManager;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Autowired
+    VehicleListAllocationBenchmark(VehicleRepository repository, VehicleMapper mapper, EntityManager entityManager,
+                                   JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate){
+        this.repository = repository;
+        this.mapper = mapper;
+        this.entityManager = entityManager;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    @BeforeAll
+    void seed(){
+        BenchmarkSupport.seedFleet(this.jdbcTemplate, VEHICLES, 2);
+    }
+
+    @AfterAll
+    void tearDown(){
+        BenchmarkSupport.clear(this.jdbcTemplate);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {10, 100, 1_000})
+    void compareEntityAndProjectionPages(int pageSize){
+        BenchmarkSupport.Measure entity = BenchmarkSupport.measure(WARMUP, ITERATIONS, () ->
+                this.transactionTemplate.execute(status -> this.mapper.entityListToDtoList(
+                        this.entityManager.createQuery("SELECT v FROM VehicleEntity v ORDER BY v.type, v.id",
+                                        VehicleEntity.class)
+                                .setMaxResults(pageSize)
+                                .getResultList())));
+        BenchmarkSupport.Measure projection = BenchmarkSupport.measure(WARMUP, ITERATIONS, () ->
+                this.transactionTemplate.execute(status -> this.repository.findFirstKeysetPage(Limit.of(pageSize))));
+
+        System.out.printf("page size %,d%n", pageSize);
+        new BenchmarkSupport.Report("query", "bytes/page", "avg (ms)")
+                .row("entity", entity.bytes(), entity.millis())
+                .row("projection", projection.bytes(), projection.millis())
+                .print();
+    }
+}
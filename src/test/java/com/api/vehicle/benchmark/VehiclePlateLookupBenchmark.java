@@ -0,0 +1,79 @@
+package com.api.vehicle.benchmark;
+
+import com.api.vehicle.service.VehicleService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Latency of the plate lookup through the service, cache included, at the gates' rate of 2k lookups per second.
+ * Most lookups hit a small set of hot plates, the rest are spread over the whole fleet.
+ */
+@PostgresApplicationBenchmark
+@TestPropertySource(properties = "vehicle.cache.enabled=true")
+class VehiclePlateLookupBenchmark {
+
+    private static final int ROWS = 1_000_000;
+    private static final int HOT_PLATES = 500;
+    private static final double HOT_RATIO = 0.9;
+    private static final int LOOKUPS_PER_SECOND = 2_000;
+    private static final int SECONDS = 30;
+    private static final double MAX_P99_MILLIS = 2.0;
+
+    private final VehicleService service;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    VehiclePlateLookupBenchmark(VehicleService service, JdbcTemplate jdbcTemplate){
+        this.service = service;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @AfterEach
+    void tearDown(){
+        BenchmarkSupport.clear(this.jdbcTemplate);
+    }
+
+    @Test
+    void measurePlateLookupLatency(){
+        BenchmarkSupport.seedFleet(this.jdbcTemplate, ROWS, 2);
+
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / LOOKUPS_PER_SECOND;
+        long[] latencies = new long[LOOKUPS_PER_SECOND * SECONDS];
+        long next = System.nanoTime();
+
+        for(int i = 0; i < latencies.length; i++){
+            LockSupport.parkNanos(next - System.nanoTime());
+            String plate = this.nextPlate();
+
+            long start = System.nanoTime();
+            this.service.findByPlate(plate);
+            latencies[i] = System.nanoTime() - start;
+            next += intervalNanos;
+        }
+
+        Arrays.sort(latencies);
+        double p99 = BenchmarkSupport.percentileMillis(latencies, 0.99);
+        new BenchmarkSupport.Report("lookups", "per second", "p50 (ms)", "p99 (ms)", "max (ms)")
+                .row(latencies.length, LOOKUPS_PER_SECOND, BenchmarkSupport.percentileMillis(latencies, 0.50), p99,
+                        BenchmarkSupport.percentileMillis(latencies, 1))
+                .print();
+
+        assertThat(p99).isLessThan(MAX_P99_MILLIS);
+    }
+
+    private String nextPlate(){
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int number = random.nextDouble() < HOT_RATIO ? random.nextInt(HOT_PLATES) : random.nextInt(ROWS);
+        return String.format("%07d", number);
+    }
+}
@@ -0,0 +1,96 @@
+package com.api.vehicle.benchmark;
+
+import com.api.vehicle.enums.type.EnumVehicleType;
+import com.api.vehicle.model.dto.page.VehicleCursor;
+import com.api.vehicle.model.dto.search.VehicleSearchDto;
+import com.api.vehicle.service.VehicleService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Plan and latency of the vehicle search on PostgreSQL at 1M and 20M rows, with the trigram indexes of
+ * {@code db/search-indexes-postgresql.sql}.
+ */
+@PostgresApplicationBenchmark
+@TestPropertySource(properties = {
+        "spring.jpa.defer-datasource-initialization=true",
+        "spring.sql.init.mode=always",
+        "spring.sql.init.schema-locations=classpath:db/search-indexes-postgresql.sql"
+})
+class VehicleSearchBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+    private static final int WARMUP = 20;
+    private static final int ITERATIONS = 100;
+
+    private final VehicleService service;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    VehicleSearchBenchmark(VehicleService service, JdbcTemplate jdbcTemplate){
+        this.service = service;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @AfterEach
+    void tearDown(){
+        BenchmarkSupport.clear(this.jdbcTemplate);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1_000_000, 20_000_000})
+    void measureSearchLatency(int rows){
+        this.seed(rows);
+
+        List<String> plan = this.jdbcTemplate.queryForList(
+                "EXPLAIN SELECT * FROM tb_vehicle WHERE lower(brand) LIKE '%troll%'", String.class);
+        assertThat(String.join("\n", plan)).contains("idx_vehicle_brand_trgm");
+
+        VehicleSearchDto rareBrand = VehicleSearchDto.builder().brand("troll").build();
+        VehicleSearchDto dispatcher = VehicleSearchDto.builder()
+                .brand("honda").model("cg").color("vermelho").plate("ABC").type(EnumVehicleType.MOTORCYCLE).build();
+        VehicleSearchDto commonBrand = VehicleSearchDto.builder().brand("ford").build();
+        String middleCursor = this.jdbcTemplate.queryForObject(
+                "SELECT type, id FROM tb_vehicle ORDER BY type, id OFFSET ? LIMIT 1",
+                (resultSet, rowNum) -> new VehicleCursor(resultSet.getInt("type"), resultSet.getObject("id", UUID.class)),
+                rows / 2).encode();
+
+        System.out.printf("%,d rows%n", rows);
+        new BenchmarkSupport.Report("search", "avg (ms)")
+                .row("rare brand", averageMillis(() -> this.service.search(rareBrand, "", PAGE_SIZE)))
+                .row("every filter", averageMillis(() -> this.service.search(dispatcher, "", PAGE_SIZE)))
+                .row("common brand, first", averageMillis(() -> this.service.search(commonBrand, "", PAGE_SIZE)))
+                .row("common brand, keyset", averageMillis(() -> this.service.search(commonBrand, middleCursor, PAGE_SIZE)))
+                .print();
+    }
+
+    /**
+     * Rows are generated server side. Ten brands share the rows evenly, each with its own model, and one row in
+     * 100,000 has a rare brand. Plates are three letters and four digits, unique up to 175M rows.
+     */
+    private void seed(int rows){
+        BenchmarkSupport.seed(this.jdbcTemplate, "SELECT gen_random_uuid(), "
+                + "CASE WHEN g % 100000 = 0 THEN 'Troller' ELSE (ARRAY['Honda', 'Ford', 'Fiat', 'Chevrolet', "
+                + "'Volkswagen', 'Toyota', 'Hyundai', 'Renault', 'Yamaha', 'Scania'])[1 + g % 10] END, "
+                + "(ARRAY['CG 160', 'Fiesta', 'Strada', 'Onix', 'Gol', 'Corolla', 'HB20', 'Kwid', 'Fazer', 'R450'])[1 + g % 10], "
+                + "(ARRAY['Vermelho', 'Preto', 'Branco', 'Prata', 'Azul', 'Cinza', 'Verde', 'Amarelo'])[1 + g / 10 % 8], "
+                + "chr(65 + g / 6760000 % 26) || chr(65 + g / 260000 % 26) || chr(65 + g / 10000 % 26) "
+                + "|| lpad((g % 10000)::text, 4, '0'), "
+                + "1 + g / 80 % 5, 0 "
+                + "FROM generate_series(1, ?) g", rows);
+    }
+
+    private static double averageMillis(Supplier<?> search){
+        return BenchmarkSupport.measure(WARMUP, ITERATIONS, search).millis();
+    }
+}
@@ -0,0 +1,127 @@
+package com.api.vehicle.benchmark;
+
+import com.api.vehicle.VehicleServiceApplication;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Throughput and latency of GET /vehicle/{id} with Tomcat on platform threads and on virtual threads,
+ * at 1k, 5k and 10k concurrent clients. Each client sends its next request as soon as the previous one is answered,
+ * 503 answers from the concurrency limit are counted as errors. The vehicle cache is off so that every request
+ * reaches the database. Raise the open files limit before running it, {@code ulimit -n 65536}.
+ */
+@PostgresBenchmark
+class VehicleThreadModelBenchmark {
+
+    private static final int[] CLIENTS = {1_000, 5_000, 10_000};
+    private static final int VEHICLES = 10_000;
+    private static final Duration DURATION = Duration.ofSeconds(20);
+
+    @Test
+    void comparePlatformAndVirtualThreads() throws Exception {
+        BenchmarkSupport.Report report = new BenchmarkSupport.Report("threads", "clients", "req/s", "p50 (ms)",
+                "p99 (ms)", "errors");
+
+        for(boolean virtual : new boolean[]{false, true}){
+            try (ServletWebServerApplicationContext context = start(virtual)){
+                List<UUID> ids = seed(context.getBean(JdbcTemplate.class));
+                int port = context.getWebServer().getPort();
+
+                for(int clients : CLIENTS){
+                    Result result = load(port, ids, clients);
+                    report.row(virtual ? "virtual" : "platform", clients, Math.round(result.requestsPerSecond()),
+                            result.p50Millis(), result.p99Millis(), result.errors());
+                }
+            }
+        }
+        report.print();
+    }
+
+    private static ServletWebServerApplicationContext start(boolean virtual){
+        List<String> args = new ArrayList<>(BenchmarkSupport.postgresArgs());
+        args.addAll(List.of("--spring.datasource.hikari.maximum-pool-size=20",
+                "--spring.datasource.hikari.connection-timeout=2000",
+                "--spring.threads.virtual.enabled=" + virtual,
+                "--server.port=0",
+                "--server.tomcat.max-connections=20000",
+                "--server.tomcat.accept-count=10000",
+                "--vehicle.cache.enabled=false"));
+        return (ServletWebServerApplicationContext) new SpringApplicationBuilder(VehicleServiceApplication.class)
+                .run(args.toArray(String[]::new));
+    }
+
+    private static List<UUID> seed(JdbcTemplate jdbcTemplate){
+        BenchmarkSupport.seedFleet(jdbcTemplate, VEHICLES, 2);
+        return jdbcTemplate.queryForList("SELECT id FROM tb_vehicle", UUID.class);
+    }
+
+    private static Result load(int port, List<UUID> ids, int clients) throws Exception {
+        long deadline = System.nanoTime() + DURATION.toNanos();
+        List<Future<long[]>> futures = new ArrayList<>(clients);
+        int[] errors = new int[clients];
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient httpClient = HttpClient.newBuilder()
+                     .version(HttpClient.Version.HTTP_1_1)
+                     .executor(executor)
+                     .build()){
+
+            for(int client = 0; client < clients; client++){
+                int clientIndex = client;
+                futures.add(executor.submit(() -> {
+                    long[] latencies = new long[1_024];
+                    int count = 0;
+                    while(System.nanoTime() < deadline){
+                        UUID id = ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+                        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/vehicle/" + id)).build();
+
+                        long start = System.nanoTime();
+                        try{
+                            if(httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() != 200){
+                                errors[clientIndex]++;
+                            }
+                        } catch (Exception e){
+                            errors[clientIndex]++;
+                        }
+                        if(count == latencies.length){
+                            latencies = Arrays.copyOf(latencies, count * 2);
+                        }
+                        latencies[count++] = System.nanoTime() - start;
+                    }
+                    return Arrays.copyOf(latencies, count);
+                }));
+            }
+
+            long[] allLatencies = new long[0];
+            for(Future<long[]> future : futures){
+                long[] latencies = future.get();
+                int offset = allLatencies.length;
+                allLatencies = Arrays.copyOf(allLatencies, offset + latencies.length);
+                System.arraycopy(latencies, 0, allLatencies, offset, latencies.length);
+            }
+            Arrays.sort(allLatencies);
+
+            return new Result(allLatencies.length / (double) DURATION.toSeconds(),
+                    BenchmarkSupport.percentileMillis(allLatencies, 0.50), BenchmarkSupport.percentileMillis(allLatencies, 0.99),
+                    Arrays.stream(errors).sum());
+        }
+    }
+
+    private record Result(double requestsPerSecond, double p50Millis, double p99Millis, int errors) {}
+}
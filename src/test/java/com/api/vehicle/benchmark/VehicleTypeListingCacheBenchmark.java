@@ -0,0 +1,181 @@
+package com.api.vehicle.benchmark;
+
+import com.api.vehicle.enums.page.EnumPageTotals;
+import com.api.vehicle.enums.type.EnumVehicleType;
+import com.api.vehicle.model.dto.VehicleDto;
+import com.api.vehicle.service.VehicleService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Hit rate and latency of the type listings through the service with the Hibernate query cache, against the same
+ * requests with the cache ignored. The (type, page) tuples are drawn from a Zipfian distribution, the first pages
+ * of every type being the most requested, and a share of the requests are updates that invalidate the listings.
+ */
+@PostgresApplicationBenchmark
+@TestPropertySource(properties = "vehicle.hibernate-cache.enabled=true")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class VehicleTypeListingCacheBenchmark {
+
+    private static final int ROWS = 1_000_000;
+    private static final int PAGES = 200;
+    private static final int PAGE_SIZE = 20;
+    private static final double ZIPF_EXPONENT = 0.99;
+    private static final int WARMUP = 2_000;
+    private static final int REQUESTS = 20_000;
+    private static final int UPDATED_VEHICLES = 1_000;
+    private static final long SEED = 42;
+
+    private final VehicleService service;
+    private final EntityManager entityManager;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Statistics statistics;
+    private final org.hibernate.Cache hibernateCache;
+
+    private List<UUID> updatedIds;
+
+    @Autowired
+    VehicleTypeListingCacheBenchmark(VehicleService service, EntityManager entityManager,
+                                     EntityManagerFactory entityManagerFactory, JdbcTemplate jdbcTemplate,
+                                     PlatformTransactionManager transactionManager){
+        this.service = service;
+        this.entityManager = entityManager;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        this.hibernateCache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+    }
+
+    /**
+     * Inserted by plain SQL before any listing is cached, the five types share the rows evenly
+     */
+    @BeforeAll
+    void seed(){
+        BenchmarkSupport.seedFleet(this.jdbcTemplate, ROWS, EnumVehicleType.values().length);
+        this.updatedIds = this.jdbcTemplate.queryForList("SELECT id FROM tb_vehicle LIMIT ?", UUID.class,
+                UPDATED_VEHICLES);
+    }
+
+    @AfterAll
+    void tearDown(){
+        BenchmarkSupport.clear(this.jdbcTemplate);
+    }
+
+    @ParameterizedTest
+    @ValueSource(doubles = {0, 0.001, 0.01})
+    void compareCachedAndUncachedListings(double writeRatio){
+        Request[] requests = requests(writeRatio, new SplittableRandom(SEED));
+        this.run(Arrays.copyOf(requests, WARMUP), CacheMode.IGNORE);
+
+        this.hibernateCache.evictAll();
+        long executionsBefore = this.statistics.getQueryExecutionCount();
+        Measure uncached = this.run(requests, CacheMode.IGNORE);
+        long uncachedExecutions = this.statistics.getQueryExecutionCount() - executionsBefore;
+
+        long hitsBefore = this.statistics.getQueryCacheHitCount();
+        long missesBefore = this.statistics.getQueryCacheMissCount();
+        executionsBefore = this.statistics.getQueryExecutionCount();
+        Measure cached = this.run(requests, CacheMode.NORMAL);
+        long cachedExecutions = this.statistics.getQueryExecutionCount() - executionsBefore;
+        long hits = this.statistics.getQueryCacheHitCount() - hitsBefore;
+        long misses = this.statistics.getQueryCacheMissCount() - missesBefore;
+
+        System.out.printf("%,d requests over %,d (type, page) tuples, %.1f%% updates%n", REQUESTS,
+                EnumVehicleType.values().length * PAGES, writeRatio * 100);
+        new BenchmarkSupport.Report("listing", "hit rate", "p50 (ms)", "p99 (ms)", "queries")
+                .row("uncached", "-", uncached.p50(), uncached.p99(), uncachedExecutions)
+                .row("cached", String.format("%.1f%%", 100d * hits / (hits + misses)), cached.p50(), cached.p99(),
+                        cachedExecutions)
+                .print();
+
+        assertThat(cachedExecutions).isLessThan(uncachedExecutions);
+    }
+
+    /**
+     * Latencies of the listings only, the updates are there to invalidate the cached ones
+     */
+    private Measure run(Request[] requests, CacheMode cacheMode){
+        long[] latencies = new long[requests.length];
+        int listings = 0;
+        for(Request request : requests){
+            if(request.update()){
+                VehicleDto vehicle = this.service.findById(this.updatedIds.get(request.page() % this.updatedIds.size()));
+                vehicle.setColor(vehicle.getColor().equals("Prata") ? "Preto" : "Prata");
+                this.service.update(vehicle);
+                continue;
+            }
+            long start = System.nanoTime();
+            this.transactionTemplate.executeWithoutResult(status -> {
+                this.entityManager.unwrap(Session.class).setCacheMode(cacheMode);
+                this.service.findAllByType(request.type(), request.page(), PAGE_SIZE, EnumPageTotals.EXACT);
+            });
+            latencies[listings++] = System.nanoTime() - start;
+        }
+        long[] sortedLatencies = Arrays.copyOf(latencies, listings);
+        Arrays.sort(sortedLatencies);
+        return new Measure(BenchmarkSupport.percentileMillis(sortedLatencies, 0.50),
+                BenchmarkSupport.percentileMillis(sortedLatencies, 0.99));
+    }
+
+    /**
+     * Tuples are ranked page first, so the first page of every type is more requested than any second page
+     */
+    private static Request[] requests(double writeRatio, SplittableRandom random){
+        EnumVehicleType[] types = EnumVehicleType.values();
+        double[] cumulative = zipfCumulative(types.length * PAGES);
+        Request[] requests = new Request[REQUESTS];
+        for(int i = 0; i < requests.length; i++){
+            if(random.nextDouble() < writeRatio){
+                requests[i] = new Request(null, random.nextInt(UPDATED_VEHICLES), true);
+                continue;
+            }
+            int rank = Arrays.binarySearch(cumulative, random.nextDouble());
+            rank = Math.min(rank < 0 ? -rank - 1 : rank, cumulative.length - 1);
+            requests[i] = new Request(types[rank % types.length], rank / types.length, false);
+        }
+        return requests;
+    }
+
+    private static double[] zipfCumulative(int tuples){
+        double[] cumulative = new double[tuples];
+        double sum = 0;
+        for(int rank = 0; rank < tuples; rank++){
+            sum += 1 / Math.pow(rank + 1, ZIPF_EXPONENT);
+            cumulative[rank] = sum;
+        }
+        for(int rank = 0; rank < tuples; rank++){
+            cumulative[rank] /= sum;
+        }
+        return cumulative;
+    }
+
+    /**
+     * @param page the page of the listing, or the index of the vehicle to update
+     */
+    private record Request(EnumVehicleType type, int page, boolean update) {}
+
+    private record Measure(double p50, double p99) {}
+}
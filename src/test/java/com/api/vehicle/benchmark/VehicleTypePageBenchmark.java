@@ -0,0 +1,69 @@
+package com.api.vehicle.benchmark;
+
+import com.api.vehicle.model.dto.VehicleDto;
+import com.api.vehicle.repository.VehicleRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Plan and latency of the type page queries of {@link VehicleRepository} on PostgreSQL at 1M and 10M rows,
+ * half of them with the measured type.
+ */
+@PostgresApplicationBenchmark
+class VehicleTypePageBenchmark {
+
+    private static final int TYPE = 2;
+    private static final int PAGE_SIZE = 50;
+    private static final int WARMUP = 20;
+    private static final int ITERATIONS = 100;
+
+    private final VehicleRepository repository;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    VehicleTypePageBenchmark(VehicleRepository repository, JdbcTemplate jdbcTemplate){
+        this.repository = repository;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @AfterEach
+    void tearDown(){
+        BenchmarkSupport.clear(this.jdbcTemplate);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1_000_000, 10_000_000})
+    void measureTypePageLatency(int rows){
+        BenchmarkSupport.seedFleet(this.jdbcTemplate, rows, 2);
+
+        List<String> plan = this.jdbcTemplate.queryForList(
+                "EXPLAIN SELECT * FROM tb_vehicle WHERE type = " + TYPE + " ORDER BY id LIMIT " + PAGE_SIZE, String.class);
+        assertThat(String.join("\n", plan)).contains("idx_vehicle_type_id");
+
+        int lastPage = rows / 2 / PAGE_SIZE - 1;
+        VehicleDto middle = this.repository.findAllByType(TYPE, PageRequest.of(lastPage / 2, PAGE_SIZE)).getContent().get(0);
+
+        System.out.printf("%,d rows%n", rows);
+        new BenchmarkSupport.Report("query", "avg (ms)")
+                .row("first page", averageMillis(() -> this.repository.findAllByType(TYPE, PageRequest.of(0, PAGE_SIZE))))
+                .row("last page", averageMillis(() -> this.repository.findAllByType(TYPE, PageRequest.of(lastPage, PAGE_SIZE))))
+                .row("slice", averageMillis(() -> this.repository.findSliceByType(TYPE, PageRequest.of(0, PAGE_SIZE))))
+                .row("keyset", averageMillis(() ->
+                        this.repository.findKeysetPageByTypeAfter(TYPE, middle.getId(), Limit.of(PAGE_SIZE))))
+                .print();
+    }
+
+    private static double averageMillis(Supplier<?> query){
+        return BenchmarkSupport.measure(WARMUP, ITERATIONS, query).millis();
+    }
+}
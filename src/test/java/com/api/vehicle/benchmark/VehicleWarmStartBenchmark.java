@@ -0,0 +1,149 @@
+package com.api.vehicle.benchmark;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Time to the first answered request and to the peak throughput of the packaged JVM build, started cold, with the
+ * AppCDS archive of the cds profile and restored from a CRaC checkpoint of the training run. Each start is a new
+ * process; the clients send GET /vehicle/findAll pages back to back and the throughput is sampled every second.
+ * The peak is reached at the first second within 10% of the best one. Not part of the regular build:
+ * <pre>
+ * mvn -Pcds package -DskipTests
+ * mvn test -Dtest=VehicleWarmStartBenchmark -Dbenchmark.startup.jar=target/vehicle-service-0.0.1-SNAPSHOT.jar \
+ *     -Dbenchmark.startup.cds-archive=target/vehicle-service.jsa -Dbenchmark.startup.crac-image=target/crac
+ * </pre>
+ * The archive must come from the same JVM that runs the benchmark. Without the PostgreSQL of
+ * {@code benchmark.startup.args} the application runs on an in-memory H2 database.
+ */
+@EnabledIfSystemProperty(named = "benchmark.startup.jar", matches = ".+")
+class VehicleWarmStartBenchmark {
+
+    private static final String DEFAULT_ARGS = "--spring.datasource.url=jdbc:h2:mem:bench;MODE=PostgreSQL "
+            + "--spring.datasource.username=sa --spring.datasource.password= "
+            + "--spring.datasource.driver-class-name=org.h2.Driver "
+            + "--spring.jpa.database-platform=org.hibernate.dialect.H2Dialect --spring.jpa.show-sql=false "
+            + "--spring.jpa.properties.hibernate.generate_statistics=false --spring.sql.init.mode=never";
+    private static final int CLIENTS = 8;
+    private static final Duration DURATION = Duration.ofSeconds(60);
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(10);
+    private static final double PEAK_RATIO = 0.9;
+
+    private final HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+
+    @Test
+    void measureTimeToFirstRequestAndToPeakThroughput() throws Exception {
+        String java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+        String jar = System.getProperty("benchmark.startup.jar");
+        List<String> args = Arrays.asList(System.getProperty("benchmark.startup.args", DEFAULT_ARGS).split(" "));
+
+        BenchmarkSupport.Report report = new BenchmarkSupport.Report("start", "first req (ms)", "peak (ms)", "peak req/s");
+        int port = freePort();
+        this.measure(report, "cold", command(List.of(java, "-jar", jar), args, port), port);
+        String cdsArchive = System.getProperty("benchmark.startup.cds-archive");
+        if(cdsArchive != null){
+            this.measure(report, "AppCDS",
+                    command(List.of(java, "-XX:SharedArchiveFile=" + cdsArchive, "-jar", jar), args, port), port);
+        }
+        //A restored process listens on the port of its checkpoint
+        String cracImage = System.getProperty("benchmark.startup.crac-image");
+        if(cracImage != null){
+            this.measure(report, "CRaC restore", List.of(java, "-XX:CRaCRestoreFrom=" + cracImage),
+                    Integer.getInteger("benchmark.startup.crac-port", 8080));
+        }
+        report.print();
+    }
+
+    private void measure(BenchmarkSupport.Report report, String name, List<String> command, int port) throws Exception {
+        URI page = URI.create("http://localhost:" + port + "/vehicle/findAll?pageNumber=0&pageSize=20");
+
+        long launchedAt = System.nanoTime();
+        Process process = new ProcessBuilder(command).redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD).start();
+        try{
+            while (!this.answers(page)){
+                if(!process.isAlive()){
+                    throw new IllegalStateException(name + " exited with " + process.exitValue());
+                }
+                Thread.sleep(POLL_INTERVAL);
+            }
+            long firstRequestMillis = (System.nanoTime() - launchedAt) / 1_000_000;
+
+            long[] perSecond = this.load(page);
+            long best = Arrays.stream(perSecond).max().orElse(0);
+            int peakSecond = 0;
+            while (perSecond[peakSecond] < best * PEAK_RATIO){
+                peakSecond++;
+            }
+            report.row(name, firstRequestMillis, firstRequestMillis + (peakSecond + 1) * 1_000L, best);
+        } finally {
+            process.destroy();
+            process.waitFor();
+        }
+    }
+
+    /**
+     * @return the answered requests of each second
+     */
+    private long[] load(URI page) throws InterruptedException {
+        int seconds = (int) DURATION.toSeconds();
+        AtomicLong[] answered = new AtomicLong[seconds];
+        Arrays.setAll(answered, second -> new AtomicLong());
+        long start = System.nanoTime();
+        long end = start + DURATION.toNanos();
+
+        try (ExecutorService clients = Executors.newFixedThreadPool(CLIENTS)){
+            for(int client = 0; client < CLIENTS; client++){
+                clients.submit(() -> {
+                    long now;
+                    while ((now = System.nanoTime()) < end){
+                        if(this.answers(page)){
+                            answered[(int) ((now - start) / 1_000_000_000L)].incrementAndGet();
+                        }
+                    }
+                });
+            }
+        }
+        return Arrays.stream(answered).mapToLong(AtomicLong::get).toArray();
+    }
+
+    private boolean answers(URI page){
+        try{
+            HttpRequest request = HttpRequest.newBuilder(page).timeout(Duration.ofSeconds(5)).build();
+            return this.httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200;
+        } catch (IOException e){
+            return false;
+        } catch (InterruptedException e){
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static List<String> command(List<String> jvm, List<String> args, int port){
+        List<String> command = new ArrayList<>(jvm);
+        command.addAll(args);
+        command.add("--server.port=" + port);
+        return command;
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)){
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -5,9 +5,15 @@ import com.api.vehicle.model.dto.VehicleDto;
 import com.api.vehicle.model.entity.VehicleEntity;
 
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class VehicleDtoBuilder {
 
+    /**
+     * Plates are unique, every new vehicle gets its own so that tests can save them more than once
+     */
+    private static final AtomicInteger PLATE_SEQUENCE = new AtomicInteger();
+
     public VehicleDto getCarDto(UUID id){
         return VehicleDto.builder()
                 .id(id)
@@ -36,7 +42,7 @@ public class VehicleDtoBuilder {
                 .brand("Chevrolet")
                 .model("Monsa")
                 .color("Vinho")
-                .plate("ESA1346")
+                .plate(nextPlate("ESA"))
                 .type(EnumVehicleType.CAR.getId())
                 .build();
     }
@@ -58,8 +64,12 @@ public class VehicleDtoBuilder {
                 .brand("Marca")
                 .model("Modelo")
                 .color("Preto")
-                .plate("EAT1346")
+                .plate(nextPlate("EAT"))
                 .type(type.getId())
                 .build();
     }
+
+    private static String nextPlate(String letters){
+        return letters + String.format("%04d", PLATE_SEQUENCE.incrementAndGet() % 10_000);
+    }
 }
@@ -0,0 +1,59 @@
+package com.api.vehicle.config;
+
+import com.api.vehicle.enums.type.EnumVehicleType;
+import com.api.vehicle.mapper.VehicleMapperImpl;
+import com.api.vehicle.model.dto.VehicleDto;
+import com.api.vehicle.model.entity.attribute.CanonicalStringConverter;
+import net.ttddyy.dsproxy.proxy.ProxyJdbcObject;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VehicleRuntimeHintsTest {
+
+    private final RuntimeHints hints = new RuntimeHints();
+
+    VehicleRuntimeHintsTest() {
+        new VehicleRuntimeHints().registerHints(this.hints, getClass().getClassLoader());
+    }
+
+    @Test
+    void given_RegisteredHints_when_BindVehicleDto_then_AccessorsAreReachable() throws NoSuchMethodException {
+        assertThat(RuntimeHintsPredicates.reflection().onMethod(VehicleDto.class.getMethod("getBrand")))
+                .accepts(this.hints);
+        assertThat(RuntimeHintsPredicates.reflection().onMethod(VehicleDto.class.getMethod("setBrand", String.class)))
+                .accepts(this.hints);
+    }
+
+    @Test
+    void given_RegisteredHints_when_InstantiateByName_then_ConstructorsAreReachable() {
+        assertThat(RuntimeHintsPredicates.reflection().onType(VehicleMapperImpl.class)
+                .withMemberCategory(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS)).accepts(this.hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(CanonicalStringConverter.class)
+                .withMemberCategory(MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS)).accepts(this.hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(EnumVehicleType.class)
+                .withMemberCategory(MemberCategory.INVOKE_PUBLIC_METHODS)).accepts(this.hints);
+    }
+
+    @Test
+    void given_RegisteredHints_when_LoadSearchIndexesScript_then_ResourceIsIncluded() {
+        assertThat(RuntimeHintsPredicates.resource().forResource("db/search-indexes-postgresql.sql")).accepts(this.hints);
+    }
+
+    @Test
+    void given_RegisteredHints_when_ProxyJdbcObjects_then_JdkProxiesAreDefined() {
+        assertThat(RuntimeHintsPredicates.proxies().forInterfaces(ProxyJdbcObject.class, Connection.class))
+                .accepts(this.hints);
+        assertThat(RuntimeHintsPredicates.proxies().forInterfaces(ProxyJdbcObject.class, PreparedStatement.class))
+                .accepts(this.hints);
+        assertThat(RuntimeHintsPredicates.proxies().forInterfaces(ProxyJdbcObject.class, ResultSet.class))
+                .accepts(this.hints);
+    }
+}
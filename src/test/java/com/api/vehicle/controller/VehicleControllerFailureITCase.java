@@ -0,0 +1,113 @@
+package com.api.vehicle.controller;
+
+import com.api.vehicle.builder.dto.VehicleDtoBuilder;
+import com.api.vehicle.constants.url.Endpoints;
+import com.api.vehicle.exception.details.ExceptionDetails;
+import com.api.vehicle.model.dto.VehicleDto;
+import com.api.vehicle.model.entity.VehicleEntity;
+import com.api.vehicle.repository.VehicleRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DataRetrievalFailureException;
+import org.springframework.http.*;
+import org.springframework.test.context.aot.DisabledInAotMode;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+/**
+ * Answers of the endpoints when the repository fails, forced through a spied repository. Kept apart from
+ * {@link VehicleControllerITCase} since bean overriding is not supported by the AOT processed test contexts, the
+ * other scenarios run in the native tests as well.
+ */
+@DisabledInAotMode
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class VehicleControllerFailureITCase {
+
+    @SpyBean
+    private VehicleRepository spyRepository;
+
+    private final TestRestTemplate restTemplate;
+    private final VehicleDtoBuilder dtoBuilder;
+
+    @Autowired
+    VehicleControllerFailureITCase(TestRestTemplate restTemplate) {
+        this.restTemplate = restTemplate;
+        this.dtoBuilder = new VehicleDtoBuilder();
+    }
+
+    @Test
+    void should_Return500AndExceptionDetails_When_NotSaveVehicle() {
+        doThrow(DataIntegrityViolationException.class).when(spyRepository).save(any(VehicleEntity.class));
+
+        ResponseEntity<ExceptionDetails> response = restTemplate.postForEntity(Endpoints.VEHICLE, dtoBuilder.getCarPostDto(),
+                ExceptionDetails.class);
+
+        defaultValidation(response, HttpStatus.INTERNAL_SERVER_ERROR);
+    }
+
+    @Test
+    void should_Return404AndExceptionDetails_When_NotFoundVehicle() {
+        doReturn(Optional.empty()).when(spyRepository).findById(any(UUID.class));
+
+        ResponseEntity<ExceptionDetails> response = restTemplate.getForEntity(Endpoints.URL_FIND_VEHICLE,
+                ExceptionDetails.class, UUID.randomUUID());
+
+        defaultValidation(response, HttpStatus.NOT_FOUND);
+    }
+
+    @Test
+    void should_Return500AndExceptionDetails_When_ErrorOccursDuringOperation() {
+        doThrow(DataRetrievalFailureException.class).when(spyRepository).findById(any(UUID.class));
+
+        ResponseEntity<ExceptionDetails> response = restTemplate.getForEntity(Endpoints.URL_FIND_VEHICLE,
+                ExceptionDetails.class, UUID.randomUUID());
+
+        defaultValidation(response, HttpStatus.INTERNAL_SERVER_ERROR);
+    }
+
+    @Test
+    void should_Return505AndExceptionDetails_When_FindButNotUpdateVehicle(){
+        doThrow(DataIntegrityViolationException.class).when(spyRepository)
+                .updateById(any(UUID.class), any(), any(), any(), any(), anyInt());
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        HttpEntity<VehicleDto> requestEntity = new HttpEntity<>(dtoBuilder.getCarDto(UUID.randomUUID()), headers);
+
+        ResponseEntity<ExceptionDetails> response = restTemplate.exchange(Endpoints.VEHICLE, HttpMethod.PUT, requestEntity,
+                ExceptionDetails.class);
+
+        defaultValidation(response, HttpStatus.INTERNAL_SERVER_ERROR);
+    }
+
+    @Test
+    void should_Return500AndExceptionDetails_When_FindButNotDeleteVehicle() {
+        doThrow(DataIntegrityViolationException.class).when(spyRepository).deleteVehicleById(any(UUID.class));
+
+        ResponseEntity<ExceptionDetails> response = restTemplate.exchange(Endpoints.URL_REMOVE_VEHICLE, HttpMethod.DELETE,
+                null, ExceptionDetails.class, UUID.randomUUID());
+
+        defaultValidation(response, HttpStatus.INTERNAL_SERVER_ERROR);
+    }
+
+    private void defaultValidation(ResponseEntity<ExceptionDetails> response, HttpStatus status) {
+        assertThat(response).isNotNull();
+        assertThat(response.getStatusCode()).isEqualTo(status);
+        Objects.requireNonNull(response.getBody());
+
+        assertThat(response.getBody().getTitle()).isNotNull().isNotEmpty();
+        assertThat(response.getBody().getDetails()).isNotNull().isNotEmpty();
+        assertThat(response.getBody().getStatus()).isEqualTo(status.value());
+    }
+}
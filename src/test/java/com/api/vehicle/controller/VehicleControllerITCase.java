@@ -1,15 +1,18 @@
 package com.api.vehicle.controller;
 
 import com.api.vehicle.builder.dto.VehicleDtoBuilder;
-import com.api.vehicle.builder.entity.VehicleEntityBuilder;
 import com.api.vehicle.constants.url.Endpoints;
+import com.api.vehicle.enums.bulk.EnumBulkItemStatus;
+import com.api.vehicle.enums.page.EnumPageTotals;
 import com.api.vehicle.enums.type.EnumVehicleType;
 import com.api.vehicle.exception.details.ExceptionDetails;
 import com.api.vehicle.exception.details.FieldErrorsExceptionDetails;
+import com.api.vehicle.model.dto.page.CursorPageDto;
 import com.api.vehicle.model.dto.page.ResponsePageDto;
+import com.api.vehicle.model.dto.page.VehicleCursor;
 import com.api.vehicle.model.dto.VehicleDto;
+import com.api.vehicle.model.dto.bulk.BulkItemResultDto;
 import com.api.vehicle.model.entity.VehicleEntity;
-import com.api.vehicle.repository.VehicleRepository;
 import jakarta.persistence.Table;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -18,34 +21,28 @@ import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
-import org.springframework.boot.test.mock.mockito.SpyBean;
 import org.springframework.boot.test.web.client.TestRestTemplate;
 import org.springframework.core.ParameterizedTypeReference;
-import org.springframework.dao.DataIntegrityViolationException;
-import org.springframework.dao.DataRetrievalFailureException;
 import org.springframework.http.*;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
-import java.util.Optional;
 import java.util.UUID;
 
+import static com.api.vehicle.filter.QueryCountAssertions.assertQueryCount;
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.*;
 
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
 class VehicleControllerITCase {
 
     private static HttpHeaders DEFAULT_HEADERS;
 
-    @SpyBean
-    private VehicleRepository spyRepository;
-
     private final TestRestTemplate restTemplate;
     private final VehicleDtoBuilder dtoBuilder;
-    private final VehicleEntityBuilder entityBuilder;
 
     private final JdbcTemplate jdbcTemplate;
 
@@ -53,7 +50,6 @@ class VehicleControllerITCase {
     public VehicleControllerITCase(TestRestTemplate restTemplate, JdbcTemplate jdbcTemplate) {
         this.restTemplate = restTemplate;
         this.dtoBuilder = new VehicleDtoBuilder();
-        this.entityBuilder = new VehicleEntityBuilder();
         this.jdbcTemplate = jdbcTemplate;
     }
 
@@ -70,17 +66,6 @@ class VehicleControllerITCase {
 
     @Nested
     class PostEndpointScenarios {
-        @Test
-        void should_Return500AndExceptionDetails_When_NotSaveVehicle() {
-            doThrow(DataIntegrityViolationException.class).when(spyRepository).save(any(VehicleEntity.class));
-
-            ResponseEntity<ExceptionDetails> response = restTemplate.postForEntity(Endpoints.VEHICLE, dtoBuilder.getCarPostDto(),
-                    ExceptionDetails.class);
-
-            defaultValidation(response, HttpStatus.INTERNAL_SERVER_ERROR);
-            defaultExceptionDetailsValidation(response, HttpStatus.INTERNAL_SERVER_ERROR);
-        }
-
         @Test
         void should_Return400AndExceptionDetails_When_IdIsNotNull() {
             ResponseEntity<ExceptionDetails> response = restTemplate.postForEntity(Endpoints.VEHICLE, dtoBuilder.getCarDto(UUID.randomUUID()),
@@ -116,6 +101,21 @@ class VehicleControllerITCase {
             defaultValidation(response, HttpStatus.OK);
         }
 
+        @Test
+        void should_Return409AndExceptionDetails_When_PlateIsAlreadyRegistered() {
+            VehicleDto postDto = dtoBuilder.getCarPostDto();
+            restTemplate.postForEntity(Endpoints.VEHICLE, postDto, VehicleDto.class);
+
+            VehicleDto duplicatedDto = dtoBuilder.getCarPostDto();
+            duplicatedDto.setPlate(postDto.getPlate().substring(0, 3).toLowerCase() + "-" + postDto.getPlate().substring(3));
+
+            ResponseEntity<ExceptionDetails> response = restTemplate.postForEntity(Endpoints.VEHICLE, duplicatedDto,
+                    ExceptionDetails.class);
+
+            defaultValidation(response, HttpStatus.CONFLICT);
+            defaultExceptionDetailsValidation(response, HttpStatus.CONFLICT);
+        }
+
         @Test
         void should_ReturnSavedVehicleWithId_When_VehicleIsValid(){
             VehicleDto vehicleExpected = dtoBuilder.getCarPostDto();
@@ -132,17 +132,6 @@ class VehicleControllerITCase {
 
     @Nested
     class GetEndpointScenarios {
-        @Test
-        void should_Return404AndExceptionDetails_When_NotFoundVehicle() {
-            doReturn(Optional.empty()).when(spyRepository).findById(any(UUID.class));
-
-            ResponseEntity<ExceptionDetails> response = restTemplate.getForEntity(Endpoints.URL_FIND_VEHICLE,
-                    ExceptionDetails.class, UUID.randomUUID());
-
-            defaultValidation(response, HttpStatus.NOT_FOUND);
-            defaultExceptionDetailsValidation(response, HttpStatus.NOT_FOUND);
-        }
-
         @ParameterizedTest
         @ValueSource(strings = {"null", "12345"})
         void should_Return400AndExceptionDetails_When_IdIsInvalid(String invalidID) {
@@ -154,17 +143,6 @@ class VehicleControllerITCase {
 
         }
 
-        @Test
-        void should_Return500AndExceptionDetails_When_ErrorOccursDuringOperation() {
-            doThrow(DataRetrievalFailureException.class).when(spyRepository).findById(any(UUID.class));
-
-            ResponseEntity<ExceptionDetails> response = restTemplate.getForEntity(Endpoints.URL_FIND_VEHICLE,
-                    ExceptionDetails.class, UUID.randomUUID());
-
-            defaultValidation(response, HttpStatus.INTERNAL_SERVER_ERROR);
-            defaultExceptionDetailsValidation(response, HttpStatus.INTERNAL_SERVER_ERROR);
-        }
-
         @Test
         void should_Return200AndFindedVehicle_When_FindVehicle(){
             VehicleDto postDto = dtoBuilder.getCarPostDto();
@@ -183,6 +161,51 @@ class VehicleControllerITCase {
             assertThat(vehicleActual).isNotNull().usingRecursiveComparison().isEqualTo(vehicleExpected);
         }
 
+        @Test
+        void given_ETagOfCurrentVersion_when_FindVehicleWithIfNoneMatch_then_Return304WithoutBody(){
+            VehicleDto savedVehicle = restTemplate.postForEntity(Endpoints.VEHICLE, dtoBuilder.getCarPostDto(),
+                    VehicleDto.class).getBody();
+            assertThat(savedVehicle).isNotNull();
+
+            ResponseEntity<VehicleDto> getResponse = restTemplate.getForEntity(Endpoints.URL_FIND_VEHICLE,
+                    VehicleDto.class, savedVehicle.getId());
+            assertThat(getResponse.getHeaders().getETag()).isEqualTo("\"0\"");
+
+            HttpHeaders headers = new HttpHeaders();
+            headers.setIfNoneMatch(getResponse.getHeaders().getETag());
+            ResponseEntity<String> conditionalResponse = restTemplate.exchange(Endpoints.URL_FIND_VEHICLE, HttpMethod.GET,
+                    new HttpEntity<>(headers), String.class, savedVehicle.getId());
+
+            assertThat(conditionalResponse.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+            assertThat(conditionalResponse.getBody()).isNull();
+            assertThat(conditionalResponse.getHeaders().getETag()).isEqualTo("\"0\"");
+        }
+
+        @Test
+        void should_Return200AndFindedVehicle_When_FindVehicleByPlateWrittenDifferently(){
+            VehicleDto postDto = dtoBuilder.getCarPostDto();
+            postDto.setPlate("abc-" + postDto.getPlate().substring(3));
+
+            VehicleDto vehicleExpected = restTemplate.postForEntity(Endpoints.VEHICLE, postDto, VehicleDto.class).getBody();
+            assertThat(vehicleExpected).isNotNull();
+            assertThat(vehicleExpected.getPlate()).isEqualTo("ABC" + postDto.getPlate().substring(4));
+
+            ResponseEntity<VehicleDto> getResponse = restTemplate.getForEntity(Endpoints.URL_FIND_VEHICLE_BY_PLATE,
+                    VehicleDto.class, "Abc " + postDto.getPlate().substring(4));
+
+            defaultValidation(getResponse, HttpStatus.OK);
+            assertThat(getResponse.getBody()).isNotNull().usingRecursiveComparison().isEqualTo(vehicleExpected);
+        }
+
+        @Test
+        void should_Return404AndExceptionDetails_When_NotFoundVehicleByPlate() {
+            ResponseEntity<ExceptionDetails> response = restTemplate.getForEntity(Endpoints.URL_FIND_VEHICLE_BY_PLATE,
+                    ExceptionDetails.class, "ZZZ9999");
+
+            defaultValidation(response, HttpStatus.NOT_FOUND);
+            defaultExceptionDetailsValidation(response, HttpStatus.NOT_FOUND);
+        }
+
         @ParameterizedTest
         @CsvSource({
                 "0, -1",
@@ -224,6 +247,25 @@ class VehicleControllerITCase {
             assertThat(actual.getBody()).usingRecursiveComparison().isEqualTo(expected);
         }
 
+        @Test
+        void given_AcceptCbor_when_ListVehicles_then_Return200AndSameVehiclePageEncodedAsCbor(){
+            restTemplate.postForEntity(Endpoints.VEHICLE, dtoBuilder.getCarPostDto(), VehicleDto.class);
+            restTemplate.postForEntity(Endpoints.VEHICLE, dtoBuilder.getCarPostDto(), VehicleDto.class);
+
+            ParameterizedTypeReference<ResponsePageDto<VehicleDto>> responseType = new ParameterizedTypeReference<>() {};
+            ResponsePageDto<VehicleDto> expected = restTemplate.exchange(Endpoints.URL_FIND_ALL_VEHICLES, HttpMethod.GET,
+                    null, responseType, 0, 2).getBody();
+
+            HttpHeaders headers = new HttpHeaders();
+            headers.setAccept(List.of(MediaType.APPLICATION_CBOR));
+            ResponseEntity<ResponsePageDto<VehicleDto>> actual = restTemplate.exchange(Endpoints.URL_FIND_ALL_VEHICLES,
+                    HttpMethod.GET, new HttpEntity<>(headers), responseType, 0, 2);
+
+            defaultValidation(actual, HttpStatus.OK);
+            assertThat(actual.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_CBOR);
+            assertThat(actual.getBody()).usingRecursiveComparison().isEqualTo(expected);
+        }
+
         @ParameterizedTest
         @EnumSource(EnumVehicleType.class)
         void given_PageNumberAndPageSizeAndVehicleType_when_ListVehicles_then_Return200AndVehiclePage(EnumVehicleType type){
@@ -252,6 +294,33 @@ class VehicleControllerITCase {
             assertThat(actual.getBody()).usingRecursiveComparison().isEqualTo(expected);
         }
 
+        @ParameterizedTest
+        @EnumSource(value = EnumPageTotals.class, names = {"NONE", "ESTIMATED"})
+        void given_TotalsOtherThanExact_when_ListVehicles_then_Return200AndVehiclePage(EnumPageTotals totals){
+            VehicleDto firstResponse = restTemplate.postForEntity(Endpoints.VEHICLE, dtoBuilder.getCarPostDto(), VehicleDto.class).getBody();
+            VehicleDto secondResponse = restTemplate.postForEntity(Endpoints.VEHICLE, dtoBuilder.getCarPostDto(), VehicleDto.class).getBody();
+            restTemplate.postForEntity(Endpoints.VEHICLE, dtoBuilder.getCarPostDto(), VehicleDto.class);
+
+            ParameterizedTypeReference<ResponsePageDto<VehicleDto>> responseType = new ParameterizedTypeReference<>() {};
+            ResponseEntity<ResponsePageDto<VehicleDto>> actual = restTemplate.exchange(
+                    Endpoints.URL_FIND_ALL_VEHICLES_WITH_TOTALS,
+                    HttpMethod.GET,
+                    null,
+                    responseType,
+                    0,
+                    2,
+                    totals
+            );
+
+            defaultValidation(actual, HttpStatus.OK);
+            assertThat(actual.getBody().getListContent()).containsExactly(firstResponse, secondResponse);
+            if(totals == EnumPageTotals.NONE){
+                assertThat(actual.getBody().getTotalItems()).isNull();
+            } else {
+                assertThat(actual.getBody().getTotalItems()).isGreaterThanOrEqualTo(3);
+            }
+        }
+
         @ParameterizedTest
         @ValueSource(ints = {-1, 0, 999})
         void given_InvalidType_when_ListVehicle_then_Return400AndExceptionDetails(int type){
@@ -264,25 +333,298 @@ class VehicleControllerITCase {
     }
 
     @Nested
-    class PutEndpointScenarios {
+    class CursorEndpointScenarios {
         @Test
-        void should_Return505AndExceptionDetails_When_FindButNotUpdateVehicle(){
-            doReturn(Optional.of(entityBuilder.getCarEntity(UUID.randomUUID()))).when(spyRepository).findById(any(UUID.class));
-            doThrow(DataIntegrityViolationException.class).when(spyRepository).save(any(VehicleEntity.class));
+        void given_EmptyCursor_when_ListVehiclesFollowingNextCursor_then_Return200AndEveryVehicleOnce(){
+            List<UUID> savedIds = new ArrayList<>();
+            for(int i = 0; i < 5; i++){
+                savedIds.add(restTemplate.postForEntity(Endpoints.VEHICLE, dtoBuilder.getCarPostDto(), VehicleDto.class)
+                        .getBody().getId());
+            }
+
+            ParameterizedTypeReference<CursorPageDto<VehicleDto>> responseType = new ParameterizedTypeReference<>() {};
+            List<UUID> listedIds = new ArrayList<>();
+            String cursor = "";
+            int pages = 0;
+
+            do {
+                ResponseEntity<CursorPageDto<VehicleDto>> actual = restTemplate.exchange(
+                        Endpoints.URL_FIND_ALL_VEHICLES_BY_CURSOR, HttpMethod.GET, null, responseType, cursor, 2);
+
+                defaultValidation(actual, HttpStatus.OK);
+                assertThat(actual.getBody().getTotalItems()).isNull();
+                actual.getBody().getListContent().forEach(vehicle -> listedIds.add(vehicle.getId()));
+                cursor = actual.getBody().getNextCursor();
+                pages++;
+            } while (Objects.nonNull(cursor));
+
+            assertThat(pages).isEqualTo(3);
+            assertThat(listedIds).containsExactlyInAnyOrderElementsOf(savedIds);
+        }
 
-            HttpEntity<VehicleDto> requestEntity = new HttpEntity<>(dtoBuilder.getCarDto(UUID.randomUUID()), DEFAULT_HEADERS);
+        @ParameterizedTest
+        @EnumSource(EnumVehicleType.class)
+        void given_VehicleType_when_ListVehiclesByTypeAndCursor_then_Return200AndOnlyVehiclesOfType(EnumVehicleType type){
+            VehicleDto expectedVehicle = restTemplate.postForEntity(Endpoints.VEHICLE, dtoBuilder.getVehicle(type),
+                    VehicleDto.class).getBody();
+            Arrays.stream(EnumVehicleType.values()).filter(other -> other != type).forEach(other ->
+                    restTemplate.postForEntity(Endpoints.VEHICLE, dtoBuilder.getVehicle(other), VehicleDto.class));
 
-            ResponseEntity<ExceptionDetails> response = restTemplate.exchange(Endpoints.VEHICLE, HttpMethod.PUT, requestEntity,
-                    ExceptionDetails.class);
+            ParameterizedTypeReference<CursorPageDto<VehicleDto>> responseType = new ParameterizedTypeReference<>() {};
+            ResponseEntity<CursorPageDto<VehicleDto>> actual = restTemplate.exchange(
+                    Endpoints.URL_FIND_ALL_VEHICLES_BY_TYPE_AND_CURSOR, HttpMethod.GET, null, responseType, type.getId(), "", 2);
 
-            defaultValidation(response, HttpStatus.INTERNAL_SERVER_ERROR);
-            defaultExceptionDetailsValidation(response, HttpStatus.INTERNAL_SERVER_ERROR);
+            defaultValidation(actual, HttpStatus.OK);
+            assertThat(actual.getBody().getListContent()).containsExactly(expectedVehicle);
+            assertThat(actual.getBody().getNextCursor()).isNull();
         }
 
         @Test
-        void should_Return404AndExceptionDetails_When_NotFindVehicleInUpdateOperation(){
-            doReturn(Optional.empty()).when(spyRepository).findById(any(UUID.class));
+        void given_InvalidCursor_when_ListVehiclesByCursor_then_Return400AndExceptionDetails(){
+            ResponseEntity<ExceptionDetails> response = restTemplate.getForEntity(Endpoints.URL_FIND_ALL_VEHICLES_BY_CURSOR,
+                    ExceptionDetails.class, "anyText", 2);
+
+            defaultValidation(response, HttpStatus.BAD_REQUEST);
+            defaultExceptionDetailsValidation(response, HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    @Nested
+    class SearchEndpointScenarios {
+        @Test
+        void given_FilterOnEveryField_when_SearchVehicles_then_Return200AndOnlyVehiclesMatchingAll(){
+            VehicleDto expectedVehicle = saveVehicle("Volkswagen", "Gol", "Branco", "SRC1A23", EnumVehicleType.CAR);
+            saveVehicle("Volkswagen", "Gol", "Preto", "SRC1A24", EnumVehicleType.CAR);
+            saveVehicle("Volkswagen", "Gol", "Branco", "SRD1A25", EnumVehicleType.CAR);
+            saveVehicle("Volkswagen", "Gol", "Branco", "SRC1A26", EnumVehicleType.VAN);
+            saveVehicle("Fiat", "Gol", "Branco", "SRC1A27", EnumVehicleType.CAR);
+
+            ResponseEntity<CursorPageDto<VehicleDto>> actual = search(searchUri()
+                    .queryParam("brand", "WAGEN")
+                    .queryParam("model", "gol")
+                    .queryParam("color", "ranc")
+                    .queryParam("plate", "src-1")
+                    .queryParam("type", EnumVehicleType.CAR.getId()));
+
+            defaultValidation(actual, HttpStatus.OK);
+            assertThat(actual.getBody().getListContent()).containsExactly(expectedVehicle);
+            assertThat(actual.getBody().getNextCursor()).isNull();
+        }
+
+        @ParameterizedTest
+        @ValueSource(booleans = {true, false})
+        void given_MatchesOverSeveralPages_when_SearchVehiclesFollowingNextCursor_then_Return200AndEveryMatchOnce(boolean byType){
+            List<UUID> matchingIds = new ArrayList<>();
+            for(int i = 0; i < 5; i++){
+                EnumVehicleType type = byType ? EnumVehicleType.TRUCK : EnumVehicleType.values()[i];
+                matchingIds.add(saveVehicle("Scania", "R450", "Azul", "SCN000" + i, type).getId());
+            }
+            saveVehicle("Volvo", "FH", "Azul", "VLV0001", EnumVehicleType.TRUCK);
+
+            List<UUID> listedIds = new ArrayList<>();
+            String cursor = "";
+            int pages = 0;
+            do {
+                UriComponentsBuilder uri = searchUri()
+                        .queryParam("brand", "scania")
+                        .queryParam(Endpoints.CURSOR, cursor)
+                        .queryParam("pageSize", 2);
+                if(byType){
+                    uri.queryParam("type", EnumVehicleType.TRUCK.getId());
+                }
+                ResponseEntity<CursorPageDto<VehicleDto>> actual = search(uri);
+
+                defaultValidation(actual, HttpStatus.OK);
+                actual.getBody().getListContent().forEach(vehicle -> listedIds.add(vehicle.getId()));
+                cursor = actual.getBody().getNextCursor();
+                pages++;
+            } while (Objects.nonNull(cursor));
+
+            assertThat(pages).isEqualTo(3);
+            assertThat(listedIds).containsExactlyInAnyOrderElementsOf(matchingIds);
+        }
+
+        @Test
+        void given_LikeWildcardInText_when_SearchVehicles_then_Return200AndMatchItLiterally(){
+            VehicleDto expectedVehicle = saveVehicle("Marca_1", "Modelo", "Preto", "WLD0001", EnumVehicleType.CAR);
+            saveVehicle("MarcaX1", "Modelo", "Preto", "WLD0002", EnumVehicleType.CAR);
+
+            ResponseEntity<CursorPageDto<VehicleDto>> actual = search(searchUri().queryParam("brand", "a_1"));
+
+            defaultValidation(actual, HttpStatus.OK);
+            assertThat(actual.getBody().getListContent()).containsExactly(expectedVehicle);
+        }
+
+        @Test
+        void given_CursorOfAnotherType_when_SearchVehiclesByType_then_Return400AndExceptionDetails(){
+            String cursor = new VehicleCursor(EnumVehicleType.BUS.getId(), UUID.randomUUID()).encode();
 
+            ResponseEntity<ExceptionDetails> response = restTemplate.getForEntity(searchUri()
+                    .queryParam("type", EnumVehicleType.CAR.getId())
+                    .queryParam(Endpoints.CURSOR, cursor)
+                    .build().toUri(), ExceptionDetails.class);
+
+            defaultValidation(response, HttpStatus.BAD_REQUEST);
+            defaultExceptionDetailsValidation(response, HttpStatus.BAD_REQUEST);
+        }
+
+        private VehicleDto saveVehicle(String brand, String model, String color, String plate, EnumVehicleType type){
+            VehicleDto vehicle = dtoBuilder.getVehicle(type);
+            vehicle.setBrand(brand);
+            vehicle.setModel(model);
+            vehicle.setColor(color);
+            vehicle.setPlate(plate);
+            return restTemplate.postForEntity(Endpoints.VEHICLE, vehicle, VehicleDto.class).getBody();
+        }
+
+        private UriComponentsBuilder searchUri(){
+            return UriComponentsBuilder.fromPath(Endpoints.URL_SEARCH_VEHICLES);
+        }
+
+        private ResponseEntity<CursorPageDto<VehicleDto>> search(UriComponentsBuilder uri){
+            return restTemplate.exchange(uri.build().toUri(), HttpMethod.GET, null,
+                    new ParameterizedTypeReference<CursorPageDto<VehicleDto>>() {});
+        }
+    }
+
+    @Nested
+    class BulkEndpointScenarios {
+        private final ParameterizedTypeReference<List<BulkItemResultDto>> responseType = new ParameterizedTypeReference<>() {};
+
+        @Test
+        void given_JsonArrayLargerThanChunk_when_SaveVehicles_then_Return200AndEveryVehicleCreated(){
+            List<VehicleDto> postDtoList = List.of(dtoBuilder.getCarPostDto(), dtoBuilder.getVehicle(EnumVehicleType.MOTORCYCLE),
+                    dtoBuilder.getCarPostDto());
+
+            ResponseEntity<List<BulkItemResultDto>> response = restTemplate.exchange(Endpoints.URL_BULK_VEHICLES, HttpMethod.POST,
+                    new HttpEntity<>(postDtoList, DEFAULT_HEADERS), responseType);
+
+            defaultValidation(response, HttpStatus.OK);
+            assertThat(response.getBody()).hasSize(3).allSatisfy(result -> {
+                assertThat(result.getStatus()).isEqualTo(EnumBulkItemStatus.CREATED);
+                assertThat(result.getId()).isNotNull();
+            });
+            assertThat(response.getBody()).extracting(BulkItemResultDto::getIndex).containsExactly(0, 1, 2);
+            assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tb_vehicle", Integer.class)).isEqualTo(3);
+        }
+
+        @Test
+        void given_NdjsonBody_when_SaveVehicles_then_Return200AndEveryVehicleCreated(){
+            String ndjson = """
+                    {"brand":"Fiat","model":"Uno","color":"Branco","plate":"QWE1234","type":1}
+                    {"brand":"Honda","model":"CG","color":"Vermelho","plate":"QWE5678","type":2}
+                    """;
+            HttpHeaders headers = new HttpHeaders();
+            headers.setContentType(MediaType.APPLICATION_NDJSON);
+
+            ResponseEntity<List<BulkItemResultDto>> response = restTemplate.exchange(Endpoints.URL_BULK_VEHICLES, HttpMethod.POST,
+                    new HttpEntity<>(ndjson, headers), responseType);
+
+            defaultValidation(response, HttpStatus.OK);
+            assertThat(response.getBody()).hasSize(2)
+                    .extracting(BulkItemResultDto::getStatus).containsOnly(EnumBulkItemStatus.CREATED);
+        }
+
+        @Test
+        void given_AcceptNdjson_when_SaveVehicles_then_Return200AndOneResultPerLine(){
+            HttpHeaders headers = new HttpHeaders();
+            headers.setContentType(MediaType.APPLICATION_JSON);
+            headers.setAccept(List.of(MediaType.APPLICATION_NDJSON));
+
+            ResponseEntity<String> response = restTemplate.exchange(Endpoints.URL_BULK_VEHICLES, HttpMethod.POST,
+                    new HttpEntity<>(List.of(dtoBuilder.getCarPostDto(), dtoBuilder.getCarPostDto()), headers),
+                    String.class);
+
+            defaultValidation(response, HttpStatus.OK);
+            assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_NDJSON);
+            assertThat(response.getBody()).endsWith("\n");
+            assertThat(response.getBody().lines()).hasSize(2)
+                    .allSatisfy(line -> assertThat(line).startsWith("{").contains("\"status\":\"CREATED\""));
+        }
+
+        @Test
+        void given_PlateAlreadyRegisteredInChunk_when_SaveVehicles_then_FailOnlyThatVehicleWithStableMessage(){
+            VehicleDto savedVehicle = restTemplate.postForEntity(Endpoints.VEHICLE, dtoBuilder.getCarPostDto(), VehicleDto.class).getBody();
+            VehicleDto duplicateDto = dtoBuilder.getCarPostDto();
+            duplicateDto.setPlate(savedVehicle.getPlate());
+
+            ResponseEntity<List<BulkItemResultDto>> response = restTemplate.exchange(Endpoints.URL_BULK_VEHICLES, HttpMethod.POST,
+                    new HttpEntity<>(List.of(dtoBuilder.getCarPostDto(), duplicateDto, dtoBuilder.getCarPostDto()), DEFAULT_HEADERS),
+                    responseType);
+
+            defaultValidation(response, HttpStatus.OK);
+            assertThat(response.getBody()).extracting(BulkItemResultDto::getStatus)
+                    .containsExactly(EnumBulkItemStatus.CREATED, EnumBulkItemStatus.FAILED, EnumBulkItemStatus.CREATED);
+            assertThat(response.getBody().get(1).getDetails()).isEqualTo("Plate already registered!");
+            assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tb_vehicle", Integer.class)).isEqualTo(3);
+        }
+
+        @Test
+        void given_InvalidVehicleInList_when_SaveVehicles_then_Return400WithFieldErrorsByIndexAndSaveNothing(){
+            VehicleDto invalidDto = dtoBuilder.getCarPostDto();
+            invalidDto.setPlate("ABC12345");
+            invalidDto.setId(UUID.randomUUID());
+
+            ResponseEntity<FieldErrorsExceptionDetails> response = restTemplate.exchange(Endpoints.URL_BULK_VEHICLES, HttpMethod.POST,
+                    new HttpEntity<>(List.of(dtoBuilder.getCarPostDto(), invalidDto), DEFAULT_HEADERS),
+                    FieldErrorsExceptionDetails.class);
+
+            defaultValidation(response, HttpStatus.BAD_REQUEST);
+            assertThat(response.getBody().getFieldError()).containsOnlyKeys("[1].plate", "[1].id");
+            assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM tb_vehicle", Integer.class)).isZero();
+        }
+
+        @Test
+        void given_ExistingAndMissingVehicles_when_UpdateVehicles_then_Return200AndOutcomeOfEachVehicle(){
+            VehicleDto savedVehicle = restTemplate.postForEntity(Endpoints.VEHICLE, dtoBuilder.getCarPostDto(), VehicleDto.class).getBody();
+            savedVehicle.setColor("Black");
+
+            ResponseEntity<List<BulkItemResultDto>> response = restTemplate.exchange(Endpoints.URL_BULK_VEHICLES, HttpMethod.PUT,
+                    new HttpEntity<>(List.of(dtoBuilder.getCarDto(UUID.randomUUID()), savedVehicle), DEFAULT_HEADERS),
+                    responseType);
+
+            defaultValidation(response, HttpStatus.OK);
+            assertThat(response.getBody()).extracting(BulkItemResultDto::getStatus)
+                    .containsExactly(EnumBulkItemStatus.NOT_FOUND, EnumBulkItemStatus.UPDATED);
+            assertThat(restTemplate.getForEntity(Endpoints.URL_FIND_VEHICLE, VehicleDto.class, savedVehicle.getId()).getBody())
+                    .isEqualTo(savedVehicle);
+        }
+    }
+
+    @Nested
+    class ExportEndpointScenarios {
+        @Test
+        void given_VehiclesOfEveryType_when_ExportNdjson_then_Return200AndOneLinePerVehicle(){
+            restTemplate.postForEntity(Endpoints.VEHICLE, dtoBuilder.getVehicle(EnumVehicleType.CAR), VehicleDto.class);
+            restTemplate.postForEntity(Endpoints.VEHICLE, dtoBuilder.getVehicle(EnumVehicleType.MOTORCYCLE), VehicleDto.class);
+
+            ResponseEntity<String> response = restTemplate.getForEntity(Endpoints.URL_EXPORT_VEHICLES, String.class, "NDJSON");
+
+            defaultValidation(response, HttpStatus.OK);
+            assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_NDJSON);
+            assertThat(response.getBody().lines()).hasSize(2).allSatisfy(line -> assertThat(line).startsWith("{\"id\":"));
+        }
+
+        @Test
+        void given_VehicleType_when_ExportCsv_then_Return200AndHeaderWithVehiclesOfType(){
+            VehicleDto car = restTemplate.postForEntity(Endpoints.VEHICLE, dtoBuilder.getVehicle(EnumVehicleType.CAR),
+                    VehicleDto.class).getBody();
+            restTemplate.postForEntity(Endpoints.VEHICLE, dtoBuilder.getVehicle(EnumVehicleType.MOTORCYCLE), VehicleDto.class);
+
+            ResponseEntity<String> response = restTemplate.getForEntity(Endpoints.URL_EXPORT_VEHICLES_BY_TYPE, String.class,
+                    EnumVehicleType.CAR.getId(), "CSV");
+
+            defaultValidation(response, HttpStatus.OK);
+            assertThat(response.getBody().lines()).containsExactly("id,brand,model,color,plate,type",
+                    String.join(",", car.getId().toString(), car.getBrand(), car.getModel(), car.getColor(), car.getPlate(),
+                            String.valueOf(car.getType())));
+        }
+    }
+
+    @Nested
+    class PutEndpointScenarios {
+        @Test
+        void should_Return404AndExceptionDetails_When_NotFindVehicleInUpdateOperation(){
             HttpEntity<VehicleDto> requestEntity = new HttpEntity<>(dtoBuilder.getCarDto(UUID.randomUUID()), DEFAULT_HEADERS);
 
             ResponseEntity<ExceptionDetails> response = restTemplate.exchange(Endpoints.VEHICLE, HttpMethod.PUT, requestEntity,
@@ -326,31 +668,60 @@ class VehicleControllerITCase {
             defaultValidation(putResponse, HttpStatus.OK);
             assertThat(vehicleActual).isNotNull().usingRecursiveComparison().isEqualTo(expectedVehicle);
         }
-    }
 
-    @Nested
-    class DeleteEndpointScenarios {
         @Test
-        void should_Return404AndExceptionDetails_When_NotFindVehicleInDeleteOperation() {
-            doReturn(Optional.empty()).when(spyRepository).findById(any(UUID.class));
+        void given_IfMatchWithCurrentVersion_when_UpdateVehicle_then_Return200AndNextETag(){
+            VehicleDto savedVehicle = restTemplate.postForEntity(Endpoints.VEHICLE, dtoBuilder.getCarPostDto(),
+                    VehicleDto.class).getBody();
+            assertThat(savedVehicle).isNotNull();
+            savedVehicle.setColor("Black");
 
-            ResponseEntity<ExceptionDetails> response = restTemplate.exchange(Endpoints.URL_REMOVE_VEHICLE, HttpMethod.DELETE,
-                    null, ExceptionDetails.class, UUID.randomUUID());
+            HttpHeaders headers = new HttpHeaders();
+            headers.setContentType(MediaType.APPLICATION_JSON);
+            headers.setIfMatch("\"0\"");
+            ResponseEntity<VehicleDto> putResponse = restTemplate.exchange(Endpoints.VEHICLE, HttpMethod.PUT,
+                    new HttpEntity<>(savedVehicle, headers), VehicleDto.class);
 
-            defaultValidation(response, HttpStatus.NOT_FOUND);
-            defaultExceptionDetailsValidation(response, HttpStatus.NOT_FOUND);
+            defaultValidation(putResponse, HttpStatus.OK);
+            assertThat(putResponse.getHeaders().getETag()).isEqualTo("\"1\"");
+            assertThat(restTemplate.getForEntity(Endpoints.URL_FIND_VEHICLE, VehicleDto.class, savedVehicle.getId())
+                    .getHeaders().getETag()).isEqualTo("\"1\"");
         }
 
         @Test
-        void should_Return500AndExceptionDetails_When_FindButNotDeleteVehicle() {
-            doReturn(Optional.of(entityBuilder.getCarEntity(UUID.randomUUID()))).when(spyRepository).findById(any(UUID.class));
-            doThrow(DataIntegrityViolationException.class).when(spyRepository).delete(any(VehicleEntity.class));
+        void given_IfMatchWithStaleVersion_when_UpdateVehicle_then_Return412AndKeepVehicle(){
+            VehicleDto savedVehicle = restTemplate.postForEntity(Endpoints.VEHICLE, dtoBuilder.getCarPostDto(),
+                    VehicleDto.class).getBody();
+            assertThat(savedVehicle).isNotNull();
+            String savedColor = savedVehicle.getColor();
+
+            savedVehicle.setColor("Black");
+            restTemplate.exchange(Endpoints.VEHICLE, HttpMethod.PUT, new HttpEntity<>(savedVehicle, DEFAULT_HEADERS),
+                    VehicleDto.class);
+
+            savedVehicle.setColor("White");
+            HttpHeaders headers = new HttpHeaders();
+            headers.setContentType(MediaType.APPLICATION_JSON);
+            headers.setIfMatch("\"0\"");
+            ResponseEntity<ExceptionDetails> response = restTemplate.exchange(Endpoints.VEHICLE, HttpMethod.PUT,
+                    new HttpEntity<>(savedVehicle, headers), ExceptionDetails.class);
+
+            defaultValidation(response, HttpStatus.PRECONDITION_FAILED);
+            defaultExceptionDetailsValidation(response, HttpStatus.PRECONDITION_FAILED);
+            assertThat(restTemplate.getForEntity(Endpoints.URL_FIND_VEHICLE, VehicleDto.class, savedVehicle.getId())
+                    .getBody().getColor()).isNotEqualTo(savedColor).isEqualTo("Black");
+        }
+    }
 
+    @Nested
+    class DeleteEndpointScenarios {
+        @Test
+        void should_Return404AndExceptionDetails_When_NotFindVehicleInDeleteOperation() {
             ResponseEntity<ExceptionDetails> response = restTemplate.exchange(Endpoints.URL_REMOVE_VEHICLE, HttpMethod.DELETE,
                     null, ExceptionDetails.class, UUID.randomUUID());
 
-            defaultValidation(response, HttpStatus.INTERNAL_SERVER_ERROR);
-            defaultExceptionDetailsValidation(response, HttpStatus.INTERNAL_SERVER_ERROR);
+            defaultValidation(response, HttpStatus.NOT_FOUND);
+            defaultExceptionDetailsValidation(response, HttpStatus.NOT_FOUND);
         }
 
         @Test
@@ -379,6 +750,42 @@ class VehicleControllerITCase {
 
     }
 
+    @Nested
+    class QueryCountScenarios {
+
+        @Test
+        void given_SavedVehicle_when_CallSingleVehicleEndpoints_then_RunOneStatementEach(){
+            ResponseEntity<VehicleDto> postResponse = restTemplate.postForEntity(Endpoints.VEHICLE, dtoBuilder.getCarPostDto(),
+                    VehicleDto.class);
+            assertQueryCount(postResponse, 1);
+            VehicleDto savedVehicle = postResponse.getBody();
+            assertThat(savedVehicle).isNotNull();
+
+            assertQueryCount(restTemplate.getForEntity(Endpoints.URL_FIND_VEHICLE, VehicleDto.class, savedVehicle.getId()), 1);
+            assertQueryCount(restTemplate.getForEntity(Endpoints.URL_FIND_VEHICLE_BY_PLATE, VehicleDto.class,
+                    savedVehicle.getPlate()), 1);
+
+            savedVehicle.setColor("Black");
+            assertQueryCount(restTemplate.exchange(Endpoints.VEHICLE, HttpMethod.PUT,
+                    new HttpEntity<>(savedVehicle, DEFAULT_HEADERS), VehicleDto.class), 1);
+            assertQueryCount(restTemplate.exchange(Endpoints.URL_REMOVE_VEHICLE, HttpMethod.DELETE, null, Void.class,
+                    savedVehicle.getId()), 1);
+        }
+
+        @Test
+        void given_SeveralVehicles_when_ListVehicles_then_RunSameStatementsWhateverThePageSize(){
+            for(int i = 0; i < 5; i++){
+                restTemplate.postForEntity(Endpoints.VEHICLE, dtoBuilder.getCarPostDto(), VehicleDto.class);
+            }
+
+            assertQueryCount(restTemplate.getForEntity(Endpoints.URL_FIND_ALL_VEHICLES, String.class, 0, 2), 2);
+            assertQueryCount(restTemplate.getForEntity(Endpoints.URL_FIND_ALL_VEHICLES, String.class, 0, 5), 2);
+            assertQueryCount(restTemplate.getForEntity(Endpoints.URL_FIND_ALL_VEHICLES_BY_CURSOR, String.class, "", 2), 1);
+            assertQueryCount(restTemplate.getForEntity(Endpoints.URL_FIND_ALL_VEHICLES_BY_CURSOR, String.class, "", 5), 1);
+            assertQueryCount(restTemplate.getForEntity(Endpoints.URL_SEARCH_VEHICLES + "?brand=chev&pageSize=2", String.class), 1);
+        }
+    }
+
     private void defaultValidation(ResponseEntity<?> response, HttpStatus status) {
         assertThat(response).isNotNull();
         assertThat(response.getStatusCode()).isEqualTo(status);
@@ -1,19 +1,26 @@
 package com.api.vehicle.controller;
 
 import com.api.vehicle.builder.dto.VehicleDtoBuilder;
+import com.api.vehicle.enums.bulk.EnumBulkItemStatus;
+import com.api.vehicle.enums.page.EnumPageTotals;
 import com.api.vehicle.enums.type.EnumVehicleType;
+import com.api.vehicle.exception.response.PreconditionFailedException;
+import com.api.vehicle.model.dto.page.CursorPageDto;
 import com.api.vehicle.model.dto.page.ResponsePageDto;
 import com.api.vehicle.model.dto.VehicleDto;
+import com.api.vehicle.model.dto.bulk.BulkItemResultDto;
 import com.api.vehicle.service.VehicleService;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.aot.DisabledInAotMode;
 
 import java.util.List;
 import java.util.UUID;
@@ -21,9 +28,11 @@ import java.util.UUID;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
+@DisabledInAotMode
 @SpringBootTest
 class VehicleControllerTest {
 
@@ -68,6 +77,23 @@ class VehicleControllerTest {
                 .isEqualTo(HttpStatusCode.valueOf(HttpStatus.OK.value()));
     }
 
+    @Test
+    void should_ReturnResultOfEachVehicle_When_SaveVehicles(){
+        List<VehicleDto> postDtoList = List.of(this.dtoBuilder.getCarPostDto(), this.dtoBuilder.getCarPostDto());
+
+        List<BulkItemResultDto> expected = List.of(
+                BulkItemResultDto.builder().index(0).id(UUID.randomUUID()).status(EnumBulkItemStatus.CREATED).build(),
+                BulkItemResultDto.builder().index(1).id(UUID.randomUUID()).status(EnumBulkItemStatus.CREATED).build());
+
+        when(this.mockService.saveAll(postDtoList)).thenReturn(expected);
+
+        ResponseEntity<List<BulkItemResultDto>> response = this.controller.saveAll(postDtoList);
+
+        assertNotNull(response);
+        assertEquals(HttpStatusCode.valueOf(HttpStatus.OK.value()), response.getStatusCode());
+        assertThat(response.getBody()).isEqualTo(expected);
+    }
+
     @Test
     void should_ReturnVehicleDto_When_UpdateVehicle(){
         UUID idExpected = UUID.randomUUID();
@@ -75,7 +101,7 @@ class VehicleControllerTest {
 
         when(this.mockService.update(any(VehicleDto.class))).thenReturn(putDtoExpected);
 
-        ResponseEntity<VehicleDto> response = this.controller.update(putDtoExpected);
+        ResponseEntity<VehicleDto> response = this.controller.update(putDtoExpected, null);
 
         assertNotNull(response);
         assertThat(response.getBody())
@@ -90,7 +116,7 @@ class VehicleControllerTest {
 
         when(this.mockService.update(any(VehicleDto.class))).thenReturn(putDtoExpected);
 
-        ResponseEntity<VehicleDto> response = this.controller.update(putDtoExpected);
+        ResponseEntity<VehicleDto> response = this.controller.update(putDtoExpected, null);
 
         assertNotNull(response);
         assertThat(response.getStatusCode())
@@ -98,6 +124,41 @@ class VehicleControllerTest {
                 .isEqualTo(HttpStatusCode.valueOf(HttpStatus.OK.value()));
     }
 
+    @Test
+    void should_UpdateExpectedVersionAndReturnNewETag_When_UpdateVehicleWithIfMatch(){
+        VehicleDto putDto = this.dtoBuilder.getCarDto(UUID.randomUUID());
+        VehicleDto updatedDto = this.dtoBuilder.getCarDto(putDto.getId());
+        updatedDto.setVersion(4L);
+
+        when(this.mockService.update(any(VehicleDto.class))).thenReturn(updatedDto);
+
+        ResponseEntity<VehicleDto> response = this.controller.update(putDto, "\"3\"");
+
+        assertEquals(3L, putDto.getVersion());
+        assertEquals("\"4\"", response.getHeaders().getETag());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"W/\"3\"", "3", "\"abc\"", "\"1\", \"2\""})
+    void should_ThrowsPreconditionFailedException_When_IfMatchIsNotAStrongVersionETag(String ifMatch){
+        VehicleDto putDto = this.dtoBuilder.getCarDto(UUID.randomUUID());
+
+        assertThrows(PreconditionFailedException.class, () -> this.controller.update(putDto, ifMatch));
+        verify(this.mockService, never()).update(any(VehicleDto.class));
+    }
+
+    @Test
+    void should_ReturnVersionAsETag_When_FindVehicleById(){
+        VehicleDto dtoExpected = this.dtoBuilder.getCarDto(UUID.randomUUID());
+        dtoExpected.setVersion(7L);
+
+        when(this.mockService.findById(dtoExpected.getId())).thenReturn(dtoExpected);
+
+        ResponseEntity<VehicleDto> response = this.controller.findById(dtoExpected.getId());
+
+        assertEquals("\"7\"", response.getHeaders().getETag());
+    }
+
     @Test
     void should_ReturnVehicleDto_When_FindVehicleById(){
         UUID idExpected = UUID.randomUUID();
@@ -113,6 +174,19 @@ class VehicleControllerTest {
                 .isEqualTo(dtoExpected);
     }
 
+    @Test
+    void should_ReturnVehicleDto_When_FindVehicleByPlate(){
+        VehicleDto dtoExpected = this.dtoBuilder.getCarDto(UUID.randomUUID());
+
+        when(this.mockService.findByPlate(dtoExpected.getPlate())).thenReturn(dtoExpected);
+
+        ResponseEntity<VehicleDto> response = this.controller.findByPlate(dtoExpected.getPlate());
+
+        assertNotNull(response);
+        assertEquals(HttpStatusCode.valueOf(HttpStatus.OK.value()), response.getStatusCode());
+        assertThat(response.getBody()).isEqualTo(dtoExpected);
+    }
+
     @Test
     void should_ReturnResponseEntityOk_When_FindVehicleById(){
         when(this.mockService.findById(any(UUID.class))).thenReturn(new VehicleDto());
@@ -152,10 +226,10 @@ class VehicleControllerTest {
                 .listContent(List.of(dtoBuilder.getCarDto(UUID.randomUUID()), dtoBuilder.getCarDto(UUID.randomUUID()))).build();
 
         //When
-        when(this.mockService.findAll(pageNumber, pageSize)).thenReturn(expected);
+        when(this.mockService.findAll(pageNumber, pageSize, EnumPageTotals.EXACT)).thenReturn(expected);
 
         //Then
-        ResponseEntity<ResponsePageDto<VehicleDto>> actual = this.controller.findAll(pageNumber, pageSize);
+        ResponseEntity<ResponsePageDto<VehicleDto>> actual = this.controller.findAll(pageNumber, pageSize, EnumPageTotals.EXACT);
         assertNotNull(actual);
         assertEquals(HttpStatusCode.valueOf(HttpStatus.OK.value()), actual.getStatusCode());
         assertThat(actual.getBody()).usingRecursiveComparison().isEqualTo(expected);
@@ -179,13 +253,37 @@ class VehicleControllerTest {
                 .build();
 
         //When
-        when(this.mockService.findAllByType(type, pageNumber, pageSize)).thenReturn(expected);
+        when(this.mockService.findAllByType(type, pageNumber, pageSize, EnumPageTotals.EXACT)).thenReturn(expected);
 
         //Then
-        ResponseEntity<ResponsePageDto<VehicleDto>> actual = this.controller.findAllByType(type, pageNumber, pageSize);
+        ResponseEntity<ResponsePageDto<VehicleDto>> actual = this.controller.findAllByType(type, pageNumber, pageSize, EnumPageTotals.EXACT);
         assertNotNull(actual);
         assertEquals(HttpStatusCode.valueOf(HttpStatus.OK.value()), actual.getStatusCode());
         assertThat(actual.getBody()).usingRecursiveComparison().isEqualTo(expected);
     }
-}
 
+    @ParameterizedTest()
+    @EnumSource(EnumVehicleType.class)
+    void given_CursorAndPageSizeAndVehicleType_when_ListVehicles_then_ReturnCursorPageDto(EnumVehicleType type){
+        //Given
+        String cursor = "";
+        int pageSize = 2;
+
+        //Expected
+        CursorPageDto<VehicleDto> expected = CursorPageDto.<VehicleDto>builder()
+                .pageSize(pageSize)
+                .nextCursor("nextCursor")
+                .listContent(List.of(dtoBuilder.getVehicle(UUID.randomUUID(), type),
+                        dtoBuilder.getVehicle(UUID.randomUUID(), type)))
+                .build();
+
+        //When
+        when(this.mockService.findAllByTypeAndCursor(type, cursor, pageSize)).thenReturn(expected);
+
+        //Then
+        ResponseEntity<CursorPageDto<VehicleDto>> actual = this.controller.findAllByTypeAndCursor(type, cursor, pageSize);
+        assertNotNull(actual);
+        assertEquals(HttpStatusCode.valueOf(HttpStatus.OK.value()), actual.getStatusCode());
+        assertThat(actual.getBody()).usingRecursiveComparison().isEqualTo(expected);
+    }
+}
@@ -0,0 +1,138 @@
+package com.api.vehicle.controller;
+
+import com.api.vehicle.builder.dto.VehicleDtoBuilder;
+import com.api.vehicle.constants.url.Endpoints;
+import com.api.vehicle.enums.type.EnumVehicleType;
+import com.api.vehicle.exception.details.ExceptionDetails;
+import com.api.vehicle.model.dto.VehicleDto;
+import com.api.vehicle.model.dto.facet.VehicleFacetsDto;
+import com.api.vehicle.model.entity.VehicleEntity;
+import com.api.vehicle.service.facet.VehicleFacetService;
+import jakarta.persistence.Table;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = "vehicle.facets.enabled=true")
+class VehicleFacetITCase {
+
+    private final TestRestTemplate restTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final VehicleFacetService facetService;
+    private final VehicleDtoBuilder dtoBuilder;
+
+    @Autowired
+    VehicleFacetITCase(TestRestTemplate restTemplate, JdbcTemplate jdbcTemplate, VehicleFacetService facetService) {
+        this.restTemplate = restTemplate;
+        this.jdbcTemplate = jdbcTemplate;
+        this.facetService = facetService;
+        this.dtoBuilder = new VehicleDtoBuilder();
+    }
+
+    /**
+     * The table is shared with the other test contexts, so it is emptied and the index built again from it
+     */
+    @BeforeEach
+    void setUp() {
+        this.jdbcTemplate.execute("DELETE FROM " + VehicleEntity.class.getAnnotation(Table.class).name());
+        this.facetService.rebuild();
+    }
+
+    @Test
+    void given_VehiclesInTableBeforeBuild_when_CountFacets_then_Return200AndCountsOfEveryFacet(){
+        this.jdbcTemplate.update("INSERT INTO tb_vehicle (id, brand, model, color, plate, type, version) "
+                + "VALUES (RANDOM_UUID(), 'Honda', 'CG 160', 'Vermelho', 'SQL0001', 2, 0)");
+        this.saveVehicle("Ford", "Preto", EnumVehicleType.CAR);
+        this.facetService.rebuild();
+
+        ResponseEntity<VehicleFacetsDto> response = this.countFacets(UriComponentsBuilder.fromPath(Endpoints.URL_VEHICLE_FACETS));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody().getTotal()).isEqualTo(2);
+        assertThat(response.getBody().getType()).containsOnly(entry(1, 1L), entry(2, 1L));
+        assertThat(response.getBody().getBrand()).containsOnly(entry("Honda", 1L), entry("Ford", 1L));
+        assertThat(response.getBody().getColor()).containsOnly(entry("Vermelho", 1L), entry("Preto", 1L));
+    }
+
+    @Test
+    void given_CombinedFilters_when_CountFacets_then_Return200AndCountOnlyVehiclesMatchingAll(){
+        this.saveVehicle("Honda", "Vermelho", EnumVehicleType.MOTORCYCLE);
+        this.saveVehicle("Honda", "Vermelho", EnumVehicleType.MOTORCYCLE);
+        this.saveVehicle("Honda", "Preto", EnumVehicleType.MOTORCYCLE);
+        this.saveVehicle("Honda", "Vermelho", EnumVehicleType.CAR);
+
+        ResponseEntity<VehicleFacetsDto> response = this.countFacets(UriComponentsBuilder.fromPath(Endpoints.URL_VEHICLE_FACETS)
+                .queryParam("type", EnumVehicleType.MOTORCYCLE.getId())
+                .queryParam("brand", "Honda")
+                .queryParam("color", "Vermelho"));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody().getTotal()).isEqualTo(2);
+        assertThat(response.getBody().getType()).containsOnly(entry(EnumVehicleType.MOTORCYCLE.getId(), 2L));
+    }
+
+    @Test
+    void given_VehicleUpdatedAndDeleted_when_CountFacets_then_CountItWithNewValuesAndThenNotAtAll(){
+        VehicleDto savedVehicle = this.saveVehicle("Fiat", "Branco", EnumVehicleType.CAR);
+
+        savedVehicle.setColor("Azul");
+        this.restTemplate.exchange(Endpoints.VEHICLE, HttpMethod.PUT, new HttpEntity<>(savedVehicle), VehicleDto.class);
+        VehicleFacetsDto updatedFacets = this.countFacets(UriComponentsBuilder.fromPath(Endpoints.URL_VEHICLE_FACETS)).getBody();
+
+        assertThat(updatedFacets.getColor()).containsOnly(entry("Azul", 1L));
+
+        this.restTemplate.delete(Endpoints.URL_REMOVE_VEHICLE, savedVehicle.getId());
+        VehicleFacetsDto deletedFacets = this.countFacets(UriComponentsBuilder.fromPath(Endpoints.URL_VEHICLE_FACETS)).getBody();
+
+        assertThat(deletedFacets.getTotal()).isZero();
+        assertThat(deletedFacets.getColor()).isEmpty();
+    }
+
+    @Test
+    void given_VehiclesSavedInBulk_when_CountFacets_then_CountEveryVehicleCreated(){
+        List<VehicleDto> vehicles = List.of(this.dtoBuilder.getVehicle(EnumVehicleType.BUS),
+                this.dtoBuilder.getVehicle(EnumVehicleType.BUS), this.dtoBuilder.getVehicle(EnumVehicleType.VAN));
+        this.restTemplate.exchange(Endpoints.URL_BULK_VEHICLES, HttpMethod.POST, new HttpEntity<>(vehicles),
+                new ParameterizedTypeReference<List<Object>>() {});
+
+        VehicleFacetsDto facets = this.countFacets(UriComponentsBuilder.fromPath(Endpoints.URL_VEHICLE_FACETS)).getBody();
+
+        assertThat(facets.getTotal()).isEqualTo(3);
+        assertThat(facets.getType()).containsOnly(entry(EnumVehicleType.BUS.getId(), 2L), entry(EnumVehicleType.VAN.getId(), 1L));
+    }
+
+    @Test
+    void given_InvalidType_when_CountFacets_then_Return400AndExceptionDetails(){
+        ResponseEntity<ExceptionDetails> response = this.restTemplate.getForEntity(
+                UriComponentsBuilder.fromPath(Endpoints.URL_VEHICLE_FACETS).queryParam("type", 99).build().toUri(),
+                ExceptionDetails.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(response.getBody()).isNotNull();
+    }
+
+    private VehicleDto saveVehicle(String brand, String color, EnumVehicleType type){
+        VehicleDto vehicle = this.dtoBuilder.getVehicle(type);
+        vehicle.setBrand(brand);
+        vehicle.setColor(color);
+        return this.restTemplate.postForEntity(Endpoints.VEHICLE, vehicle, VehicleDto.class).getBody();
+    }
+
+    private ResponseEntity<VehicleFacetsDto> countFacets(UriComponentsBuilder uri){
+        return this.restTemplate.getForEntity(uri.build().toUri(), VehicleFacetsDto.class);
+    }
+}
@@ -0,0 +1,198 @@
+package com.api.vehicle.controller;
+
+import com.api.vehicle.builder.dto.VehicleDtoBuilder;
+import com.api.vehicle.constants.url.Endpoints;
+import com.api.vehicle.enums.ingestion.EnumIngestionStatus;
+import com.api.vehicle.exception.details.ExceptionDetails;
+import com.api.vehicle.model.dto.VehicleDto;
+import com.api.vehicle.model.dto.ingestion.IngestionStatusDto;
+import com.api.vehicle.model.entity.VehicleEntity;
+import com.api.vehicle.service.ingestion.VehicleIngestionService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.Table;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The journal directory is seeded before the context starts with a vehicle accepted by a previous run
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "vehicle.ingestion.enabled=true",
+        "vehicle.ingestion.flush-interval=20ms"
+})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class VehicleIngestionITCase {
+
+    private static final String JOURNAL_DIRECTORY = "target/ingestion-journal-it";
+
+    private static final long STATUS_TIMEOUT_MILLIS = 10_000;
+    private static final VehicleDto JOURNALED_VEHICLE = new VehicleDtoBuilder().getCarPostDto();
+
+    private final TestRestTemplate restTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final VehicleIngestionService ingestionService;
+    private final VehicleDtoBuilder dtoBuilder;
+
+    @Autowired
+    VehicleIngestionITCase(TestRestTemplate restTemplate, JdbcTemplate jdbcTemplate,
+                           VehicleIngestionService ingestionService) {
+        this.restTemplate = restTemplate;
+        this.jdbcTemplate = jdbcTemplate;
+        this.ingestionService = ingestionService;
+        this.dtoBuilder = new VehicleDtoBuilder();
+    }
+
+    /**
+     * Called while the context is prepared, before the ingestion service replays the journal
+     */
+    @DynamicPropertySource
+    static void seedJournal(DynamicPropertyRegistry registry) throws IOException {
+        Path directory = Path.of(JOURNAL_DIRECTORY);
+        FileSystemUtils.deleteRecursively(directory);
+        Files.createDirectories(directory);
+
+        JOURNALED_VEHICLE.setId(UUID.randomUUID());
+        JOURNALED_VEHICLE.setPlate("JRN0001");
+        Files.writeString(directory.resolve("segment-0000000000000000000.ndjson"),
+                new ObjectMapper().writeValueAsString(JOURNALED_VEHICLE) + "\n");
+        registry.add("vehicle.ingestion.journal-directory", () -> JOURNAL_DIRECTORY);
+    }
+
+    @AfterAll
+    void tearDown() {
+        this.jdbcTemplate.execute("DELETE FROM " + VehicleEntity.class.getAnnotation(Table.class).name());
+    }
+
+    @Test
+    void given_PreferRespondAsync_when_SaveVehicle_then_Return202AndCommitLater(){
+        ResponseEntity<VehicleDto> response = this.restTemplate.postForEntity(Endpoints.VEHICLE,
+                new HttpEntity<>(this.dtoBuilder.getCarPostDto(), preferHeaders("respond-async, wait=5")), VehicleDto.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
+        assertThat(response.getHeaders().getFirst(VehicleIngestionController.PREFERENCE_APPLIED))
+                .isEqualTo(VehicleIngestionController.RESPOND_ASYNC);
+        VehicleDto acceptedVehicle = response.getBody();
+        assertThat(acceptedVehicle).isNotNull();
+        assertThat(acceptedVehicle.getId()).isNotNull();
+        assertThat(response.getHeaders().getLocation()).isNotNull();
+        assertThat(response.getHeaders().getLocation().getPath()).isEqualTo(Endpoints.VEHICLE + Endpoints.INGESTION
+                + "/" + acceptedVehicle.getId());
+
+        this.awaitStatus(acceptedVehicle.getId(), EnumIngestionStatus.COMMITTED);
+        ResponseEntity<VehicleDto> getResponse = this.restTemplate.getForEntity(Endpoints.URL_FIND_VEHICLE,
+                VehicleDto.class, acceptedVehicle.getId());
+        assertThat(getResponse.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(getResponse.getBody()).isNotNull();
+        assertThat(getResponse.getBody().getPlate()).isEqualTo(acceptedVehicle.getPlate());
+    }
+
+    @Test
+    void given_PlateAlreadyRegistered_when_SaveVehicleAsync_then_Return202AndFailOnlyThatVehicle(){
+        VehicleDto registeredVehicle = this.dtoBuilder.getCarPostDto();
+        this.restTemplate.postForEntity(Endpoints.VEHICLE, registeredVehicle, VehicleDto.class);
+        VehicleDto duplicatedVehicle = this.dtoBuilder.getCarPostDto();
+        duplicatedVehicle.setPlate(registeredVehicle.getPlate());
+
+        VehicleDto failedVehicle = this.restTemplate.postForEntity(Endpoints.VEHICLE,
+                new HttpEntity<>(duplicatedVehicle, preferHeaders("respond-async")), VehicleDto.class).getBody();
+        VehicleDto committedVehicle = this.restTemplate.postForEntity(Endpoints.VEHICLE,
+                new HttpEntity<>(this.dtoBuilder.getCarPostDto(), preferHeaders("respond-async")), VehicleDto.class).getBody();
+        assertThat(failedVehicle).isNotNull();
+        assertThat(committedVehicle).isNotNull();
+
+        assertThat(this.awaitStatus(failedVehicle.getId(), EnumIngestionStatus.FAILED).getDetails()).isNotBlank();
+        this.awaitStatus(committedVehicle.getId(), EnumIngestionStatus.COMMITTED);
+    }
+
+    @Test
+    void given_PreferWithoutRespondAsync_when_SaveVehicle_then_Return200AndSavedVehicle(){
+        ResponseEntity<VehicleDto> response = this.restTemplate.postForEntity(Endpoints.VEHICLE,
+                new HttpEntity<>(this.dtoBuilder.getCarPostDto(), preferHeaders("return=minimal")), VehicleDto.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getVersion()).isNull();
+    }
+
+    @Test
+    void given_VehicleJournaledBeforeStart_when_Started_then_ReplayAndCommitIt(){
+        this.awaitStatus(JOURNALED_VEHICLE.getId(), EnumIngestionStatus.COMMITTED);
+    }
+
+    @Test
+    void given_ServiceStoppedAndStartedAgain_when_SaveVehicleAsync_then_Return503WhileStoppedAndCommitItAfter(){
+        this.ingestionService.stop();
+        assertThat(this.ingestionService.isRunning()).isFalse();
+        try{
+            ResponseEntity<ExceptionDetails> stoppedResponse = this.restTemplate.postForEntity(Endpoints.VEHICLE,
+                    new HttpEntity<>(this.dtoBuilder.getCarPostDto(), preferHeaders("respond-async")), ExceptionDetails.class);
+            assertThat(stoppedResponse.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        } finally {
+            this.ingestionService.start();
+        }
+
+        VehicleDto acceptedVehicle = this.restTemplate.postForEntity(Endpoints.VEHICLE,
+                new HttpEntity<>(this.dtoBuilder.getCarPostDto(), preferHeaders("respond-async")), VehicleDto.class).getBody();
+        assertThat(acceptedVehicle).isNotNull();
+
+        this.awaitStatus(acceptedVehicle.getId(), EnumIngestionStatus.COMMITTED);
+        this.awaitStatus(JOURNALED_VEHICLE.getId(), EnumIngestionStatus.COMMITTED);
+    }
+
+    @Test
+    void given_UnknownId_when_GetStatus_then_Return404(){
+        ResponseEntity<ExceptionDetails> response = this.restTemplate.getForEntity(Endpoints.URL_INGESTION_STATUS,
+                ExceptionDetails.class, UUID.randomUUID());
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    }
+
+    private IngestionStatusDto awaitStatus(UUID id, EnumIngestionStatus expected){
+        long deadline = System.currentTimeMillis() + STATUS_TIMEOUT_MILLIS;
+        IngestionStatusDto status;
+        do {
+            status = this.restTemplate.getForEntity(Endpoints.URL_INGESTION_STATUS, IngestionStatusDto.class, id).getBody();
+            assertThat(status).isNotNull();
+            if(status.getStatus() != EnumIngestionStatus.PENDING){
+                break;
+            }
+            sleep();
+        } while (System.currentTimeMillis() < deadline);
+
+        assertThat(status.getStatus()).isEqualTo(expected);
+        return status;
+    }
+
+    private static HttpHeaders preferHeaders(String prefer){
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(VehicleIngestionController.PREFER, prefer);
+        return headers;
+    }
+
+    private static void sleep(){
+        try{
+            Thread.sleep(20);
+        } catch (InterruptedException e){
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.api.vehicle.controller;
+
+import com.api.vehicle.builder.dto.VehicleDtoBuilder;
+import com.api.vehicle.constants.url.Endpoints;
+import com.api.vehicle.model.dto.VehicleDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Metrics export is turned off in tests unless it is asked for, this class asks for it to scrape the Prometheus endpoint
+ */
+@AutoConfigureObservability
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class VehicleMetricsITCase {
+
+    private static final String PROMETHEUS = "/actuator/prometheus";
+
+    private final TestRestTemplate restTemplate;
+    private final VehicleDtoBuilder dtoBuilder;
+
+    @Autowired
+    VehicleMetricsITCase(TestRestTemplate restTemplate) {
+        this.restTemplate = restTemplate;
+        this.dtoBuilder = new VehicleDtoBuilder();
+    }
+
+    @Test
+    void given_VehicleRequests_when_ScrapePrometheus_then_ExposeLayerTimersExceptionCountersAndPoolGauges(){
+        VehicleDto savedVehicle = this.restTemplate.postForEntity(Endpoints.VEHICLE, this.dtoBuilder.getCarPostDto(),
+                VehicleDto.class).getBody();
+        assertThat(savedVehicle).isNotNull();
+        this.restTemplate.getForEntity(Endpoints.URL_FIND_VEHICLE, VehicleDto.class, savedVehicle.getId());
+        this.restTemplate.getForEntity(Endpoints.URL_FIND_VEHICLE, String.class, UUID.randomUUID());
+
+        ResponseEntity<String> response = this.restTemplate.getForEntity(PROMETHEUS, String.class);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody())
+                .containsPattern("http_server_requests_seconds_bucket\\{.*uri=\"/vehicle/\\{id}\".*le=\"0\\.001\"")
+                .containsPattern("spring_data_repository_invocations_seconds_bucket\\{.*method=\"findById\".*repository=\"VehicleRepository\"")
+                .containsPattern("vehicle_service_seconds_count\\{.*class=\"com\\.api\\.vehicle\\.service\\.VehicleServiceImpl\".*method=\"findById\"")
+                .containsPattern("vehicle_exceptions_total\\{exception=\"NotFoundException\",status=\"404\",?} 1\\.0")
+                .contains("hikaricp_connections_pending")
+                .contains("hibernate_query_executions_total")
+                .contains("hibernate_entities_loads_total");
+    }
+}
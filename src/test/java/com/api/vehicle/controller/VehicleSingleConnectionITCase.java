@@ -0,0 +1,68 @@
+package com.api.vehicle.controller;
+
+import com.api.vehicle.builder.dto.VehicleDtoBuilder;
+import com.api.vehicle.constants.url.Endpoints;
+import com.api.vehicle.enums.page.EnumPageTotals;
+import com.api.vehicle.enums.type.EnumVehicleType;
+import com.api.vehicle.model.dto.VehicleDto;
+import com.api.vehicle.model.dto.page.ResponsePageDto;
+import com.api.vehicle.model.entity.VehicleEntity;
+import jakarta.persistence.Table;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * With a single connection in the pool, a request that needs a second connection while it holds the first one
+ * waits for itself until the connection timeout
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.hikari.maximum-pool-size=1",
+        "spring.datasource.hikari.connection-timeout=500"
+})
+class VehicleSingleConnectionITCase {
+
+    private final TestRestTemplate restTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final VehicleDtoBuilder dtoBuilder;
+
+    @Autowired
+    VehicleSingleConnectionITCase(TestRestTemplate restTemplate, JdbcTemplate jdbcTemplate) {
+        this.restTemplate = restTemplate;
+        this.jdbcTemplate = jdbcTemplate;
+        this.dtoBuilder = new VehicleDtoBuilder();
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.jdbcTemplate.execute("DELETE FROM " + VehicleEntity.class.getAnnotation(Table.class).name());
+    }
+
+    @ParameterizedTest
+    @EnumSource(EnumPageTotals.class)
+    void given_SingleConnection_when_ListVehicles_then_Return200AndTotals(EnumPageTotals totals){
+        this.restTemplate.postForEntity(Endpoints.VEHICLE, this.dtoBuilder.getCarPostDto(), VehicleDto.class);
+
+        ResponseEntity<ResponsePageDto<VehicleDto>> allResponse = this.restTemplate.exchange(
+                Endpoints.URL_FIND_ALL_VEHICLES_WITH_TOTALS, HttpMethod.GET, null,
+                new ParameterizedTypeReference<>() {}, 0, 10, totals);
+        ResponseEntity<ResponsePageDto<VehicleDto>> byTypeResponse = this.restTemplate.exchange(
+                Endpoints.URL_FIND_ALL_VEHICLES_BY_TYPE_WITH_TOTALS, HttpMethod.GET, null,
+                new ParameterizedTypeReference<>() {}, EnumVehicleType.CAR.getId(), 0, 10, totals);
+
+        assertThat(allResponse.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(byTypeResponse.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(allResponse.getBody()).isNotNull();
+        assertThat(allResponse.getBody().getListContent()).hasSize(1);
+    }
+}
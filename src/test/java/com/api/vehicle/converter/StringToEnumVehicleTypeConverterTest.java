@@ -1,12 +1,17 @@
 package com.api.vehicle.converter;
 
+import com.api.vehicle.config.properties.VehicleTypeProperties;
 import com.api.vehicle.enums.type.EnumVehicleType;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
 import org.junit.jupiter.params.provider.ValueSource;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.core.convert.ConversionFailedException;
 
+import java.lang.management.ManagementFactory;
+import java.util.EnumSet;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
@@ -17,14 +22,42 @@ class StringToEnumVehicleTypeConverterTest {
     @EnumSource(EnumVehicleType.class)
     void given_ValidVehicleType_when_Convert_then_ReturnVehicleType(EnumVehicleType vehicleType){
         StringToEnumVehicleTypeConverter converter = new StringToEnumVehicleTypeConverter();
-        EnumVehicleType actual = converter.convert(vehicleType.getId().toString());
+        EnumVehicleType actual = converter.convert(String.valueOf(vehicleType.getId()));
         assertThat(actual).isNotNull().isEqualTo(vehicleType);
     }
 
     @ParameterizedTest
-    @ValueSource(strings = {"10", "", " ", "anyText"})
+    @ValueSource(strings = {"10", "", " ", "anyText", "-1", "+1", "9999999999", "0"})
     void given_InvalidVehicleType_when_Convert_then_ThrowsConversionFailedException(String invalidType){
         StringToEnumVehicleTypeConverter converter = new StringToEnumVehicleTypeConverter();
         assertThrows(ConversionFailedException.class, () -> converter.convert(invalidType));
     }
+
+    @Test
+    void given_TypeIsNotEnabled_when_Convert_then_ThrowsConversionFailedException(){
+        VehicleTypeProperties properties = new VehicleTypeProperties();
+        properties.setEnabled(EnumSet.of(EnumVehicleType.CAR, EnumVehicleType.TRUCK));
+        StringToEnumVehicleTypeConverter converter = new StringToEnumVehicleTypeConverter(properties);
+
+        assertThat(converter.convert(String.valueOf(EnumVehicleType.TRUCK.getId()))).isEqualTo(EnumVehicleType.TRUCK);
+        assertThrows(ConversionFailedException.class,
+                () -> converter.convert(String.valueOf(EnumVehicleType.MOTORCYCLE.getId())));
+    }
+
+    @Test
+    void given_ValidVehicleType_when_ConvertManyTimes_then_NothingIsAllocated(){
+        StringToEnumVehicleTypeConverter converter = new StringToEnumVehicleTypeConverter();
+        com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        String source = "2";
+
+        converter.convert(source);
+        long before = threadMXBean.getCurrentThreadAllocatedBytes();
+        for(int i = 0; i < 100_000; i++){
+            converter.convert(source);
+            EnumVehicleType.fromId(i % 2 + 1);
+        }
+        long allocated = threadMXBean.getCurrentThreadAllocatedBytes() - before;
+
+        assertThat(allocated).isLessThan(1_024);
+    }
 }
@@ -0,0 +1,78 @@
+package com.api.vehicle.converter.json;
+
+import com.api.vehicle.builder.dto.VehicleDtoBuilder;
+import com.api.vehicle.enums.type.EnumVehicleType;
+import com.api.vehicle.model.dto.VehicleDto;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledInNativeImage;
+import org.openjdk.jol.info.GraphLayout;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CanonicalStringDeserializerTest {
+
+    private static final int VEHICLES = 1_000;
+    private static final String[] BRANDS = {"Toyota", "Honda", "Volkswagen", "Chevrolet", "Fiat"};
+    private static final String[] COLORS = {"Branco", "Preto", "Prata", "Vermelho"};
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final VehicleDtoBuilder dtoBuilder = new VehicleDtoBuilder();
+
+    @Test
+    void given_EqualValuesInDifferentVehicles_when_Parse_then_ShareOneInstance() throws Exception {
+        //The first and the last vehicles have the same brand, model and color
+        List<VehicleDto> vehicles = this.parse(21);
+        VehicleDto first = vehicles.get(0);
+        VehicleDto last = vehicles.get(20);
+
+        assertThat(first.getBrand()).isEqualTo("Toyota").isSameAs(last.getBrand());
+        assertThat(first.getModel()).isSameAs(last.getModel());
+        assertThat(first.getColor()).isSameAs(last.getColor());
+    }
+
+    /**
+     * Retained size of the parsed page, walked by JOL, against the same page with a copy of each string per vehicle
+     * as parsed without the dictionary. JOL walks the object graph through reflection and the layout of a HotSpot
+     * heap, not available in a native image
+     */
+    @Test
+    @DisabledInNativeImage
+    void given_PageOfVehicles_when_Parse_then_RetainAtLeastAQuarterLessHeapThanOneCopyPerVehicle() throws Exception {
+        List<VehicleDto> canonicalVehicles = this.parse(VEHICLES);
+        List<VehicleDto> copiedVehicles = canonicalVehicles.stream()
+                .<VehicleDto>map(vehicle -> VehicleDto.builder()
+                        .id(vehicle.getId())
+                        .brand(new String(vehicle.getBrand()))
+                        .model(new String(vehicle.getModel()))
+                        .color(new String(vehicle.getColor()))
+                        .plate(vehicle.getPlate())
+                        .type(vehicle.getType())
+                        .build())
+                .toList();
+
+        long canonicalBytes = GraphLayout.parseInstance(canonicalVehicles).totalSize();
+        long copiedBytes = GraphLayout.parseInstance(copiedVehicles).totalSize();
+
+        assertThat(canonicalBytes).isLessThan(copiedBytes * 3 / 4);
+    }
+
+    private List<VehicleDto> parse(int count) throws Exception {
+        List<VehicleDto> vehicles = new ArrayList<>(count);
+        for(int i = 0; i < count; i++){
+            VehicleDto vehicle = this.dtoBuilder.getCarDto(UUID.randomUUID());
+            vehicle.setBrand(BRANDS[i % BRANDS.length]);
+            vehicle.setModel("Modelo " + i % 10);
+            vehicle.setColor(COLORS[i % COLORS.length]);
+            vehicle.setPlate(String.format("ABC%04d", i));
+            vehicle.setType(EnumVehicleType.CAR.getId());
+            vehicles.add(vehicle);
+        }
+        return this.objectMapper.readValue(this.objectMapper.writeValueAsBytes(vehicles), new TypeReference<>() {});
+    }
+}
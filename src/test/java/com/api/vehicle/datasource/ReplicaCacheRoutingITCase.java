@@ -0,0 +1,125 @@
+package com.api.vehicle.datasource;
+
+import com.api.vehicle.builder.dto.VehicleDtoBuilder;
+import com.api.vehicle.constants.url.Endpoints;
+import com.api.vehicle.enums.type.EnumVehicleType;
+import com.api.vehicle.model.dto.VehicleDto;
+import com.api.vehicle.model.dto.page.ResponsePageDto;
+import com.api.vehicle.model.entity.VehicleEntity;
+import jakarta.persistence.Table;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The vehicle and query caches on top of two H2 databases without replication between them, the replica stands for
+ * one that has not applied the last write yet. The stickiness is left at zero, so only the cache loading reads
+ * are sent to the primary.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "vehicle.replicas.enabled=true",
+        "vehicle.replicas.urls=" + ReplicaCacheRoutingITCase.REPLICA_URL,
+        "vehicle.cache.enabled=true",
+        "vehicle.hibernate-cache.enabled=true"
+})
+class ReplicaCacheRoutingITCase {
+
+    static final String REPLICA_URL = "jdbc:h2:mem:vehicle-cache-replica;DB_CLOSE_DELAY=-1;MODE=PostgreSQL";
+
+    private static final String TABLE = VehicleEntity.class.getAnnotation(Table.class).name();
+    private static final String INSERT = "INSERT INTO " + TABLE + " (id, brand, model, color, plate, type, version) "
+            + "VALUES (?, ?, ?, ?, ?, ?, 0)";
+    private static JdbcTemplate REPLICA;
+
+    private final TestRestTemplate restTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final VehicleDtoBuilder dtoBuilder;
+
+    @Autowired
+    ReplicaCacheRoutingITCase(TestRestTemplate restTemplate, JdbcTemplate jdbcTemplate) {
+        this.restTemplate = restTemplate;
+        this.jdbcTemplate = jdbcTemplate;
+        this.dtoBuilder = new VehicleDtoBuilder();
+    }
+
+    @BeforeAll
+    static void setUp(){
+        REPLICA = new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "usertest", "testpassword"));
+        REPLICA.execute("CREATE TABLE IF NOT EXISTS " + TABLE + " (id UUID PRIMARY KEY, brand VARCHAR(255) NOT NULL, "
+                + "model VARCHAR(255) NOT NULL, color VARCHAR(255) NOT NULL, plate VARCHAR(7) NOT NULL UNIQUE, "
+                + "type INT NOT NULL, version BIGINT DEFAULT 0 NOT NULL)");
+    }
+
+    @AfterEach
+    void tearDown(){
+        this.jdbcTemplate.execute("DELETE FROM " + TABLE);
+        REPLICA.execute("DELETE FROM " + TABLE);
+    }
+
+    @Test
+    void given_VehicleUpdatedOnPrimary_when_FindVehicleBeforeReplication_then_CacheUpdatedVehicle(){
+        VehicleDto vehicle = this.dtoBuilder.getCarDto(UUID.randomUUID());
+        String replicaColor = vehicle.getColor();
+        for(JdbcTemplate database : new JdbcTemplate[]{this.jdbcTemplate, REPLICA}){
+            database.update(INSERT, vehicle.getId(), vehicle.getBrand(), vehicle.getModel(), vehicle.getColor(),
+                    vehicle.getPlate(), vehicle.getType());
+        }
+        vehicle.setColor("Azul");
+        ResponseEntity<VehicleDto> putResponse = this.restTemplate.exchange(Endpoints.VEHICLE, HttpMethod.PUT,
+                new HttpEntity<>(vehicle), VehicleDto.class);
+        assertThat(putResponse.getStatusCode()).isEqualTo(HttpStatus.OK);
+
+        VehicleDto firstRead = this.restTemplate.getForObject(Endpoints.URL_FIND_VEHICLE, VehicleDto.class, vehicle.getId());
+        VehicleDto secondRead = this.restTemplate.getForObject(Endpoints.URL_FIND_VEHICLE, VehicleDto.class, vehicle.getId());
+        VehicleDto plateRead = this.restTemplate.getForObject(Endpoints.URL_FIND_VEHICLE_BY_PLATE, VehicleDto.class,
+                vehicle.getPlate());
+
+        assertThat(firstRead).isNotNull();
+        assertThat(firstRead.getColor()).isEqualTo("Azul");
+        assertThat(secondRead).isEqualTo(firstRead);
+        assertThat(plateRead).isNotNull();
+        assertThat(plateRead.getColor()).isEqualTo("Azul");
+        assertThat(REPLICA.queryForObject("SELECT color FROM " + TABLE, String.class)).isEqualTo(replicaColor);
+    }
+
+    @Test
+    void given_VehicleSavedOnPrimary_when_ListTypeBeforeReplication_then_CacheListingWithVehicle(){
+        ResponseEntity<VehicleDto> postResponse = this.restTemplate.postForEntity(Endpoints.VEHICLE,
+                this.dtoBuilder.getCarPostDto(), VehicleDto.class);
+        assertThat(postResponse.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(postResponse.getBody()).isNotNull();
+
+        ResponsePageDto<VehicleDto> firstListing = this.listVehicles(Endpoints.URL_FIND_ALL_VEHICLES_BY_TYPE,
+                EnumVehicleType.CAR.getId(), 0, 10);
+        ResponsePageDto<VehicleDto> secondListing = this.listVehicles(Endpoints.URL_FIND_ALL_VEHICLES_BY_TYPE,
+                EnumVehicleType.CAR.getId(), 0, 10);
+        ResponsePageDto<VehicleDto> uncachedListing = this.listVehicles(Endpoints.URL_FIND_ALL_VEHICLES, 0, 10);
+
+        assertThat(firstListing.getListContent()).extracting(VehicleDto::getId)
+                .containsExactly(postResponse.getBody().getId());
+        assertThat(secondListing).isEqualTo(firstListing);
+        assertThat(uncachedListing.getListContent()).isNullOrEmpty();
+    }
+
+    private ResponsePageDto<VehicleDto> listVehicles(String url, Object... params){
+        ResponseEntity<ResponsePageDto<VehicleDto>> response = this.restTemplate.exchange(url, HttpMethod.GET, null,
+                new ParameterizedTypeReference<>() {}, params);
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isNotNull();
+        return response.getBody();
+    }
+}
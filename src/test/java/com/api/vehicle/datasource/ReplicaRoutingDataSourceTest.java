@@ -0,0 +1,97 @@
+package com.api.vehicle.datasource;
+
+import com.api.vehicle.enums.datasource.EnumReplicaSelection;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReplicaRoutingDataSourceTest {
+
+    private ReplicaRoutingDataSource routingDataSource;
+
+    @AfterEach
+    void tearDown(){
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        if(TransactionSynchronizationManager.isSynchronizationActive()){
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        this.routingDataSource.close();
+    }
+
+    @Test
+    void should_UsePrimary_When_TransactionMayWrite(){
+        this.routingDataSource = routing(2, EnumReplicaSelection.ROUND_ROBIN, Duration.ZERO);
+
+        assertThat(this.routingDataSource.determineCurrentLookupKey()).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+    }
+
+    @Test
+    void should_UseEachReplicaInTurn_When_TransactionIsReadOnlyAndSelectionIsRoundRobin(){
+        this.routingDataSource = routing(2, EnumReplicaSelection.ROUND_ROBIN, Duration.ZERO);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        List<Object> keys = new ArrayList<>();
+        for(int i = 0; i < 4; i++){
+            keys.add(this.routingDataSource.determineCurrentLookupKey());
+        }
+
+        assertThat(keys).containsExactly(0, 1, 0, 1);
+    }
+
+    @Test
+    void should_UseIdleReplica_When_TransactionIsReadOnlyAndSelectionIsLeastConnections() throws Exception {
+        this.routingDataSource = routing(2, EnumReplicaSelection.LEAST_CONNECTIONS, Duration.ZERO);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        //Both replicas are idle, the first one in turn gets the connection
+        try (Connection ignored = this.routingDataSource.getConnection()){
+            List<Object> keys = new ArrayList<>();
+            for(int i = 0; i < 4; i++){
+                keys.add(this.routingDataSource.determineCurrentLookupKey());
+            }
+
+            assertThat(keys).containsOnly(1);
+        }
+    }
+
+    @Test
+    void should_UsePrimaryForReads_When_WriteCommittedWithinStickiness(){
+        this.routingDataSource = routing(1, EnumReplicaSelection.ROUND_ROBIN, Duration.ofMinutes(1));
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.initSynchronization();
+
+        assertThat(this.routingDataSource.determineCurrentLookupKey()).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertThat(this.routingDataSource.determineCurrentLookupKey()).isEqualTo(0);
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertThat(this.routingDataSource.determineCurrentLookupKey()).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+    }
+
+    private static ReplicaRoutingDataSource routing(int replicas, EnumReplicaSelection selection, Duration stickiness){
+        List<HikariDataSource> replicaPools = new ArrayList<>();
+        for(int index = 0; index < replicas; index++){
+            replicaPools.add(pool("routing-replica-" + index));
+        }
+        return new ReplicaRoutingDataSource(pool("routing-primary"), replicaPools, selection, stickiness);
+    }
+
+    private static HikariDataSource pool(String database){
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:h2:mem:" + database);
+        dataSource.setMinimumIdle(0);
+        dataSource.setMaximumPoolSize(2);
+        return dataSource;
+    }
+}
@@ -0,0 +1,117 @@
+package com.api.vehicle.datasource;
+
+import com.api.vehicle.builder.dto.VehicleDtoBuilder;
+import com.api.vehicle.constants.url.Endpoints;
+import com.api.vehicle.enums.page.EnumPageTotals;
+import com.api.vehicle.exception.details.ExceptionDetails;
+import com.api.vehicle.model.dto.VehicleDto;
+import com.api.vehicle.model.dto.page.ResponsePageDto;
+import com.api.vehicle.model.entity.VehicleEntity;
+import jakarta.persistence.Table;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs against two H2 databases without replication between them, so where a vehicle is found tells which
+ * database served the request.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "vehicle.replicas.enabled=true",
+        "vehicle.replicas.urls=" + ReplicaRoutingITCase.REPLICA_URL
+})
+class ReplicaRoutingITCase {
+
+    static final String REPLICA_URL = "jdbc:h2:mem:vehicle-replica;DB_CLOSE_DELAY=-1;MODE=PostgreSQL";
+
+    private static final String TABLE = VehicleEntity.class.getAnnotation(Table.class).name();
+    private static JdbcTemplate REPLICA;
+
+    private final TestRestTemplate restTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final VehicleDtoBuilder dtoBuilder;
+
+    @Autowired
+    ReplicaRoutingITCase(TestRestTemplate restTemplate, JdbcTemplate jdbcTemplate) {
+        this.restTemplate = restTemplate;
+        this.jdbcTemplate = jdbcTemplate;
+        this.dtoBuilder = new VehicleDtoBuilder();
+    }
+
+    @BeforeAll
+    static void setUp(){
+        REPLICA = new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "usertest", "testpassword"));
+        REPLICA.execute("CREATE TABLE IF NOT EXISTS " + TABLE + " (id UUID PRIMARY KEY, brand VARCHAR(255) NOT NULL, "
+                + "model VARCHAR(255) NOT NULL, color VARCHAR(255) NOT NULL, plate VARCHAR(7) NOT NULL UNIQUE, "
+                + "type INT NOT NULL, version BIGINT DEFAULT 0 NOT NULL)");
+    }
+
+    @AfterEach
+    void tearDown(){
+        this.jdbcTemplate.execute("DELETE FROM " + TABLE);
+        REPLICA.execute("DELETE FROM " + TABLE);
+    }
+
+    @Test
+    void given_VehicleOnlyOnReplica_when_FindAndUpdateVehicle_then_FindOnReplicaAndUpdateOnPrimary(){
+        VehicleDto replicaVehicle = this.dtoBuilder.getCarDto(UUID.randomUUID());
+        REPLICA.update("INSERT INTO " + TABLE + " (id, brand, model, color, plate, type) VALUES (?, ?, ?, ?, ?, ?)",
+                replicaVehicle.getId(), replicaVehicle.getBrand(), replicaVehicle.getModel(), replicaVehicle.getColor(),
+                replicaVehicle.getPlate(), replicaVehicle.getType());
+
+        ResponseEntity<VehicleDto> getResponse = this.restTemplate.getForEntity(Endpoints.URL_FIND_VEHICLE,
+                VehicleDto.class, replicaVehicle.getId());
+        ResponseEntity<ExceptionDetails> putResponse = this.restTemplate.exchange(Endpoints.VEHICLE, HttpMethod.PUT,
+                new HttpEntity<>(replicaVehicle), ExceptionDetails.class);
+
+        assertThat(getResponse.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(getResponse.getBody()).isNotNull();
+        assertThat(getResponse.getBody().getPlate()).isEqualTo(replicaVehicle.getPlate());
+        assertThat(putResponse.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    }
+
+    @Test
+    void given_VehicleSavedOnPrimary_when_FindVehicleBeforeReplication_then_Return404(){
+        ResponseEntity<VehicleDto> postResponse = this.restTemplate.postForEntity(Endpoints.VEHICLE,
+                this.dtoBuilder.getCarPostDto(), VehicleDto.class);
+        assertThat(postResponse.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(postResponse.getBody()).isNotNull();
+
+        ResponseEntity<ExceptionDetails> getResponse = this.restTemplate.getForEntity(Endpoints.URL_FIND_VEHICLE,
+                ExceptionDetails.class, postResponse.getBody().getId());
+
+        assertThat(getResponse.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+        assertThat(this.jdbcTemplate.queryForObject("SELECT count(*) FROM " + TABLE, Long.class)).isOne();
+    }
+
+    @Test
+    void given_VehicleOnlyOnReplica_when_ListVehiclesWithEstimatedTotals_then_PageAndEstimateFromReplica(){
+        VehicleDto replicaVehicle = this.dtoBuilder.getCarDto(UUID.randomUUID());
+        REPLICA.update("INSERT INTO " + TABLE + " (id, brand, model, color, plate, type) VALUES (?, ?, ?, ?, ?, ?)",
+                replicaVehicle.getId(), replicaVehicle.getBrand(), replicaVehicle.getModel(), replicaVehicle.getColor(),
+                replicaVehicle.getPlate(), replicaVehicle.getType());
+
+        ResponseEntity<ResponsePageDto<VehicleDto>> response = this.restTemplate.exchange(
+                Endpoints.URL_FIND_ALL_VEHICLES_WITH_TOTALS, HttpMethod.GET, null,
+                new ParameterizedTypeReference<>() {}, 0, 10, EnumPageTotals.ESTIMATED);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getListContent()).extracting(VehicleDto::getId).containsExactly(replicaVehicle.getId());
+        assertThat(response.getBody().getTotalItems()).isOne();
+    }
+}
@@ -0,0 +1,83 @@
+package com.api.vehicle.filter;
+
+import com.api.vehicle.config.properties.ConcurrencyProperties;
+import com.api.vehicle.exception.details.ExceptionDetails;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConcurrencyLimitFilterTest {
+
+    private ObjectMapper objectMapper;
+    private ConcurrencyLimitFilter filter;
+
+    @BeforeEach
+    void setUp(){
+        ConcurrencyProperties properties = new ConcurrencyProperties();
+        properties.setMaxInFlight(1);
+        properties.setAcquireTimeout(Duration.ofMillis(10));
+
+        this.objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        this.filter = new ConcurrencyLimitFilter(properties, this.objectMapper);
+    }
+
+    @Test
+    void should_PassRequestThrough_When_ThereIsAFreeSlot() throws Exception {
+        MockFilterChain chain = new MockFilterChain();
+
+        this.filter.doFilter(new MockHttpServletRequest(), new MockHttpServletResponse(), chain);
+
+        assertThat(chain.getRequest()).isNotNull();
+    }
+
+    @Test
+    void should_Return503_When_AllSlotsAreTakenUntilTimeout() throws Exception {
+        MockHttpServletResponse rejectedResponse = new MockHttpServletResponse();
+
+        this.filter.doFilter(new MockHttpServletRequest(), new MockHttpServletResponse(),
+                (request, response) -> this.filter.doFilter(new MockHttpServletRequest(), rejectedResponse, new MockFilterChain()));
+
+        assertThat(rejectedResponse.getStatus()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE.value());
+        assertThat(rejectedResponse.getHeader(HttpHeaders.RETRY_AFTER)).isNotNull();
+        assertThat(this.objectMapper.readValue(rejectedResponse.getContentAsByteArray(), ExceptionDetails.class).getStatus())
+                .isEqualTo(HttpStatus.SERVICE_UNAVAILABLE.value());
+    }
+
+    @Test
+    void should_ReleaseSlot_When_RequestFinishes() throws Exception {
+        this.filter.doFilter(new MockHttpServletRequest(), new MockHttpServletResponse(), new MockFilterChain());
+        MockFilterChain chain = new MockFilterChain();
+
+        this.filter.doFilter(new MockHttpServletRequest(), new MockHttpServletResponse(), chain);
+
+        assertThat(chain.getRequest()).isNotNull();
+    }
+
+    @Test
+    void should_KeepSlotUntilAsyncCompletes_When_RequestStartsAsync() throws Exception {
+        MockHttpServletRequest asyncRequest = new MockHttpServletRequest();
+        asyncRequest.setAsyncSupported(true);
+        this.filter.doFilter(asyncRequest, new MockHttpServletResponse(),
+                (request, response) -> request.startAsync());
+
+        MockHttpServletResponse rejectedResponse = new MockHttpServletResponse();
+        this.filter.doFilter(new MockHttpServletRequest(), rejectedResponse, new MockFilterChain());
+        assertThat(rejectedResponse.getStatus()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE.value());
+
+        asyncRequest.getAsyncContext().complete();
+        MockFilterChain chain = new MockFilterChain();
+        this.filter.doFilter(new MockHttpServletRequest(), new MockHttpServletResponse(), chain);
+
+        assertThat(chain.getRequest()).isNotNull();
+    }
+}
@@ -0,0 +1,22 @@
+package com.api.vehicle.filter;
+
+import org.springframework.http.ResponseEntity;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Pins the number of SQL statements an endpoint runs, so an N+1 or an extra round trip fails the build.
+ * Reads the header that {@link QueryCountFilter} sends with {@code vehicle.query-count.headers}, enabled in tests.
+ */
+public final class QueryCountAssertions {
+
+    private QueryCountAssertions() {
+    }
+
+    public static void assertQueryCount(ResponseEntity<?> response, int expected){
+        String queryCount = response.getHeaders().getFirst(QueryCountFilter.QUERY_COUNT_HEADER);
+
+        assertThat(queryCount).as("%s header", QueryCountFilter.QUERY_COUNT_HEADER).isNotNull();
+        assertThat(Integer.parseInt(queryCount)).as("SQL statements run by the request").isEqualTo(expected);
+    }
+}
@@ -0,0 +1,86 @@
+package com.api.vehicle.filter;
+
+import com.api.vehicle.config.DataSourceProxyConfig;
+import com.api.vehicle.config.properties.QueryCountProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServletResponse;
+import net.ttddyy.dsproxy.QueryCount;
+import net.ttddyy.dsproxy.QueryCountHolder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QueryCountFilterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private QueryCountProperties properties;
+
+    @BeforeEach
+    void setUp(){
+        this.meterRegistry = new SimpleMeterRegistry();
+        this.properties = new QueryCountProperties();
+        this.properties.setHeaders(true);
+    }
+
+    @Test
+    void should_SendCountBeforeBody_When_RequestWritesBodyAfterRunningStatements() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/vehicle/1");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/vehicle/{id}");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        new QueryCountFilter(this.meterRegistry, this.properties).doFilter(request, response, (req, res) -> {
+            runStatements(2);
+            res.getOutputStream().write('{');
+            res.flushBuffer();
+            runStatements(1);
+        });
+
+        assertThat(response.getHeader(QueryCountFilter.QUERY_COUNT_HEADER)).isEqualTo("2");
+        assertThat(this.meterRegistry.get("vehicle.request.queries").tag("uri", "/vehicle/{id}").summary().totalAmount())
+                .isEqualTo(3);
+        assertThat(QueryCountHolder.getGrandTotal().getTotal()).isZero();
+    }
+
+    @Test
+    void should_SendCount_When_ResponseHasNoBody() throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        new QueryCountFilter(this.meterRegistry, this.properties).doFilter(new MockHttpServletRequest(), response,
+                (req, res) -> {
+                    runStatements(1);
+                    ((HttpServletResponse) res).setStatus(HttpStatus.NO_CONTENT.value());
+                });
+
+        assertThat(response.getHeader(QueryCountFilter.QUERY_COUNT_HEADER)).isEqualTo("1");
+        assertThat(response.getHeader(QueryCountFilter.QUERY_TIME_HEADER)).isNotNull();
+    }
+
+    @Test
+    void should_OnlyRecordMetrics_When_HeadersAreDisabled() throws Exception {
+        this.properties.setHeaders(false);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        new QueryCountFilter(this.meterRegistry, this.properties).doFilter(new MockHttpServletRequest(), response,
+                (req, res) -> runStatements(4));
+
+        assertThat(response.getHeader(QueryCountFilter.QUERY_COUNT_HEADER)).isNull();
+        assertThat(this.meterRegistry.get("vehicle.request.queries").tag("uri", "UNKNOWN").summary().totalAmount())
+                .isEqualTo(4);
+    }
+
+    private static void runStatements(int statements){
+        QueryCount queryCount = QueryCountHolder.get(DataSourceProxyConfig.DATA_SOURCE_NAME);
+        if(queryCount == null){
+            queryCount = new QueryCount();
+            QueryCountHolder.put(DataSourceProxyConfig.DATA_SOURCE_NAME, queryCount);
+        }
+        for(int i = 0; i < statements; i++){
+            queryCount.incrementTotal();
+        }
+    }
+}
@@ -50,10 +50,10 @@ class VehiclePageMapperTest {
                 .totalPages(2)
                 .listContent(expectedList).build();
 
-        Page<VehicleEntity> pageEntity = new PageImpl<>(List.of(firstEntity, secondEntity, thirdEntity),
+        Page<VehicleDto> pageDto = new PageImpl<>(expectedList,
                 PageRequest.of(expected.getCurrentPage(), expected.getPageSize()), expected.getTotalItems());
 
-        ResponsePageDto<VehicleDto> actual = this.mapper.pageEntityToPageDto(pageEntity);
+        ResponsePageDto<VehicleDto> actual = this.mapper.pageEntityToPageDto(pageDto);
         assertThat(actual).isNotNull().usingRecursiveComparison().isEqualTo(expected);
     }
 }
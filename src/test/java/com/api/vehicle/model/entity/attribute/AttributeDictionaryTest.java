@@ -0,0 +1,39 @@
+package com.api.vehicle.model.entity.attribute;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AttributeDictionaryTest {
+
+    @Test
+    void given_EqualValues_when_Canonical_then_ReturnFirstInstance(){
+        String first = new String("Lada");
+
+        assertThat(AttributeDictionary.canonical(first)).isSameAs(first);
+        assertThat(AttributeDictionary.canonical(new String("Lada"))).isSameAs(first);
+        assertThat(AttributeDictionary.canonical(null)).isNull();
+    }
+
+    /**
+     * Twice as many distinct values as the dictionary holds, as junk sent in request bodies would be, while a real
+     * value keeps being read
+     */
+    @Test
+    void given_DictionaryFloodedWithDistinctValues_when_Canonical_then_KeepValuesInUseAndAcceptNewOnes(){
+        String inUse = new String("Troller");
+        AttributeDictionary.canonical(inUse);
+
+        for(int i = 0; i < 2 * AttributeDictionary.MAXIMUM_SIZE; i++){
+            AttributeDictionary.canonical("junk-" + i);
+            if(i % 100 == 0){
+                AttributeDictionary.canonical(new String("Troller"));
+            }
+        }
+
+        assertThat(AttributeDictionary.canonical(new String("Troller"))).isSameAs(inUse);
+        String seenAfterFlood = new String("Gurgel");
+        assertThat(AttributeDictionary.canonical(seenAfterFlood)).isSameAs(seenAfterFlood);
+        assertThat(AttributeDictionary.canonical(new String("Gurgel"))).isSameAs(seenAfterFlood);
+    }
+}
@@ -0,0 +1,37 @@
+package com.api.vehicle.model.entity.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UuidV7Test {
+
+    @Test
+    void should_HaveVersion7AndRfcVariant_When_Generate(){
+        UUID actual = UuidV7.generate();
+
+        assertThat(actual.version()).isEqualTo(7);
+        assertThat(actual.variant()).isEqualTo(2);
+    }
+
+    @Test
+    void should_EncodeCurrentTime_When_Generate(){
+        long before = System.currentTimeMillis();
+        UUID actual = UuidV7.generate();
+
+        assertThat(actual.getMostSignificantBits() >>> 16).isBetween(before, System.currentTimeMillis() + 1);
+    }
+
+    @Test
+    void should_BeStrictlyIncreasing_When_GenerateManyInTheSameMillisecond(){
+        UUID previous = UuidV7.generate();
+
+        for(int i = 0; i < 100_000; i++){
+            UUID next = UuidV7.generate();
+            assertThat(Long.compareUnsigned(next.getMostSignificantBits(), previous.getMostSignificantBits())).isPositive();
+            previous = next;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.api.vehicle.model.entity.plate;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PlateNormalizerTest {
+
+    @ParameterizedTest
+    @ValueSource(strings = {"ABC1234", "abc1234", "ABC-1234", "abc 1234", " Abc.1234 "})
+    void should_ReturnUppercaseWithoutSeparators_When_Normalize(String plate){
+        assertThat(PlateNormalizer.normalize(plate)).isEqualTo("ABC1234");
+    }
+
+    @Test
+    void should_KeepMercosulPlate_When_Normalize(){
+        assertThat(PlateNormalizer.normalize("bra2e19")).isEqualTo("BRA2E19");
+    }
+
+    @Test
+    void should_ReturnNull_When_PlateIsNull(){
+        assertThat(PlateNormalizer.normalize(null)).isNull();
+    }
+}
@@ -0,0 +1,104 @@
+package com.api.vehicle.repository;
+
+import com.api.vehicle.model.entity.VehicleEntity;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+
+/**
+ * Runs db/normalize-plates-postgresql.sql on a tb_vehicle shaped as before the plates were normalized, without the
+ * version column, in a schema of its own. Needs a PostgreSQL database:
+ * <pre>
+ * mvn test -Dtest=NormalizePlatesScriptITCase -Dtest.postgres.url=jdbc:postgresql://localhost:5432/test \
+ *     -Dtest.postgres.username=admin -Dtest.postgres.password=secret
+ * </pre>
+ */
+@EnabledIfSystemProperty(named = "test.postgres.url", matches = ".+")
+class NormalizePlatesScriptITCase {
+
+    private static final String SCRIPT = "db/normalize-plates-postgresql.sql";
+
+    private static final UUID LOWERCASE_ID = UUID.fromString("00000000-0000-0000-0000-000000000001");
+    private static final UUID NORMALIZED_ID = UUID.fromString("00000000-0000-0000-0000-000000000002");
+    private static final UUID SEPARATOR_ID = UUID.fromString("00000000-0000-0000-0000-000000000003");
+    private static final UUID UNTOUCHED_ID = UUID.fromString("00000000-0000-0000-0000-000000000004");
+
+    private SingleConnectionDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private String schema;
+
+    @BeforeEach
+    void setUp(){
+        this.dataSource = new SingleConnectionDataSource(System.getProperty("test.postgres.url"),
+                System.getProperty("test.postgres.username"), System.getProperty("test.postgres.password"), true);
+        this.jdbcTemplate = new JdbcTemplate(this.dataSource);
+        this.schema = "plate_script_" + UUID.randomUUID().toString().replace("-", "");
+
+        this.jdbcTemplate.execute("CREATE SCHEMA " + this.schema);
+        this.jdbcTemplate.execute("SET search_path TO " + this.schema);
+        this.jdbcTemplate.execute("CREATE TABLE tb_vehicle (id uuid PRIMARY KEY, brand varchar(255) NOT NULL, "
+                + "model varchar(255) NOT NULL, color varchar(255) NOT NULL, plate varchar(7) NOT NULL, "
+                + "type integer NOT NULL)");
+        this.insert(LOWERCASE_ID, "abc1234");
+        this.insert(NORMALIZED_ID, "ABC1234");
+        this.insert(SEPARATOR_ID, "def-123");
+        this.insert(UNTOUCHED_ID, "GHI1234");
+    }
+
+    @AfterEach
+    void tearDown(){
+        this.jdbcTemplate.execute("DROP SCHEMA " + this.schema + " CASCADE");
+        this.dataSource.destroy();
+    }
+
+    @Test
+    void given_TableWithoutVersionAndDuplicatePlates_when_RunScript_then_PlatesNormalizedAndDuplicatesMoved() throws SQLException {
+        this.runScript();
+
+        List<Map<String, Object>> vehicles = this.jdbcTemplate.queryForList(
+                "SELECT id, plate, version FROM tb_vehicle ORDER BY id");
+        assertThat(vehicles).containsExactly(
+                Map.of("id", NORMALIZED_ID, "plate", "ABC1234", "version", 0L),
+                Map.of("id", SEPARATOR_ID, "plate", "DEF123", "version", 1L),
+                Map.of("id", UNTOUCHED_ID, "plate", "GHI1234", "version", 0L));
+        assertThat(this.jdbcTemplate.queryForList("SELECT id FROM tb_vehicle_plate_duplicate", UUID.class))
+                .containsExactly(LOWERCASE_ID);
+
+        assertThatNoException().isThrownBy(() -> this.jdbcTemplate.execute(
+                "ALTER TABLE tb_vehicle ADD CONSTRAINT " + VehicleEntity.UK_PLATE + " UNIQUE (plate)"));
+    }
+
+    @Test
+    void given_ScriptAlreadyRun_when_RunScriptAgain_then_NothingChanges() throws SQLException {
+        this.runScript();
+        List<Map<String, Object>> migrated = this.jdbcTemplate.queryForList("SELECT * FROM tb_vehicle ORDER BY id");
+
+        this.runScript();
+
+        assertThat(this.jdbcTemplate.queryForList("SELECT * FROM tb_vehicle ORDER BY id")).isEqualTo(migrated);
+        assertThat(this.jdbcTemplate.queryForObject("SELECT count(*) FROM tb_vehicle_plate_duplicate", Integer.class))
+                .isOne();
+    }
+
+    private void insert(UUID id, String plate){
+        this.jdbcTemplate.update("INSERT INTO tb_vehicle (id, brand, model, color, plate, type) "
+                + "VALUES (?, 'Ford', 'Fiesta', 'Prata', ?, 1)", id, plate);
+    }
+
+    private void runScript() throws SQLException {
+        ScriptUtils.executeSqlScript(this.dataSource.getConnection(), new ClassPathResource(SCRIPT));
+    }
+}
@@ -1,15 +1,26 @@
 package com.api.vehicle.repository;
 
+import com.api.vehicle.model.dto.VehicleDto;
 import com.api.vehicle.model.entity.VehicleEntity;
+import com.api.vehicle.model.entity.attribute.AttributeDictionary;
+import com.api.vehicle.repository.specification.VehicleSpecifications;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.annotation.Rollback;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
@@ -18,10 +29,14 @@ import static org.junit.jupiter.api.Assertions.*;
 class VehicleRepositoryITCase {
 
     private final VehicleRepository repository;
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
 
     @Autowired
-    public VehicleRepositoryITCase(VehicleRepository repository){
+    public VehicleRepositoryITCase(VehicleRepository repository, JdbcTemplate jdbcTemplate, EntityManager entityManager){
         this.repository = repository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManager = entityManager;
     }
 
     @Transactional
@@ -39,6 +54,23 @@ class VehicleRepositoryITCase {
         VehicleEntity entityActual = this.repository.save(entityExpected);
         assertNotNull(entityActual);
         assertThat(entityActual).isEqualTo(entityExpected);
+        assertThat(entityActual.getId().version()).isEqualTo(7);
+    }
+
+    @Transactional
+    @Rollback
+    @Test
+    void should_ReturnOnlyTheSavedIds_When_FindExistingIds(){
+        VehicleEntity savedEntity = this.repository.saveAndFlush(VehicleEntity.builder()
+                .brand("Ford")
+                .model("Fiesta")
+                .color("Prata")
+                .plate("ABC-1234")
+                .type(1)
+                .build());
+
+        assertThat(this.repository.findExistingIds(List.of(savedEntity.getId(), UUID.randomUUID())))
+                .containsExactly(savedEntity.getId());
     }
 
     @Transactional
@@ -61,6 +93,7 @@ class VehicleRepositoryITCase {
                 .color("Preto")
                 .plate("ABC-1235")
                 .type(1)
+                .version(entitySaved.getVersion())
                 .build();
 
         VehicleEntity entityActual = this.repository.save(entityExpected);
@@ -145,6 +178,82 @@ class VehicleRepositoryITCase {
         assertThat(actual.getContent()).containsExactlyInAnyOrder(firstEntitySaved, secondEntitySaved);
     }
 
+    @Transactional
+    @Rollback
+    @Test
+    void given_VehiclesExistInDatabase_when_FindPageOfProjections_then_ReturnDtosWithAllFieldsAndTotals(){
+        VehicleEntity firstEntitySaved = VehicleEntity.builder()
+                .brand("Ford")
+                .model("Fiesta")
+                .color("Prata")
+                .plate("ABC1234")
+                .type(1)
+                .build();
+
+        VehicleEntity secondEntitySaved = VehicleEntity.builder()
+                .brand("Honda")
+                .model("PCX")
+                .color("Preto")
+                .plate("YTH1234")
+                .type(2)
+                .build();
+
+        this.repository.save(firstEntitySaved);
+        this.repository.save(secondEntitySaved);
+
+        Page<VehicleDto> actual = this.repository.findPageBy(PageRequest.of(0, 1));
+
+        assertThat(actual.getTotalElements()).isEqualTo(2);
+        assertThat(actual.getContent()).hasSize(1);
+        assertThat(List.of(firstEntitySaved, secondEntitySaved)).extracting(VehicleEntity::getId)
+                .contains(actual.getContent().get(0).getId());
+
+        VehicleEntity source = actual.getContent().get(0).getId().equals(firstEntitySaved.getId())
+                ? firstEntitySaved : secondEntitySaved;
+        assertThat(actual.getContent().get(0)).usingRecursiveComparison().isEqualTo(source);
+    }
+
+    @Transactional
+    @Rollback
+    @Test
+    void given_VehiclesExistInDatabase_when_FindConsecutivePages_then_ReturnEachVehicleOnceOrderedById(){
+        VehicleEntity firstEntitySaved = VehicleEntity.builder()
+                .brand("Ford")
+                .model("Fiesta")
+                .color("Prata")
+                .plate("ABC1234")
+                .type(1)
+                .build();
+
+        VehicleEntity secondEntitySaved = VehicleEntity.builder()
+                .brand("Honda")
+                .model("PCX")
+                .color("Preto")
+                .plate("YTH1234")
+                .type(2)
+                .build();
+
+        VehicleEntity thirdEntitySaved = VehicleEntity.builder()
+                .brand("Chevrolet")
+                .model("Camaro")
+                .color("Amarelo")
+                .plate("DEF6789")
+                .type(1)
+                .build();
+
+        this.repository.save(firstEntitySaved);
+        this.repository.save(secondEntitySaved);
+        this.repository.save(thirdEntitySaved);
+
+        Page<VehicleDto> firstPage = this.repository.findPageBy(PageRequest.of(0, 2));
+        Slice<VehicleDto> secondSlice = this.repository.findSliceBy(PageRequest.of(1, 2));
+
+        assertThat(firstPage.getContent()).extracting(VehicleDto::getId)
+                .containsExactly(firstEntitySaved.getId(), secondEntitySaved.getId());
+        assertThat(secondSlice.getContent()).extracting(VehicleDto::getId)
+                .containsExactly(thirdEntitySaved.getId());
+    }
+
     @Transactional
     @Rollback
     @Test
@@ -177,11 +286,164 @@ class VehicleRepositoryITCase {
         this.repository.save(secondEntitySaved);
         this.repository.save(thirdEntitySaved);
 
-        Page<VehicleEntity> actual = this.repository.findAllByType(2, PageRequest.of(0, 2));
+        Page<VehicleDto> actual = this.repository.findAllByType(2, PageRequest.of(0, 2));
 
         assertThat(actual).isNotNull();
         assertThat(actual.getTotalElements()).isEqualTo(2);
         assertThat(actual.getNumberOfElements()).isEqualTo(2);
-        assertThat(actual.getContent()).containsExactlyInAnyOrder(secondEntitySaved, thirdEntitySaved);
+        assertThat(actual.getContent()).extracting(VehicleDto::getId)
+                .containsExactlyInAnyOrder(secondEntitySaved.getId(), thirdEntitySaved.getId());
+    }
+
+    @Transactional
+    @Rollback
+    @Test
+    void given_VehiclesExistInDatabase_when_SeekAfterLastSeenVehicle_then_ReturnNextVehiclesOrderedByTypeAndId(){
+        VehicleEntity firstEntitySaved = VehicleEntity.builder()
+                .brand("Ford")
+                .model("Fiesta")
+                .color("Prata")
+                .plate("ABC1234")
+                .type(2)
+                .build();
+
+        VehicleEntity secondEntitySaved = VehicleEntity.builder()
+                .brand("Chevrolet")
+                .model("Camaro")
+                .color("Amarelo")
+                .plate("DEF6789")
+                .type(1)
+                .build();
+
+        VehicleEntity thirdEntitySaved = VehicleEntity.builder()
+                .brand("Honda")
+                .model("PCX")
+                .color("Preto")
+                .plate("YTH1234")
+                .type(2)
+                .build();
+
+        this.repository.save(firstEntitySaved);
+        this.repository.save(secondEntitySaved);
+        this.repository.save(thirdEntitySaved);
+
+        List<VehicleDto> firstPage = this.repository.findFirstKeysetPage(Limit.of(2));
+        VehicleDto lastSeen = firstPage.get(1);
+        List<VehicleDto> secondPage = this.repository.findKeysetPageAfter(lastSeen.getType(), lastSeen.getId(), Limit.of(2));
+
+        assertThat(firstPage).hasSize(2);
+        assertThat(firstPage.get(0).getId()).isEqualTo(secondEntitySaved.getId());
+        assertThat(secondPage).hasSize(1).doesNotContainAnyElementsOf(firstPage);
+        assertThat(List.of(firstPage.get(1), secondPage.get(0))).extracting(VehicleDto::getId)
+                .containsExactlyInAnyOrder(firstEntitySaved.getId(), thirdEntitySaved.getId());
+    }
+
+    @Transactional
+    @Rollback
+    @Test
+    void given_VehiclesWithDifferentTypesExistInDatabase_when_SeekByTypeAfterLastSeenVehicle_then_ReturnNextVehiclesOfSpecificType(){
+        VehicleEntity firstEntitySaved = VehicleEntity.builder()
+                .brand("Ford")
+                .model("Fiesta")
+                .color("Prata")
+                .plate("ABC1234")
+                .type(1)
+                .build();
+
+        VehicleEntity secondEntitySaved = VehicleEntity.builder()
+                .brand("Honda")
+                .model("Honda ADV")
+                .color("Prata")
+                .plate("DEF6789")
+                .type(2)
+                .build();
+
+        VehicleEntity thirdEntitySaved = VehicleEntity.builder()
+                .brand("Honda")
+                .model("PCX")
+                .color("Preto")
+                .plate("YTH1234")
+                .type(2)
+                .build();
+
+        this.repository.save(firstEntitySaved);
+        this.repository.save(secondEntitySaved);
+        this.repository.save(thirdEntitySaved);
+
+        List<VehicleDto> firstPage = this.repository.findFirstKeysetPageByType(2, Limit.of(1));
+        List<VehicleDto> secondPage = this.repository.findKeysetPageByTypeAfter(2, firstPage.get(0).getId(), Limit.of(1));
+        List<VehicleDto> lastPage = this.repository.findKeysetPageByTypeAfter(2, secondPage.get(0).getId(), Limit.of(1));
+
+        assertThat(List.of(firstPage.get(0), secondPage.get(0))).extracting(VehicleDto::getId)
+                .containsExactlyInAnyOrder(secondEntitySaved.getId(), thirdEntitySaved.getId());
+        assertThat(lastPage).isEmpty();
+    }
+
+    @Transactional
+    @Rollback
+    @Test
+    void given_VehiclesWithDifferentTypesExistInDatabase_when_SearchVehicleByTypes_then_ReturnVehiclesOrderedById(){
+        VehicleEntity firstEntitySaved = VehicleEntity.builder()
+                .brand("Honda")
+                .model("Honda ADV")
+                .color("Prata")
+                .plate("DEF6789")
+                .type(2)
+                .build();
+
+        VehicleEntity secondEntitySaved = VehicleEntity.builder()
+                .brand("Honda")
+                .model("PCX")
+                .color("Preto")
+                .plate("YTH1234")
+                .type(2)
+                .build();
+
+        this.repository.save(firstEntitySaved);
+        this.repository.save(secondEntitySaved);
+
+        Page<VehicleDto> actual = this.repository.findAllByType(2, PageRequest.of(0, 2));
+
+        assertThat(actual.getContent()).extracting(VehicleDto::getId)
+                .containsExactly(firstEntitySaved.getId(), secondEntitySaved.getId());
+    }
+
+    @Transactional
+    @Rollback
+    @Test
+    void given_VehiclesWithEqualBrandModelAndColor_when_ReadThem_then_ShareOneInstanceOfEach(){
+        List<UUID> savedIds = Stream.of("CNV0001", "CNV0002")
+                .map(plate -> this.repository.save(VehicleEntity.builder()
+                        .brand(new String("Toyota"))
+                        .model(new String("Corolla"))
+                        .color(new String("Branco"))
+                        .plate(plate)
+                        .type(1)
+                        .build()).getId())
+                .toList();
+        this.repository.flush();
+        this.entityManager.clear();
+
+        List<VehicleEntity> entities = this.repository.findAllById(savedIds);
+        List<VehicleDto> dtos = this.repository.findDtos(VehicleSpecifications.plateStartsWith("CNV"), Sort.by("id"),
+                Limit.of(2));
+
+        //H2 shares the strings of equal values by itself, the instance kept by the dictionary tells the converter ran
+        assertThat(entities).hasSize(2);
+        assertThat(dtos).hasSize(2);
+        assertThat(Stream.concat(entities.stream().map(VehicleEntity::getBrand), dtos.stream().map(VehicleDto::getBrand)))
+                .allSatisfy(brand -> assertThat(brand).isSameAs(AttributeDictionary.canonical(new String("Toyota"))));
+        assertThat(Stream.concat(entities.stream().map(VehicleEntity::getModel), dtos.stream().map(VehicleDto::getModel)))
+                .allSatisfy(model -> assertThat(model).isSameAs(AttributeDictionary.canonical(new String("Corolla"))));
+        assertThat(Stream.concat(entities.stream().map(VehicleEntity::getColor), dtos.stream().map(VehicleDto::getColor)))
+                .allSatisfy(color -> assertThat(color).isSameAs(AttributeDictionary.canonical(new String("Branco"))));
+    }
+
+    @Test
+    void given_TypeIndexIsDeclared_when_ExplainTypePageQuery_then_IndexIsUsed(){
+        String plan = this.jdbcTemplate.queryForObject(
+                "EXPLAIN SELECT id, type FROM tb_vehicle WHERE type = 2 ORDER BY id LIMIT 10", String.class);
+
+        assertThat(plan).containsIgnoringCase("idx_vehicle_type_id");
     }
 }
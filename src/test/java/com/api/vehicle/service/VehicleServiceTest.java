@@ -2,38 +2,53 @@ package com.api.vehicle.service;
 
 import com.api.vehicle.builder.dto.VehicleDtoBuilder;
 import com.api.vehicle.builder.entity.VehicleEntityBuilder;
+import com.api.vehicle.enums.page.EnumPageTotals;
 import com.api.vehicle.enums.type.EnumVehicleType;
 import com.api.vehicle.exception.response.BadRequestException;
+import com.api.vehicle.export.VehicleExportWriter;
 import com.api.vehicle.exception.response.InternalServerErrorException;
+import com.api.vehicle.exception.response.InvalidFieldsException;
 import com.api.vehicle.exception.response.NotFoundException;
+import com.api.vehicle.exception.response.PreconditionFailedException;
 import com.api.vehicle.mapper.page.VehiclePageMapper;
+import com.api.vehicle.model.dto.page.CursorPageDto;
 import com.api.vehicle.model.dto.page.ResponsePageDto;
+import com.api.vehicle.model.dto.page.VehicleCursor;
 import com.api.vehicle.model.dto.VehicleDto;
 import com.api.vehicle.model.entity.VehicleEntity;
 import com.api.vehicle.repository.VehicleRepository;
+import com.api.vehicle.service.estimate.VehicleCountEstimator;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
-import org.springframework.boot.test.mock.mockito.SpyBean;
 import org.springframework.dao.DataRetrievalFailureException;
 import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.test.context.aot.DisabledInAotMode;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
 
+@DisabledInAotMode
 @SpringBootTest
 class VehicleServiceTest {
 
@@ -41,8 +56,8 @@ class VehicleServiceTest {
     private VehicleRepository mockVehicleRepository;
     @MockBean
     private VehiclePageMapper mockVehiclePageMapper;
-    @SpyBean
-    private VehicleService spyService;
+    @MockBean
+    private VehicleCountEstimator mockVehicleCountEstimator;
 
     private final VehicleService service;
 
@@ -95,25 +110,37 @@ class VehicleServiceTest {
     @Test
     void should_DontThrowsInternalServerErrorException_When_DeleteVehicle(){
         UUID idDto = UUID.randomUUID();
-        VehicleDto dtoExpected = this.dtoBuilder.getCarDto(idDto);
 
-        doReturn(dtoExpected).when(this.spyService).findById(idDto);
-        doNothing().when(this.mockVehicleRepository).delete(any(VehicleEntity.class));
+        when(this.mockVehicleRepository.deleteVehicleById(idDto)).thenReturn(1);
 
         assertDoesNotThrow(() -> this.service.delete(idDto));
+        verify(this.mockVehicleRepository, never()).findById(any(UUID.class));
+    }
+
+    @Test
+    void should_ThrowsNotFoundException_When_DeleteVehicleThatDoesNotExist(){
+        UUID idDto = UUID.randomUUID();
+
+        when(this.mockVehicleRepository.deleteVehicleById(idDto)).thenReturn(0);
+
+        assertThrows(NotFoundException.class, () -> this.service.delete(idDto));
     }
 
     @Test
     void should_ThrowsInternalServerErrorException_When_NotDeleteVehicle(){
         UUID idDto = UUID.randomUUID();
-        VehicleDto dtoExpected = this.dtoBuilder.getCarDto(idDto);
 
-        doReturn(dtoExpected).when(this.spyService).findById(idDto);
-        doThrow(OptimisticLockingFailureException.class).when(this.mockVehicleRepository).delete(any(VehicleEntity.class));
+        when(this.mockVehicleRepository.deleteVehicleById(idDto)).thenThrow(OptimisticLockingFailureException.class);
 
         assertThrows(InternalServerErrorException.class, () -> this.service.delete(idDto));
     }
 
+    @Test
+    void should_ThrowsBadRequestException_When_DeleteVehicleWithoutId(){
+        assertThrows(BadRequestException.class, () -> this.service.delete(null));
+        verify(this.mockVehicleRepository, never()).deleteVehicleById(any());
+    }
+
     @Test
     void should_ReturnVehicle_When_FindVehicle(){
         final UUID idExpected = UUID.randomUUID();
@@ -147,33 +174,126 @@ class VehicleServiceTest {
         assertThrows(BadRequestException.class, () -> this.service.findById(null));
     }
 
+    @Test
+    void should_FindVehicleByNormalizedPlate_When_PlateHasSeparatorAndLowercase(){
+        VehicleEntity foundEntity = this.entityBuilder.getCarEntity(UUID.randomUUID());
+        when(this.mockVehicleRepository.findByPlate("ABC1234")).thenReturn(Optional.of(foundEntity));
+
+        VehicleDto dtoActual = this.service.findByPlate("abc-1234");
+
+        assertThat(dtoActual).isEqualTo(this.dtoBuilder.getCarDto(foundEntity));
+    }
+
+    @Test
+    void should_ThrowsNotFoundException_When_NotFindVehicleByPlate(){
+        when(this.mockVehicleRepository.findByPlate(any())).thenReturn(Optional.empty());
+        assertThrows(NotFoundException.class, () -> this.service.findByPlate("ABC1234"));
+    }
+
+    @Test
+    void should_ThrowsBadRequestException_When_PlateIsBlank(){
+        assertThrows(BadRequestException.class, () -> this.service.findByPlate(" "));
+        verify(this.mockVehicleRepository, never()).findByPlate(any());
+    }
+
     @Test
     void should_ReturnUpdatedVehicle_When_VehicleExistsAndUpdates(){
         VehicleDto dtoExpected = this.dtoBuilder.getCarDto(UUID.randomUUID());
 
-        VehicleDto foundVehicle = this.dtoBuilder.getCarDto(dtoExpected.getId());
-        foundVehicle.setColor("Preto");
+        when(this.mockVehicleRepository.updateById(dtoExpected.getId(), dtoExpected.getBrand(), dtoExpected.getModel(),
+                dtoExpected.getColor(), dtoExpected.getPlate(), dtoExpected.getType())).thenReturn(1);
+
+        VehicleDto dtoActual = this.service.update(dtoExpected);
+
+        assertThat(dtoActual).isEqualTo(dtoExpected);
+        verify(this.mockVehicleRepository, never()).findById(any(UUID.class));
+        verify(this.mockVehicleRepository, never()).save(any(VehicleEntity.class));
+    }
 
-        VehicleEntity updatedEntity = this.entityBuilder.getCarEntity(dtoExpected);
+    @Test
+    void should_NormalizePlate_When_UpdateVehicle(){
+        VehicleDto dto = this.dtoBuilder.getCarDto(UUID.randomUUID());
+        dto.setPlate("rtf-1234");
 
-        doReturn(foundVehicle).when(this.spyService).findById(any(UUID.class));
-        when(this.mockVehicleRepository.save(any(VehicleEntity.class))).thenReturn(updatedEntity);
+        when(this.mockVehicleRepository.updateById(any(UUID.class), any(), any(), any(), any(), anyInt())).thenReturn(1);
 
-        VehicleDto dtoActual = this.spyService.update(dtoExpected);
+        VehicleDto dtoActual = this.service.update(dto);
 
-        assertThat(dtoActual).isEqualTo(dtoExpected);
+        assertEquals("RTF1234", dtoActual.getPlate());
+        verify(this.mockVehicleRepository).updateById(dto.getId(), dto.getBrand(), dto.getModel(), dto.getColor(),
+                "RTF1234", dto.getType());
+    }
+
+    @Test
+    void should_ThrowsNotFoundException_When_UpdateVehicleThatDoesNotExist(){
+        VehicleDto dto = this.dtoBuilder.getCarDto(UUID.randomUUID());
+
+        when(this.mockVehicleRepository.updateById(any(UUID.class), any(), any(), any(), any(), anyInt())).thenReturn(0);
+
+        assertThrows(NotFoundException.class, () -> this.service.update(dto));
+    }
+
+    @Test
+    void should_ReturnNextVersion_When_VehicleStillHasExpectedVersion(){
+        VehicleDto dto = this.dtoBuilder.getCarDto(UUID.randomUUID());
+        dto.setVersion(3L);
+
+        when(this.mockVehicleRepository.updateByIdAndVersion(dto.getId(), dto.getBrand(), dto.getModel(), dto.getColor(),
+                dto.getPlate(), dto.getType(), 3L)).thenReturn(1);
+
+        VehicleDto dtoActual = this.service.update(dto);
+
+        assertEquals(4L, dtoActual.getVersion());
+        verify(this.mockVehicleRepository, never()).updateById(any(UUID.class), any(), any(), any(), any(), anyInt());
+    }
+
+    @Test
+    void should_ThrowsPreconditionFailedException_When_VehicleWasChangedSinceExpectedVersion(){
+        VehicleDto dto = this.dtoBuilder.getCarDto(UUID.randomUUID());
+        dto.setVersion(3L);
+
+        when(this.mockVehicleRepository.updateByIdAndVersion(any(UUID.class), any(), any(), any(), any(), anyInt(), anyLong()))
+                .thenReturn(0);
+        when(this.mockVehicleRepository.existsById(dto.getId())).thenReturn(true);
+
+        assertThrows(PreconditionFailedException.class, () -> this.service.update(dto));
+    }
+
+    @Test
+    void should_ThrowsNotFoundException_When_VehicleWithExpectedVersionDoesNotExist(){
+        VehicleDto dto = this.dtoBuilder.getCarDto(UUID.randomUUID());
+        dto.setVersion(3L);
+
+        when(this.mockVehicleRepository.updateByIdAndVersion(any(UUID.class), any(), any(), any(), any(), anyInt(), anyLong()))
+                .thenReturn(0);
+        when(this.mockVehicleRepository.existsById(dto.getId())).thenReturn(false);
+
+        assertThrows(NotFoundException.class, () -> this.service.update(dto));
+    }
+
+    @Test
+    void should_ReturnUnknownVersion_When_UpdateVehicleWithoutExpectedVersion(){
+        VehicleDto dto = this.dtoBuilder.getCarDto(UUID.randomUUID());
+
+        when(this.mockVehicleRepository.updateById(any(UUID.class), any(), any(), any(), any(), anyInt())).thenReturn(1);
+
+        assertThat(this.service.update(dto).getVersion()).isNull();
     }
 
     @Test
     void should_ThrowsInternalServerErrorException_When_NotUpdateVehicle(){
         VehicleDto dtoExpected = this.dtoBuilder.getCarDto(UUID.randomUUID());
 
-        VehicleDto foundVehicle = this.dtoBuilder.getCarDto(dtoExpected.getId());
-        foundVehicle.setColor("Preto");
+        when(this.mockVehicleRepository.updateById(any(UUID.class), any(), any(), any(), any(), anyInt()))
+                .thenThrow(OptimisticLockingFailureException.class);
+        assertThrows(InternalServerErrorException.class, () -> this.service.update(dtoExpected));
+    }
 
-        doReturn(foundVehicle).when(this.spyService).findById(any(UUID.class));
-        when(this.mockVehicleRepository.save(any(VehicleEntity.class))).thenThrow(OptimisticLockingFailureException.class);
-        assertThrows(InternalServerErrorException.class, () -> this.spyService.update(dtoExpected));
+    @Test
+    void should_ThrowsBadRequestException_When_UpdateVehicleWithoutId(){
+        VehicleDto dto = this.dtoBuilder.getCarDto((UUID) null);
+
+        assertThrows(BadRequestException.class, () -> this.service.update(dto));
     }
 
     @Test
@@ -195,14 +315,14 @@ class VehicleServiceTest {
                 .listContent(List.of(dtoBuilder.getCarDto(firstEntity), dtoBuilder.getCarDto(secondEntity))).build();
 
         //When
-        Page<VehicleEntity> pageEntity = new PageImpl<>(List.of(firstEntity, secondEntity),
+        Page<VehicleDto> pageDto = new PageImpl<>(expected.getListContent(),
                 PageRequest.of(pageNumber, pageSize), expected.getTotalItems());
 
-        when(this.mockVehicleRepository.findAll((PageRequest.of(pageNumber, pageSize)))).thenReturn(pageEntity);
-        when(this.mockVehiclePageMapper.pageEntityToPageDto(pageEntity)).thenReturn(expected);
+        when(this.mockVehicleRepository.findPageBy((PageRequest.of(pageNumber, pageSize)))).thenReturn(pageDto);
+        when(this.mockVehiclePageMapper.pageEntityToPageDto(pageDto)).thenReturn(expected);
 
         //Then
-        ResponsePageDto<VehicleDto> actual = this.service.findAll(pageNumber, pageSize);
+        ResponsePageDto<VehicleDto> actual = this.service.findAll(pageNumber, pageSize, EnumPageTotals.EXACT);
         assertThat(actual).isNotNull().usingRecursiveComparison().isEqualTo(expected);
     }
 
@@ -210,21 +330,23 @@ class VehicleServiceTest {
     @CsvSource({
             "0, -1",
             "-1, 2",
-            "-1, -1"
+            "-1, -1",
+            "0, 1001",
+            "0, 2147483647"
     })
     void given_InvalidParameters_when_ListVehicles_then_ThrowsBadRequestException(int pageNumber, int pageSize){
-        assertThrows(BadRequestException.class,  () -> this.service.findAll(pageNumber, pageSize));
+        assertThrows(BadRequestException.class,  () -> this.service.findAll(pageNumber, pageSize, EnumPageTotals.EXACT));
     }
 
     @Test
     void given_ErrorInDatabase_when_ListVehicles_then_ThrowsInternalServerErrorException(){
 
         int pageNumber = 0;
-        int pageSize = 999999;
+        int pageSize = 1000;
 
-        when(this.mockVehicleRepository.findAll(PageRequest.of(pageNumber, pageSize)))
+        when(this.mockVehicleRepository.findPageBy(PageRequest.of(pageNumber, pageSize)))
                 .thenThrow(QueryTimeoutException.class);
-        assertThrows(InternalServerErrorException.class,  () -> this.service.findAll(pageNumber, pageSize));
+        assertThrows(InternalServerErrorException.class,  () -> this.service.findAll(pageNumber, pageSize, EnumPageTotals.EXACT));
     }
 
     @Test
@@ -248,15 +370,207 @@ class VehicleServiceTest {
 
 
         //When
-        Page<VehicleEntity> pageEntity = new PageImpl<>(List.of(firstEntity, secondEntity),
+        Page<VehicleDto> pageDto = new PageImpl<>(expected.getListContent(),
                 PageRequest.of(pageNumber, pageSize), expected.getTotalItems());
 
-        when(this.mockVehicleRepository.findAllByType(vehicleType.getId(), (PageRequest.of(pageNumber, pageSize)))).thenReturn(pageEntity);
-        when(this.mockVehiclePageMapper.pageEntityToPageDto(pageEntity)).thenReturn(expected);
+        when(this.mockVehicleRepository.findAllByType(vehicleType.getId(), (PageRequest.of(pageNumber, pageSize)))).thenReturn(pageDto);
+        when(this.mockVehiclePageMapper.pageEntityToPageDto(pageDto)).thenReturn(expected);
 
         //Then
-        ResponsePageDto<VehicleDto> actual = this.service.findAllByType(vehicleType, pageNumber, pageSize);
+        ResponsePageDto<VehicleDto> actual = this.service.findAllByType(vehicleType, pageNumber, pageSize, EnumPageTotals.EXACT);
         assertThat(actual).isNotNull().usingRecursiveComparison().isEqualTo(expected);
     }
 
+    @Test
+    void given_TotalsNone_when_ListVehicles_then_ReturnVehiclePageFromSlice(){
+        //Setup
+        VehicleEntity firstEntity = this.entityBuilder.getCarEntity(UUID.randomUUID());
+        VehicleEntity secondEntity = this.entityBuilder.getCarEntity(UUID.randomUUID());
+
+        //Given
+        int pageNumber = 0;
+        int pageSize = 2;
+
+        //Expected
+        ResponsePageDto<VehicleDto> expected = ResponsePageDto.<VehicleDto>builder()
+                .currentPage(pageNumber)
+                .pageSize(pageSize)
+                .listContent(List.of(dtoBuilder.getCarDto(firstEntity), dtoBuilder.getCarDto(secondEntity))).build();
+
+        //When
+        Slice<VehicleDto> sliceDto = new SliceImpl<>(expected.getListContent(),
+                PageRequest.of(pageNumber, pageSize), true);
+
+        when(this.mockVehicleRepository.findSliceBy(PageRequest.of(pageNumber, pageSize))).thenReturn(sliceDto);
+        when(this.mockVehiclePageMapper.sliceEntityToPageDto(sliceDto)).thenReturn(expected);
+
+        //Then
+        ResponsePageDto<VehicleDto> actual = this.service.findAll(pageNumber, pageSize, EnumPageTotals.NONE);
+        assertThat(actual).isNotNull().usingRecursiveComparison().isEqualTo(expected);
+        verify(this.mockVehicleRepository, never()).findPageBy(any(PageRequest.class));
+    }
+
+    @Test
+    void given_TotalsEstimated_when_ListVehiclesByType_then_ReturnVehiclePageWithEstimatedTotals(){
+        //Setup
+        VehicleDto firstDto = this.dtoBuilder.getCarDto(UUID.randomUUID());
+        VehicleDto secondDto = this.dtoBuilder.getCarDto(UUID.randomUUID());
+
+        //Given
+        int pageNumber = 1;
+        int pageSize = 2;
+        EnumVehicleType vehicleType = EnumVehicleType.CAR;
+
+        //When
+        Slice<VehicleDto> sliceDto = new SliceImpl<>(List.of(firstDto, secondDto),
+                PageRequest.of(pageNumber, pageSize), true);
+
+        when(this.mockVehicleRepository.findSliceByType(vehicleType.getId(), PageRequest.of(pageNumber, pageSize)))
+                .thenReturn(sliceDto);
+        when(this.mockVehiclePageMapper.sliceEntityToPageDto(sliceDto)).thenReturn(ResponsePageDto.<VehicleDto>builder()
+                .currentPage(pageNumber)
+                .pageSize(pageSize)
+                .listContent(List.of(firstDto, secondDto)).build());
+        when(this.mockVehicleCountEstimator.estimateByType(vehicleType.getId())).thenReturn(9L);
+
+        //Then
+        ResponsePageDto<VehicleDto> actual = this.service.findAllByType(vehicleType, pageNumber, pageSize,
+                EnumPageTotals.ESTIMATED);
+        assertThat(actual).isNotNull();
+        assertThat(actual.getTotalItems()).isEqualTo(9);
+        assertThat(actual.getTotalPages()).isEqualTo(5);
+    }
+
+    @Test
+    void given_EstimateLowerThanSeenVehicles_when_ListVehicles_then_ReturnTotalsOfSeenVehicles(){
+        //Given
+        int pageNumber = 3;
+        int pageSize = 2;
+
+        //When
+        Slice<VehicleDto> sliceDto = new SliceImpl<>(List.of(this.dtoBuilder.getCarDto(UUID.randomUUID())),
+                PageRequest.of(pageNumber, pageSize), false);
+
+        when(this.mockVehicleRepository.findSliceBy(PageRequest.of(pageNumber, pageSize))).thenReturn(sliceDto);
+        when(this.mockVehiclePageMapper.sliceEntityToPageDto(sliceDto)).thenReturn(new ResponsePageDto<>());
+        when(this.mockVehicleCountEstimator.estimateAll()).thenReturn(2L);
+
+        //Then
+        ResponsePageDto<VehicleDto> actual = this.service.findAll(pageNumber, pageSize, EnumPageTotals.ESTIMATED);
+        assertThat(actual.getTotalItems()).isEqualTo(7);
+        assertThat(actual.getTotalPages()).isEqualTo(4);
+    }
+
+    @Test
+    void given_EmptyCursorAndMoreVehiclesThanPageSize_when_ListVehiclesByCursor_then_ReturnFirstPageWithNextCursor(){
+        //Setup
+        VehicleDto firstDto = this.dtoBuilder.getCarDto(UUID.randomUUID());
+        VehicleDto secondDto = this.dtoBuilder.getCarDto(UUID.randomUUID());
+        VehicleDto thirdDto = this.dtoBuilder.getCarDto(UUID.randomUUID());
+
+        //Given
+        int pageSize = 2;
+
+        //When
+        when(this.mockVehicleRepository.findFirstKeysetPage(Limit.of(pageSize + 1)))
+                .thenReturn(List.of(firstDto, secondDto, thirdDto));
+
+        //Then
+        CursorPageDto<VehicleDto> actual = this.service.findAllByCursor("", pageSize);
+        assertThat(actual).isNotNull();
+        assertThat(actual.getTotalItems()).isNull();
+        assertThat(actual.getListContent()).containsExactly(firstDto, secondDto);
+        assertThat(actual.getNextCursor()).isEqualTo(VehicleCursor.of(secondDto).encode());
+    }
+
+    @Test
+    void given_CursorOfLastPage_when_ListVehiclesByCursor_then_ReturnPageWithoutNextCursor(){
+        //Setup
+        VehicleDto lastSeenDto = this.dtoBuilder.getCarDto(UUID.randomUUID());
+        VehicleDto lastDto = this.dtoBuilder.getCarDto(UUID.randomUUID());
+
+        //Given
+        int pageSize = 2;
+        String cursor = VehicleCursor.of(lastSeenDto).encode();
+
+        //When
+        when(this.mockVehicleRepository.findKeysetPageAfter(lastSeenDto.getType(), lastSeenDto.getId(),
+                Limit.of(pageSize + 1))).thenReturn(List.of(lastDto));
+
+        //Then
+        CursorPageDto<VehicleDto> actual = this.service.findAllByCursor(cursor, pageSize);
+        assertThat(actual).isNotNull();
+        assertThat(actual.getListContent()).containsExactly(lastDto);
+        assertThat(actual.getNextCursor()).isNull();
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+            "anyText, 2",
+            "'', 0",
+            "'', 1001",
+            "'', 2147483647"
+    })
+    void given_InvalidCursorOrPageSize_when_ListVehiclesByCursor_then_ThrowsBadRequestException(String cursor, int pageSize){
+        assertThrows(BadRequestException.class, () -> this.service.findAllByCursor(cursor, pageSize));
+    }
+
+    @Test
+    void given_CursorOfAnotherType_when_ListVehiclesByTypeAndCursor_then_ThrowsBadRequestException(){
+        String cursor = new VehicleCursor(EnumVehicleType.CAR.getId(), UUID.randomUUID()).encode();
+        assertThrows(BadRequestException.class,
+                () -> this.service.findAllByTypeAndCursor(EnumVehicleType.MOTORCYCLE, cursor, 2));
+    }
+
+    @Test
+    void given_ErrorInDatabase_when_ListVehiclesByTypeAndCursor_then_ThrowsInternalServerErrorException(){
+        when(this.mockVehicleRepository.findFirstKeysetPageByType(anyInt(), any(Limit.class)))
+                .thenThrow(QueryTimeoutException.class);
+        assertThrows(InternalServerErrorException.class,
+                () -> this.service.findAllByTypeAndCursor(EnumVehicleType.CAR, "", 2));
+    }
+
+    @Test
+    void given_InvalidVehiclesInList_when_SaveVehicles_then_ThrowsInvalidFieldsExceptionWithErrorsByIndex(){
+        VehicleDto invalidDto = this.dtoBuilder.getCarDto(UUID.randomUUID());
+        invalidDto.setBrand("");
+
+        List<VehicleDto> dtoList = new ArrayList<>(List.of(this.dtoBuilder.getCarPostDto(), invalidDto));
+        dtoList.add(null);
+
+        InvalidFieldsException exception = assertThrows(InvalidFieldsException.class, () -> this.service.saveAll(dtoList));
+        assertThat(exception.getFieldError()).containsOnlyKeys("[1].id", "[1].brand", "[2]");
+        verify(this.mockVehicleRepository, never()).saveAll(any());
+    }
+
+    @Test
+    void given_VehicleWithoutId_when_UpdateVehicles_then_ThrowsInvalidFieldsException(){
+        List<VehicleDto> dtoList = List.of(this.dtoBuilder.getCarPostDto());
+
+        InvalidFieldsException exception = assertThrows(InvalidFieldsException.class, () -> this.service.updateAll(dtoList));
+        assertThat(exception.getFieldError()).containsOnlyKeys("[0].id");
+    }
+
+    @Test
+    void given_EmptyList_when_SaveVehicles_then_ThrowsBadRequestException(){
+        List<VehicleDto> dtoList = List.of();
+        assertThrows(BadRequestException.class, () -> this.service.saveAll(dtoList));
+    }
+
+    @Test
+    void given_VehicleType_when_ExportVehicles_then_WriteEveryVehicleOfTypeAndFinish() throws Exception {
+        VehicleEntity firstEntity = this.entityBuilder.getCarEntity(UUID.randomUUID());
+        VehicleEntity secondEntity = this.entityBuilder.getCarEntity(UUID.randomUUID());
+        VehicleExportWriter mockWriter = mock(VehicleExportWriter.class);
+
+        when(this.mockVehicleRepository.streamAllByType(EnumVehicleType.CAR.getId()))
+                .thenReturn(Stream.of(firstEntity, secondEntity));
+
+        this.service.exportAll(EnumVehicleType.CAR, mockWriter);
+
+        verify(mockWriter).write(dtoBuilder.getCarDto(firstEntity));
+        verify(mockWriter).write(dtoBuilder.getCarDto(secondEntity));
+        verify(mockWriter).finish();
+        verify(this.mockVehicleRepository, never()).streamAll();
+    }
 }
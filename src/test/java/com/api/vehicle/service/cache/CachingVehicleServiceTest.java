@@ -0,0 +1,157 @@
+package com.api.vehicle.service.cache;
+
+import com.api.vehicle.builder.dto.VehicleDtoBuilder;
+import com.api.vehicle.builder.entity.VehicleEntityBuilder;
+import com.api.vehicle.exception.response.NotFoundException;
+import com.api.vehicle.model.dto.VehicleDto;
+import com.api.vehicle.model.entity.VehicleEntity;
+import com.api.vehicle.repository.VehicleRepository;
+import com.api.vehicle.service.VehicleService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.aot.DisabledInAotMode;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@DisabledInAotMode
+@SpringBootTest(properties = "vehicle.cache.enabled=true")
+class CachingVehicleServiceTest {
+
+    @MockBean
+    private VehicleRepository mockVehicleRepository;
+
+    private final VehicleService service;
+
+    private final VehicleDtoBuilder dtoBuilder;
+    private final VehicleEntityBuilder entityBuilder;
+
+    @Autowired
+    public CachingVehicleServiceTest(VehicleService service) {
+        this.service = service;
+        this.dtoBuilder = new VehicleDtoBuilder();
+        this.entityBuilder = new VehicleEntityBuilder();
+    }
+
+    @Test
+    void should_BeCachingVehicleService_When_CacheIsEnabled(){
+        assertThat(this.service).isInstanceOf(CachingVehicleService.class);
+    }
+
+    @Test
+    void should_ReadDatabaseOnce_When_FindSameVehicleTwice(){
+        UUID id = UUID.randomUUID();
+        when(this.mockVehicleRepository.findById(id)).thenReturn(Optional.of(this.entityBuilder.getCarEntity(id)));
+
+        VehicleDto firstRead = this.service.findById(id);
+        VehicleDto secondRead = this.service.findById(id);
+
+        assertThat(secondRead).isEqualTo(firstRead);
+        verify(this.mockVehicleRepository, times(1)).findById(id);
+        assertThat(((CachingVehicleService) this.service).getStats().hitCount()).isPositive();
+    }
+
+    @Test
+    void should_NotCacheMissingVehicle_When_VehicleIsNotFound(){
+        UUID id = UUID.randomUUID();
+        when(this.mockVehicleRepository.findById(id)).thenReturn(Optional.empty());
+
+        assertThrows(NotFoundException.class, () -> this.service.findById(id));
+        assertThrows(NotFoundException.class, () -> this.service.findById(id));
+        verify(this.mockVehicleRepository, times(2)).findById(id);
+    }
+
+    @Test
+    void should_ReturnUpdatedVehicleFromCache_When_CachedVehicleIsUpdated(){
+        UUID id = UUID.randomUUID();
+        VehicleEntity foundEntity = this.entityBuilder.getCarEntity(id);
+        foundEntity.setVersion(0L);
+        VehicleDto updatedDto = this.dtoBuilder.getCarDto(foundEntity);
+        updatedDto.setColor("Preto");
+        updatedDto.setVersion(0L);
+
+        when(this.mockVehicleRepository.findById(id)).thenReturn(Optional.of(foundEntity));
+        when(this.mockVehicleRepository.updateByIdAndVersion(any(UUID.class), any(), any(), any(), any(), anyInt(), anyLong()))
+                .thenReturn(1);
+
+        this.service.findById(id);
+        this.service.update(updatedDto);
+        clearInvocations(this.mockVehicleRepository);
+
+        VehicleDto cachedVehicle = this.service.findById(id);
+        assertThat(cachedVehicle.getColor()).isEqualTo("Preto");
+        assertThat(cachedVehicle.getVersion()).isEqualTo(1L);
+        verify(this.mockVehicleRepository, never()).findById(id);
+    }
+
+    @Test
+    void should_ReadDatabaseAgain_When_CachedVehicleIsUpdatedWithoutVersion(){
+        UUID id = UUID.randomUUID();
+        VehicleEntity foundEntity = this.entityBuilder.getCarEntity(id);
+        VehicleDto updatedDto = this.dtoBuilder.getCarDto(foundEntity);
+        updatedDto.setColor("Preto");
+
+        when(this.mockVehicleRepository.findById(id)).thenReturn(Optional.of(foundEntity));
+        when(this.mockVehicleRepository.updateById(any(UUID.class), any(), any(), any(), any(), anyInt())).thenReturn(1);
+
+        this.service.findById(id);
+        this.service.update(updatedDto);
+        this.service.findById(id);
+
+        verify(this.mockVehicleRepository, times(2)).findById(id);
+    }
+
+    @Test
+    void should_ReadDatabaseAgain_When_CachedVehicleIsDeleted(){
+        UUID id = UUID.randomUUID();
+        when(this.mockVehicleRepository.findById(id)).thenReturn(Optional.of(this.entityBuilder.getCarEntity(id)));
+
+        when(this.mockVehicleRepository.deleteVehicleById(id)).thenReturn(1);
+
+        this.service.findById(id);
+        this.service.delete(id);
+        when(this.mockVehicleRepository.findById(id)).thenReturn(Optional.empty());
+
+        assertThrows(NotFoundException.class, () -> this.service.findById(id));
+    }
+
+    @Test
+    void should_ReadDatabaseOnce_When_FindSamePlateWrittenDifferently(){
+        VehicleEntity foundEntity = this.entityBuilder.getCarEntity(UUID.randomUUID());
+        when(this.mockVehicleRepository.findByPlate("ABC1234")).thenReturn(Optional.of(foundEntity));
+
+        VehicleDto firstRead = this.service.findByPlate("abc-1234");
+        VehicleDto secondRead = this.service.findByPlate("ABC1234");
+
+        assertThat(secondRead).isEqualTo(firstRead);
+        verify(this.mockVehicleRepository, times(1)).findByPlate("ABC1234");
+        assertThat(((CachingVehicleService) this.service).getPlateStats().hitCount()).isPositive();
+    }
+
+    @Test
+    void should_ReadPlateFromDatabaseAgain_When_CachedVehicleIsUpdated(){
+        UUID id = UUID.randomUUID();
+        VehicleEntity foundEntity = this.entityBuilder.getCarEntity(id);
+        VehicleDto updatedDto = this.dtoBuilder.getCarDto(foundEntity);
+        updatedDto.setPlate("XYZ9876");
+
+        when(this.mockVehicleRepository.findByPlate(foundEntity.getPlate())).thenReturn(Optional.of(foundEntity));
+        when(this.mockVehicleRepository.findById(id)).thenReturn(Optional.of(foundEntity));
+        when(this.mockVehicleRepository.updateById(any(UUID.class), any(), any(), any(), any(), anyInt())).thenReturn(1);
+
+        this.service.findByPlate(foundEntity.getPlate());
+        this.service.update(updatedDto);
+        when(this.mockVehicleRepository.findByPlate(foundEntity.getPlate())).thenReturn(Optional.empty());
+
+        assertThrows(NotFoundException.class, () -> this.service.findByPlate(foundEntity.getPlate()));
+    }
+}
@@ -0,0 +1,156 @@
+package com.api.vehicle.service.cache;
+
+import com.api.vehicle.builder.dto.VehicleDtoBuilder;
+import com.api.vehicle.enums.ingestion.EnumIngestionStatus;
+import com.api.vehicle.enums.page.EnumPageTotals;
+import com.api.vehicle.enums.type.EnumVehicleType;
+import com.api.vehicle.model.dto.VehicleDto;
+import com.api.vehicle.model.dto.page.ResponsePageDto;
+import com.api.vehicle.repository.VehicleRepository;
+import com.api.vehicle.service.VehicleService;
+import com.api.vehicle.service.ingestion.VehicleIngestionService;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The query cache is off in the other tests, this class turns it on together with the asynchronous ingestion,
+ * whose JDBC inserts bypass Hibernate
+ */
+@SpringBootTest(properties = {
+        "vehicle.hibernate-cache.enabled=true",
+        "vehicle.ingestion.enabled=true",
+        "vehicle.ingestion.journal-directory=target/ingestion-journal-cache-it",
+        "vehicle.ingestion.flush-interval=20ms"
+})
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class HibernateCacheITCase {
+
+    private static final int PAGE_SIZE = 1_000;
+    private static final long STATUS_TIMEOUT_MILLIS = 10_000;
+
+    private final VehicleService service;
+    private final VehicleIngestionService ingestionService;
+    private final VehicleRepository repository;
+    private final Statistics statistics;
+    private final MeterRegistry meterRegistry;
+    private final VehicleDtoBuilder dtoBuilder;
+
+    @Autowired
+    HibernateCacheITCase(VehicleService service, VehicleIngestionService ingestionService,
+                         VehicleRepository repository, EntityManagerFactory entityManagerFactory,
+                         MeterRegistry meterRegistry) {
+        this.service = service;
+        this.ingestionService = ingestionService;
+        this.repository = repository;
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        this.meterRegistry = meterRegistry;
+        this.dtoBuilder = new VehicleDtoBuilder();
+    }
+
+    /**
+     * A bulk delete, so the cached listings are invalidated as well
+     */
+    @AfterAll
+    void tearDown() {
+        this.repository.deleteAllInBatch();
+    }
+
+    @Test
+    void given_TypePageListedBefore_when_ListedAgain_then_ServePageAndCountFromQueryCache(){
+        //A full page, a page with fewer vehicles than its size is counted without the count query
+        this.service.save(this.dtoBuilder.getVehicle(EnumVehicleType.BUS));
+        this.service.save(this.dtoBuilder.getVehicle(EnumVehicleType.BUS));
+        ResponsePageDto<VehicleDto> firstPage = this.service.findAllByType(EnumVehicleType.BUS, 0, 1, EnumPageTotals.EXACT);
+        long hitsBefore = this.statistics.getQueryCacheHitCount();
+        long executionsBefore = this.statistics.getQueryExecutionCount();
+
+        ResponsePageDto<VehicleDto> secondPage = this.service.findAllByType(EnumVehicleType.BUS, 0, 1, EnumPageTotals.EXACT);
+
+        assertThat(secondPage).isEqualTo(firstPage);
+        assertThat(this.statistics.getQueryCacheHitCount() - hitsBefore).isEqualTo(2);
+        assertThat(this.statistics.getQueryExecutionCount()).isEqualTo(executionsBefore);
+        assertThat(this.meterRegistry.get("cache.gets")
+                .tag("cache", VehicleRepository.TYPE_LISTING_CACHE_REGION)
+                .tag("result", "hit")
+                .functionCounter().count()).isPositive();
+    }
+
+    @Test
+    void given_TypePageCached_when_VehicleSaved_then_ListNewVehicle(){
+        ResponsePageDto<VehicleDto> cachedPage = this.listByType(EnumVehicleType.VAN);
+
+        VehicleDto savedVehicle = this.service.save(this.dtoBuilder.getVehicle(EnumVehicleType.VAN));
+        ResponsePageDto<VehicleDto> page = this.listByType(EnumVehicleType.VAN);
+
+        assertThat(page.getTotalItems()).isEqualTo(cachedPage.getTotalItems() + 1);
+        assertThat(page.getListContent()).extracting(VehicleDto::getId).contains(savedVehicle.getId());
+    }
+
+    @Test
+    void given_TypePageCached_when_VehicleUpdated_then_ListUpdatedVehicle(){
+        VehicleDto savedVehicle = this.service.save(this.dtoBuilder.getVehicle(EnumVehicleType.MOTORCYCLE));
+        this.listByType(EnumVehicleType.MOTORCYCLE);
+
+        savedVehicle.setColor("Azul");
+        this.service.update(savedVehicle);
+        ResponsePageDto<VehicleDto> page = this.listByType(EnumVehicleType.MOTORCYCLE);
+
+        assertThat(page.getListContent())
+                .filteredOn(vehicle -> vehicle.getId().equals(savedVehicle.getId()))
+                .extracting(VehicleDto::getColor)
+                .containsExactly("Azul");
+        assertThat(this.service.findById(savedVehicle.getId()).getColor()).isEqualTo("Azul");
+    }
+
+    /**
+     * A single-vehicle write is a bulk statement, an entity region would be emptied by each one
+     */
+    @Test
+    void given_VehicleSaved_when_FoundByIdAndUpdated_then_NoEntityIsCached(){
+        VehicleDto savedVehicle = this.service.save(this.dtoBuilder.getCarPostDto());
+        long putsBefore = this.statistics.getSecondLevelCachePutCount();
+
+        this.service.findById(savedVehicle.getId());
+        savedVehicle.setColor("Verde");
+        this.service.update(savedVehicle);
+
+        assertThat(this.service.findById(savedVehicle.getId()).getColor()).isEqualTo("Verde");
+        assertThat(this.statistics.getSecondLevelCachePutCount()).isEqualTo(putsBefore);
+    }
+
+    @Test
+    void given_TypePageCached_when_VehicleIngested_then_ListIngestedVehicle() throws InterruptedException {
+        this.listByType(EnumVehicleType.TRUCK);
+
+        UUID acceptedId = this.ingestionService.accept(this.dtoBuilder.getVehicle(EnumVehicleType.TRUCK)).getId();
+        this.awaitCommitted(acceptedId);
+
+        assertThat(this.listByType(EnumVehicleType.TRUCK).getListContent())
+                .extracting(VehicleDto::getId)
+                .contains(acceptedId);
+    }
+
+    private ResponsePageDto<VehicleDto> listByType(EnumVehicleType type){
+        return this.service.findAllByType(type, 0, PAGE_SIZE, EnumPageTotals.EXACT);
+    }
+
+    private void awaitCommitted(UUID id) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + STATUS_TIMEOUT_MILLIS;
+        while (this.ingestionService.status(id).getStatus() == EnumIngestionStatus.PENDING
+                && System.currentTimeMillis() < deadline){
+            Thread.sleep(20);
+        }
+        assertThat(this.ingestionService.status(id).getStatus()).isEqualTo(EnumIngestionStatus.COMMITTED);
+    }
+}
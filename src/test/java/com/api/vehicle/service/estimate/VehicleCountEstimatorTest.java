@@ -0,0 +1,91 @@
+package com.api.vehicle.service.estimate;
+
+import com.api.vehicle.config.properties.PageProperties;
+import com.api.vehicle.repository.VehicleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.dao.InvalidDataAccessResourceUsageException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.test.context.aot.DisabledInAotMode;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@DisabledInAotMode
+@SpringBootTest
+class VehicleCountEstimatorTest {
+
+    @MockBean
+    private VehicleRepository mockVehicleRepository;
+
+    private VehicleCountEstimator estimator;
+
+    @BeforeEach
+    void setUp(){
+        PageProperties properties = new PageProperties();
+        properties.setEstimatedCountTtl(Duration.ofHours(1));
+        this.estimator = new VehicleCountEstimator(this.mockVehicleRepository, properties, true);
+    }
+
+    @Test
+    void given_TableStatistics_when_EstimateAll_then_ReturnStatisticsWithoutCounting(){
+        when(this.mockVehicleRepository.estimateRowsFromStatistics()).thenReturn(40_000_000L);
+
+        assertThat(this.estimator.estimateAll()).isEqualTo(40_000_000L);
+        verify(this.mockVehicleRepository, never()).count();
+    }
+
+    @Test
+    void given_DatabaseIsNotPostgreSQL_when_EstimateAll_then_ReturnCountWithoutAskingForStatistics(){
+        when(this.mockVehicleRepository.count()).thenReturn(3L);
+
+        VehicleCountEstimator estimator = new VehicleCountEstimator(this.mockVehicleRepository, noCacheProperties(), false);
+
+        assertThat(estimator.estimateAll()).isEqualTo(3L);
+        verify(this.mockVehicleRepository, never()).estimateRowsFromStatistics();
+    }
+
+    @Test
+    void given_StatisticsReadFailsOnce_when_EstimateAllAfterTtl_then_ReadStatisticsAgain(){
+        when(this.mockVehicleRepository.estimateRowsFromStatistics())
+                .thenThrow(QueryTimeoutException.class)
+                .thenReturn(40_000_000L);
+        when(this.mockVehicleRepository.count()).thenReturn(3L);
+
+        VehicleCountEstimator estimator = new VehicleCountEstimator(this.mockVehicleRepository, noCacheProperties(), true);
+
+        assertThat(estimator.estimateAll()).isEqualTo(3L);
+        assertThat(estimator.estimateAll()).isEqualTo(40_000_000L);
+        verify(this.mockVehicleRepository, times(1)).count();
+    }
+
+    @Test
+    void given_StatisticsReadFailed_when_EstimateAllWithinTtl_then_ReturnCachedCount(){
+        when(this.mockVehicleRepository.estimateRowsFromStatistics())
+                .thenThrow(InvalidDataAccessResourceUsageException.class);
+        when(this.mockVehicleRepository.count()).thenReturn(3L);
+
+        assertThat(this.estimator.estimateAll()).isEqualTo(3L);
+        assertThat(this.estimator.estimateAll()).isEqualTo(3L);
+        verify(this.mockVehicleRepository, times(1)).estimateRowsFromStatistics();
+    }
+
+    @Test
+    void given_CountAlreadyCached_when_EstimateByType_then_ReturnCachedCount(){
+        when(this.mockVehicleRepository.countByType(1)).thenReturn(5L, 6L);
+
+        assertThat(this.estimator.estimateByType(1)).isEqualTo(5L);
+        assertThat(this.estimator.estimateByType(1)).isEqualTo(5L);
+        verify(this.mockVehicleRepository, times(1)).countByType(1);
+    }
+
+    private static PageProperties noCacheProperties(){
+        PageProperties properties = new PageProperties();
+        properties.setEstimatedCountTtl(Duration.ZERO);
+        return properties;
+    }
+}
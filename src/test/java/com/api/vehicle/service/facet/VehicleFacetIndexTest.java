@@ -0,0 +1,121 @@
+package com.api.vehicle.service.facet;
+
+import com.api.vehicle.model.dto.facet.VehicleFacetsDto;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+class VehicleFacetIndexTest {
+
+    private static final String[] BRANDS = {"Honda", "Ford", "Fiat", "Chevrolet"};
+    private static final String[] COLORS = {"Vermelho", "Preto", "Branco"};
+
+    private final VehicleFacetIndex index = new VehicleFacetIndex();
+
+    @Test
+    void given_IndexedVehicles_when_CountWithFilters_then_CountOnlyVehiclesMatchingAll(){
+        this.index.put(UUID.randomUUID(), 2, "Honda", "Vermelho");
+        this.index.put(UUID.randomUUID(), 2, "Honda", "Vermelho");
+        this.index.put(UUID.randomUUID(), 2, "Honda", "Preto");
+        this.index.put(UUID.randomUUID(), 1, "Honda", "Vermelho");
+        this.index.put(UUID.randomUUID(), 1, "Ford", "Vermelho");
+
+        VehicleFacetsDto facets = this.index.count(2, "Honda", "Vermelho");
+
+        assertThat(facets.getTotal()).isEqualTo(2);
+        assertThat(facets.getType()).containsExactly(entry(2, 2L));
+        assertThat(facets.getBrand()).containsExactly(entry("Honda", 2L));
+        assertThat(facets.getColor()).containsExactly(entry("Vermelho", 2L));
+    }
+
+    @Test
+    void given_NoFilter_when_Count_then_CountEveryVehicleByValueMostFrequentFirst(){
+        this.index.put(UUID.randomUUID(), 1, "Ford", "Preto");
+        this.index.put(UUID.randomUUID(), 1, "Honda", "Preto");
+        this.index.put(UUID.randomUUID(), 2, "Honda", "Branco");
+
+        VehicleFacetsDto facets = this.index.count(null, null, null);
+
+        assertThat(facets.getTotal()).isEqualTo(3);
+        assertThat(facets.getType()).containsExactly(entry(1, 2L), entry(2, 1L));
+        assertThat(facets.getBrand()).containsExactly(entry("Honda", 2L), entry("Ford", 1L));
+        assertThat(facets.getColor()).containsExactly(entry("Preto", 2L), entry("Branco", 1L));
+    }
+
+    @Test
+    void given_IndexedVehicle_when_PutWithOtherValues_then_CountItOnlyWithNewValues(){
+        UUID id = UUID.randomUUID();
+        this.index.put(id, 1, "Ford", "Preto");
+
+        this.index.put(id, 2, "Fiat", "Branco");
+
+        VehicleFacetsDto facets = this.index.count(null, null, null);
+        assertThat(facets.getTotal()).isEqualTo(1);
+        assertThat(facets.getType()).containsExactly(entry(2, 1L));
+        assertThat(facets.getBrand()).containsExactly(entry("Fiat", 1L));
+        assertThat(facets.getColor()).containsExactly(entry("Branco", 1L));
+    }
+
+    @Test
+    void given_RemovedVehicle_when_CountByItsValue_then_CountNothing(){
+        UUID id = UUID.randomUUID();
+        this.index.put(id, 1, "Ford", "Preto");
+
+        this.index.remove(id);
+        this.index.remove(UUID.randomUUID());
+
+        VehicleFacetsDto facets = this.index.count(null, "Ford", null);
+        assertThat(facets.getTotal()).isZero();
+        assertThat(facets.getBrand()).isEmpty();
+        assertThat(this.index.size()).isZero();
+    }
+
+    @Test
+    void given_UnknownValue_when_CountByIt_then_CountNothing(){
+        this.index.put(UUID.randomUUID(), 1, "Ford", "Preto");
+
+        assertThat(this.index.count(1, "Volvo", null).getTotal()).isZero();
+        assertThat(this.index.count(3, null, null).getTotal()).isZero();
+    }
+
+    /**
+     * Enough vehicles to grow the ordinal table several times, with removals in between that shift the probe
+     * sequences back and free ordinals given again to the next vehicles
+     */
+    @Test
+    void given_ManyRandomPutsAndRemovals_when_Count_then_MatchCountsOfTheSameVehiclesInAMap(){
+        SplittableRandom random = new SplittableRandom(42);
+        Map<UUID, String> brandById = new HashMap<>();
+        List<UUID> ids = new ArrayList<>();
+
+        for(int i = 0; i < 50_000; i++){
+            if(!ids.isEmpty() && random.nextInt(3) == 0){
+                UUID removedId = ids.remove(random.nextInt(ids.size()));
+                brandById.remove(removedId);
+                this.index.remove(removedId);
+            } else {
+                UUID id = random.nextInt(5) == 0 && !ids.isEmpty() ? ids.get(random.nextInt(ids.size())) : UUID.randomUUID();
+                String brand = BRANDS[random.nextInt(BRANDS.length)];
+                if(brandById.put(id, brand) == null){
+                    ids.add(id);
+                }
+                this.index.put(id, 1, brand, COLORS[random.nextInt(COLORS.length)]);
+            }
+        }
+
+        Map<String, Long> expectedCounts = new HashMap<>();
+        brandById.values().forEach(brand -> expectedCounts.merge(brand, 1L, Long::sum));
+        VehicleFacetsDto facets = this.index.count(null, null, null);
+        assertThat(this.index.size()).isEqualTo(brandById.size());
+        assertThat(facets.getTotal()).isEqualTo(brandById.size());
+        assertThat(facets.getBrand()).containsExactlyInAnyOrderEntriesOf(expectedCounts);
+    }
+}
@@ -0,0 +1,113 @@
+package com.api.vehicle.service.ingestion;
+
+import com.api.vehicle.builder.dto.VehicleDtoBuilder;
+import com.api.vehicle.model.dto.VehicleDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.channels.ClosedChannelException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class VehicleIngestionJournalTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final VehicleDtoBuilder dtoBuilder = new VehicleDtoBuilder();
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void given_VehiclesNotCompleted_when_ReplayAfterRestart_then_ReturnThemInOrder() throws IOException {
+        VehicleIngestionJournal journal = this.openJournal(1024 * 1024);
+        VehicleDto first = this.dtoBuilder.getCarDto(UUID.randomUUID());
+        VehicleDto second = this.dtoBuilder.getCarDto(UUID.randomUUID());
+        journal.append(first);
+        journal.append(second);
+        journal.close();
+
+        List<VehicleIngestionJournal.Entry> entries = this.openJournal(1024 * 1024).replay();
+
+        assertThat(entries).extracting(VehicleIngestionJournal.Entry::vehicle).usingRecursiveFieldByFieldElementComparator()
+                .containsExactly(first, second);
+    }
+
+    @Test
+    void given_EveryVehicleCompleted_when_Close_then_DeleteSegment() throws IOException {
+        VehicleIngestionJournal journal = this.openJournal(1024 * 1024);
+        journal.complete(journal.append(this.dtoBuilder.getCarDto(UUID.randomUUID())));
+
+        journal.close();
+
+        assertThat(this.segmentFiles()).isEmpty();
+    }
+
+    @Test
+    void given_SegmentsFull_when_EveryVehicleOfSealedSegmentCompletes_then_DeleteSegment() throws IOException {
+        VehicleIngestionJournal journal = this.openJournal(1);
+
+        VehicleIngestionJournal.Segment firstSegment = journal.append(this.dtoBuilder.getCarDto(UUID.randomUUID()));
+        journal.append(this.dtoBuilder.getCarDto(UUID.randomUUID()));
+        assertThat(this.segmentFiles()).hasSize(2);
+
+        journal.complete(firstSegment);
+        assertThat(this.segmentFiles()).hasSize(1);
+        journal.close();
+        assertThat(this.segmentFiles()).hasSize(1);
+    }
+
+    @Test
+    void given_JournalClosed_when_Append_then_ThrowUntilReplayedAgain() throws IOException {
+        VehicleIngestionJournal journal = this.openJournal(1024 * 1024);
+        VehicleDto journaled = this.dtoBuilder.getCarDto(UUID.randomUUID());
+        journal.append(journaled);
+        journal.close();
+
+        assertThatThrownBy(() -> journal.append(this.dtoBuilder.getCarDto(UUID.randomUUID())))
+                .isInstanceOf(ClosedChannelException.class);
+        assertThat(this.segmentFiles()).hasSize(1);
+
+        assertThat(journal.replay()).extracting(entry -> entry.vehicle().getId()).containsExactly(journaled.getId());
+        journal.append(this.dtoBuilder.getCarDto(UUID.randomUUID()));
+        assertThat(this.segmentFiles()).hasSize(2);
+    }
+
+    @Test
+    void given_LineCutShortByCrash_when_Replay_then_SkipItAndKeepAppendingToNewSegment() throws IOException {
+        VehicleIngestionJournal journal = this.openJournal(1024 * 1024);
+        VehicleDto vehicle = this.dtoBuilder.getCarDto(UUID.randomUUID());
+        journal.append(vehicle);
+        journal.close();
+        try (Stream<Path> files = Files.list(this.directory)){
+            Files.writeString(files.findFirst().orElseThrow(), "{\"id\":\"", StandardCharsets.UTF_8,
+                    StandardOpenOption.APPEND);
+        }
+
+        VehicleIngestionJournal reopened = this.openJournal(1024 * 1024);
+        List<VehicleIngestionJournal.Entry> entries = reopened.replay();
+        reopened.append(this.dtoBuilder.getCarDto(UUID.randomUUID()));
+
+        assertThat(entries).extracting(entry -> entry.vehicle().getId()).containsExactly(vehicle.getId());
+        assertThat(this.segmentFiles()).hasSize(2);
+    }
+
+    private VehicleIngestionJournal openJournal(long segmentSize) {
+        return new VehicleIngestionJournal(this.directory, segmentSize, false, this.objectMapper);
+    }
+
+    private List<Path> segmentFiles() throws IOException {
+        try (Stream<Path> files = Files.list(this.directory)){
+            return files.toList();
+        }
+    }
+}